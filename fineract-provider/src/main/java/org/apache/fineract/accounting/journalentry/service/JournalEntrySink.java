@@ -0,0 +1,202 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryRepository;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Collects the debit and credit legs produced by the accounting processors and writes them with a single JDBC batch
+ * insert instead of one JPA insert (and identity round trip) per leg.
+ *
+ * Legs are buffered for the current transaction. The buffer is written when {@link #flush()} is called, at the latest
+ * right before the transaction commits. Accounting transaction ids of the buffer whose debits and credits do not balance
+ * are logged, the legs are written regardless like through JPA. Without an active transaction each leg is saved straight
+ * away.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JournalEntrySink {
+
+    private static final String INSERT_SQL = "INSERT INTO acc_gl_journal_entry(account_id, office_id, reversal_id, currency_code, "
+            + "transaction_id, loan_transaction_id, savings_transaction_id, client_transaction_id, reversed, ref_num, manual_entry, "
+            + "entry_date, type_enum, amount, description, entity_type_enum, entity_id, created_on_utc, last_modified_on_utc, "
+            + "is_running_balance_calculated, office_running_balance, organization_running_balance, payment_details_id, "
+            + "share_transaction_id, created_by, last_modified_by, submitted_on_date) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JournalEntryRepository journalEntryRepository;
+    private final AuditorAware<Long> auditorAware;
+    private final ThreadLocal<Integer> deferredFlushDepth = ThreadLocal.withInitial(() -> 0);
+
+    public void add(final JournalEntry journalEntry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.journalEntryRepository.saveAndFlush(journalEntry);
+            return;
+        }
+        currentBuffer().add(journalEntry);
+    }
+
+    /**
+     * Writes all legs buffered for the current transaction, unless flushes are currently deferred by
+     * {@link #deferFlushes(Supplier)}.
+     */
+    public void flush() {
+        if (this.deferredFlushDepth.get() > 0) {
+            return;
+        }
+        writeBuffer();
+    }
+
+    /**
+     * Runs the work with {@link #flush()} postponed and writes everything it buffered afterwards, so that a command
+     * posting to many accounts (like a collection sheet) writes its legs with one batch insert. Legs of the same work
+     * are therefore not visible to JPA queries until the work has finished.
+     */
+    public <T> T deferFlushes(final Supplier<T> work) {
+        final int depth = this.deferredFlushDepth.get();
+        this.deferredFlushDepth.set(depth + 1);
+        final T result;
+        try {
+            result = work.get();
+        } finally {
+            if (depth == 0) {
+                this.deferredFlushDepth.remove();
+            } else {
+                this.deferredFlushDepth.set(depth);
+            }
+        }
+        flush();
+        return result;
+    }
+
+    private void writeBuffer() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        final List<JournalEntry> buffer = (List<JournalEntry>) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null || buffer.isEmpty()) {
+            return;
+        }
+        final List<JournalEntry> journalEntries = new ArrayList<>(buffer);
+        buffer.clear();
+
+        logUnbalanced(journalEntries);
+        write(journalEntries);
+    }
+
+    static void logUnbalanced(final List<JournalEntry> journalEntries) {
+        final Map<String, BigDecimal> balances = new LinkedHashMap<>();
+        final Map<String, JournalEntry> firstLegs = new LinkedHashMap<>();
+        for (final JournalEntry journalEntry : journalEntries) {
+            final String key = journalEntry.getTransactionId() + "|" + journalEntry.getCurrencyCode();
+            final BigDecimal signedAmount = journalEntry.isDebitEntry() ? journalEntry.getAmount() : journalEntry.getAmount().negate();
+            balances.merge(key, signedAmount, BigDecimal::add);
+            firstLegs.putIfAbsent(key, journalEntry);
+        }
+        for (final Map.Entry<String, BigDecimal> balance : balances.entrySet()) {
+            if (balance.getValue().compareTo(BigDecimal.ZERO) != 0) {
+                final JournalEntry journalEntry = firstLegs.get(balance.getKey());
+                log.warn("Unbalanced journal entry legs for transaction {} ({}): debits minus credits is {}",
+                        journalEntry.getTransactionId(), journalEntry.getCurrencyCode(), balance.getValue());
+            }
+        }
+    }
+
+    private void write(final List<JournalEntry> journalEntries) {
+        final Long userId = this.auditorAware.getCurrentAuditor().orElse(null);
+        final OffsetDateTime now = DateUtils.getOffsetDateTimeOfTenant();
+        final List<Object[]> params = new ArrayList<>(journalEntries.size());
+        for (final JournalEntry journalEntry : journalEntries) {
+            params.add(new Object[] { journalEntry.getGlAccount().getId(), journalEntry.getOffice().getId(), null,
+                    journalEntry.getCurrencyCode(), journalEntry.getTransactionId(),
+                    journalEntry.getLoanTransaction() == null ? null : journalEntry.getLoanTransaction().getId(),
+                    journalEntry.getSavingsTransaction() == null ? null : journalEntry.getSavingsTransaction().getId(),
+                    journalEntry.getClientTransaction() == null ? null : journalEntry.getClientTransaction().getId(),
+                    journalEntry.isReversed(), journalEntry.getReferenceNumber(), false, journalEntry.getTransactionDate(),
+                    journalEntry.getType(), journalEntry.getAmount(), journalEntry.getDescription(), journalEntry.getEntityType(),
+                    journalEntry.getEntityId(), now, now, false, BigDecimal.ZERO, BigDecimal.ZERO,
+                    journalEntry.getPaymentDetails() == null ? null : journalEntry.getPaymentDetails().getId(),
+                    journalEntry.getShareTransactionId(), userId, userId, journalEntry.getSubmittedOnDate() });
+        }
+        this.jdbcTemplate.batchUpdate(INSERT_SQL, params);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<JournalEntry> currentBuffer() {
+        List<JournalEntry> buffer = (List<JournalEntry>) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new BufferSynchronization(buffer));
+        }
+        return buffer;
+    }
+
+    /**
+     * Keeps the buffer bound to its own transaction: it is hidden while a nested transaction runs and written right
+     * before the owning transaction commits.
+     */
+    private final class BufferSynchronization implements TransactionSynchronization {
+
+        private final List<JournalEntry> buffer;
+
+        private BufferSynchronization(final List<JournalEntry> buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(JournalEntrySink.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(JournalEntrySink.this, this.buffer);
+        }
+
+        @Override
+        public void beforeCommit(final boolean readOnly) {
+            writeBuffer();
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(JournalEntrySink.this);
+        }
+    }
+}
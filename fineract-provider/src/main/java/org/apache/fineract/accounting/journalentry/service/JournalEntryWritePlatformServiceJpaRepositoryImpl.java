@@ -107,6 +107,7 @@ public class JournalEntryWritePlatformServiceJpaRepositoryImpl implements Journa
     private final PaymentDetailWritePlatformService paymentDetailWritePlatformService;
     private final FinancialActivityAccountRepositoryWrapper financialActivityAccountRepositoryWrapper;
     private final CashBasedAccountingProcessorForClientTransactions accountingProcessorForClientTransactions;
+    private final JournalEntrySink journalEntrySink;
 
     @Transactional
     @Override
@@ -435,6 +436,7 @@ public class JournalEntryWritePlatformServiceJpaRepositoryImpl implements Journa
             createJournalEntry(provisioningEntry.getCreatedDate(), provisioningEntry.getId(), key.office, key.currency, liabilityMap,
                     expenseMap);
         }
+        this.journalEntrySink.flush();
         return "P" + provisioningEntry.getId();
     }
 
@@ -478,7 +480,8 @@ public class JournalEntryWritePlatformServiceJpaRepositoryImpl implements Journa
                     upfrontAccrualBasedAccountingEnabled, periodicAccrualBasedAccountingEnabled);
             final AccountingProcessorForLoan accountingProcessorForLoan = this.accountingProcessorForLoanFactory
                     .determineProcessor(loanDTO);
-            accountingProcessorForLoan.createJournalEntriesForLoan(loanDTO);
+            this.helper.withLoanAccountMappingsCached(() -> accountingProcessorForLoan.createJournalEntriesForLoan(loanDTO));
+            this.journalEntrySink.flush();
         }
     }
 
@@ -495,6 +498,7 @@ public class JournalEntryWritePlatformServiceJpaRepositoryImpl implements Journa
             final AccountingProcessorForSavings accountingProcessorForSavings = this.accountingProcessorForSavingsFactory
                     .determineProcessor(savingsDTO);
             accountingProcessorForSavings.createJournalEntriesForSavings(savingsDTO);
+            this.journalEntrySink.flush();
         }
     }
 
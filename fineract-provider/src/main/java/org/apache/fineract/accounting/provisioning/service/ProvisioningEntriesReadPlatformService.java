@@ -27,6 +27,10 @@ import org.apache.fineract.infrastructure.core.service.SearchParameters;
 
 public interface ProvisioningEntriesReadPlatformService {
 
+    /**
+     * Returns the outstanding balance of the active loans to provision for at the given date, summed up in the database
+     * per office, loan product, currency, provisioning criteria and category, days overdue and GL accounts.
+     */
     Collection<LoanProductProvisioningEntryData> retrieveLoanProductsProvisioningData(LocalDate date);
 
     ProvisioningEntryData retrieveProvisioningEntryData(Long entryId);
@@ -64,7 +64,8 @@ public class ProvisioningEntriesReadPlatformServiceImpl implements ProvisioningE
         private final StringBuilder sqlQuery;
 
         private LoanProductProvisioningEntryMapper(DatabaseSpecificSQLGenerator sqlGenerator) {
-            sqlQuery = new StringBuilder().append(
+            // one row per loan, summed up below per provisioning entry line so that only the aggregates leave the database
+            final StringBuilder loanQuery = new StringBuilder().append(
                     "select (CASE WHEN loan.loan_type_enum=1 THEN mclient.office_id ELSE mgroup.office_id END) as office_id, loan.loan_type_enum, pcd.criteria_id as criteriaid, loan.product_id,loan.currency_code,")
                     .append("GREATEST(" + sqlGenerator.dateDiff("?", "sch.duedate")
                             + ", 0) as numberofdaysoverdue,sch.duedate, pcd.category_id, pcd.provision_percentage,")
@@ -78,6 +79,11 @@ public class ProvisioningEntriesReadPlatformServiceImpl implements ProvisioningE
                     .append("LEFT JOIN m_group mgroup ON mgroup.id = loan.group_id ")
                     .append("where loan.loan_status_id=300 and sch.duedate = ")
                     .append("(select MIN(sch1.duedate) from m_loan_repayment_schedule sch1 where sch1.loan_id=loan.id and sch1.completed_derived=false)");
+            final String groupColumns = "office_id, criteriaid, product_id, currency_code, numberofdaysoverdue, category_id, "
+                    + "provision_percentage, liability_account, expense_account";
+            sqlQuery = new StringBuilder().append("select ").append(groupColumns)
+                    .append(", SUM(outstandingbalance) as outstandingbalance from (").append(loanQuery).append(") loanprovisioning")
+                    .append(" group by ").append(groupColumns);
         }
 
         @Override
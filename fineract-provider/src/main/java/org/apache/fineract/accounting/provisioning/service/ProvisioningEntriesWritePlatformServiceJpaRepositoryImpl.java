@@ -23,6 +23,7 @@ import java.time.LocalDate;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.accounting.glaccount.domain.GLAccount;
@@ -178,13 +179,22 @@ public class ProvisioningEntriesWritePlatformServiceJpaRepositoryImpl implements
     private Collection<LoanProductProvisioningEntry> generateLoanProvisioningEntry(ProvisioningEntry parent, LocalDate date) {
         Collection<LoanProductProvisioningEntryData> entries = this.provisioningEntriesReadPlatformService
                 .retrieveLoanProductsProvisioningData(date);
+        // the rows are already aggregated, so each referenced entity is looked up once instead of once per loan
+        Map<Long, LoanProduct> loanProducts = new HashMap<>();
+        Map<Long, Office> offices = new HashMap<>();
+        Map<Long, Optional<ProvisioningCategory>> provisioningCategories = new HashMap<>();
+        Map<Long, GLAccount> glAccounts = new HashMap<>();
         Map<Integer, LoanProductProvisioningEntry> provisioningEntries = new HashMap<>();
         for (LoanProductProvisioningEntryData data : entries) {
-            LoanProduct loanProduct = this.loanProductRepository.findById(data.getProductId()).orElseThrow();
-            Office office = this.officeRepositoryWrapper.findOneWithNotFoundDetection(data.getOfficeId());
-            ProvisioningCategory provisioningCategory = provisioningCategoryRepository.findById(data.getCategoryId()).orElse(null);
-            GLAccount liabilityAccount = glAccountRepository.findById(data.getLiablityAccount()).orElseThrow();
-            GLAccount expenseAccount = glAccountRepository.findById(data.getExpenseAccount()).orElseThrow();
+            LoanProduct loanProduct = loanProducts.computeIfAbsent(data.getProductId(),
+                    id -> this.loanProductRepository.findById(id).orElseThrow());
+            Office office = offices.computeIfAbsent(data.getOfficeId(), this.officeRepositoryWrapper::findOneWithNotFoundDetection);
+            ProvisioningCategory provisioningCategory = provisioningCategories
+                    .computeIfAbsent(data.getCategoryId(), this.provisioningCategoryRepository::findById).orElse(null);
+            GLAccount liabilityAccount = glAccounts.computeIfAbsent(data.getLiablityAccount(),
+                    id -> this.glAccountRepository.findById(id).orElseThrow());
+            GLAccount expenseAccount = glAccounts.computeIfAbsent(data.getExpenseAccount(),
+                    id -> this.glAccountRepository.findById(id).orElseThrow());
             MonetaryCurrency currency = loanProduct.getPrincipalAmount().getCurrency();
             Money money = Money.of(currency, data.getBalance());
             Money amountToReserve = money.percentageOf(data.getPercentage(), MoneyHelper.getRoundingMode());
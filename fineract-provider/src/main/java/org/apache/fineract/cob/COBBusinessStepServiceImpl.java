@@ -27,6 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.cob.domain.BatchBusinessStep;
 import org.apache.fineract.cob.domain.BatchBusinessStepRepository;
 import org.apache.fineract.cob.exceptions.BusinessStepException;
+import org.apache.fineract.cob.service.COBExecutionMetrics;
 import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
 import org.apache.fineract.infrastructure.core.domain.ActionContext;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -45,6 +46,7 @@ public class COBBusinessStepServiceImpl implements COBBusinessStepService {
     private final ApplicationContext applicationContext;
     private final ListableBeanFactory beanFactory;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final COBExecutionMetrics cobExecutionMetrics;
 
     @Override
     public <T extends COBBusinessStep<S>, S extends AbstractPersistableCustom> S run(TreeMap<Long, String> executionMap, S item) {
@@ -56,13 +58,17 @@ public class COBBusinessStepServiceImpl implements COBBusinessStepService {
             businessEventNotifierService.startExternalEventRecording();
 
             for (String businessStep : executionMap.values()) {
+                long startNanos = System.nanoTime();
+                boolean failed = true;
                 try {
                     ThreadLocalContextUtil.setActionContext(ActionContext.COB);
                     COBBusinessStep<S> businessStepBean = (COBBusinessStep<S>) applicationContext.getBean(businessStep);
                     item = businessStepBean.execute(item);
+                    failed = false;
                 } catch (Exception e) {
                     throw new BusinessStepException("Error happened during business step execution", e);
                 } finally {
+                    cobExecutionMetrics.recordBusinessStep(businessStep, System.nanoTime() - startNanos, failed);
                     // Fallback to COB action context after each business step
                     ThreadLocalContextUtil.setActionContext(ActionContext.COB);
                 }
@@ -0,0 +1,94 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.UriInfo;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.accounting.journalentry.api.DateParam;
+import org.apache.fineract.cob.data.COBExecutionSummaryData;
+import org.apache.fineract.cob.service.COBExecutionSummaryService;
+import org.apache.fineract.infrastructure.core.api.ApiRequestParameterHelper;
+import org.apache.fineract.infrastructure.core.serialization.ApiRequestJsonSerializationSettings;
+import org.apache.fineract.infrastructure.core.serialization.DefaultToApiJsonSerializer;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.springframework.stereotype.Component;
+
+@Path("/jobs")
+@Component
+@Tag(name = "COB Execution Summary", description = "")
+@RequiredArgsConstructor
+public class COBExecutionSummaryApiResource {
+
+    private static final Set<String> COB_EXECUTION_SUMMARY_RESPONSE_DATA_PARAMETERS = new HashSet<>(
+            Arrays.asList("id", "jobExecutionId", "jobName", "partitionName", "businessDate", "startedAt", "finishedAt", "processedCount",
+                    "skippedCount", "failedCount", "writeTimeMs", "businessSteps", "slowestItems"));
+
+    private final COBExecutionSummaryService cobExecutionSummaryService;
+    private final ApiRequestParameterHelper apiRequestParameterHelper;
+    private final DefaultToApiJsonSerializer<COBExecutionSummaryData> cobExecutionSummarySerializeService;
+
+    @GET
+    @Path("{jobName}/execution-summaries")
+    @Consumes({ MediaType.APPLICATION_JSON })
+    @Produces({ MediaType.APPLICATION_JSON })
+    @Operation(summary = "List COB execution summaries", description = "Returns the per partition execution summaries of a COB job "
+            + "(e.g. LOAN_COB): item counts, business step timings and the slowest items. Filtered by job execution id or business "
+            + "date (yyyy-MM-dd); without filter the most recent summaries are returned, at most 500. Summaries are kept for "
+            + "fineract.cob-execution-summary.retention-days business days.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(array = @ArraySchema(schema = @Schema(implementation = COBExecutionSummaryApiResourceSwagger.GetCOBExecutionSummaryResponse.class)))) })
+    public String retrieveExecutionSummaries(@Context final UriInfo uriInfo,
+            @PathParam("jobName") @Parameter(description = "jobName") final String jobName,
+            @QueryParam("jobExecutionId") @Parameter(description = "jobExecutionId") final Long jobExecutionId,
+            @QueryParam("businessDate") @Parameter(description = "businessDate") final DateParam businessDateParam,
+            @QueryParam("limit") @DefaultValue("50") @Parameter(description = "limit") final int limit) {
+
+        LocalDate businessDate = null;
+        if (businessDateParam != null) {
+            businessDate = businessDateParam.getDate("businessDate", DateUtils.DEFAULT_DATE_FORMAT, "en");
+        }
+        List<COBExecutionSummaryData> summaries = cobExecutionSummaryService.retrieveSummaries(jobName, jobExecutionId, businessDate,
+                limit);
+
+        final ApiRequestJsonSerializationSettings settings = apiRequestParameterHelper.process(uriInfo.getQueryParameters());
+        return cobExecutionSummarySerializeService.serialize(settings, summaries, COB_EXECUTION_SUMMARY_RESPONSE_DATA_PARAMETERS);
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.api;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+final class COBExecutionSummaryApiResourceSwagger {
+
+    private COBExecutionSummaryApiResourceSwagger() {
+
+    }
+
+    @Schema(description = "GetCOBExecutionSummaryResponse")
+    public static final class GetCOBExecutionSummaryResponse {
+
+        private GetCOBExecutionSummaryResponse() {}
+
+        static final class GetCOBExecutionStepSummary {
+
+            private GetCOBExecutionStepSummary() {}
+
+            @Schema(example = "setLoanDelinquencyTagsBusinessStep")
+            public String businessStep;
+            @Schema(example = "1000")
+            public Long executionCount;
+            @Schema(example = "0")
+            public Long failureCount;
+            @Schema(example = "5230")
+            public Long totalTimeMs;
+            @Schema(example = "48")
+            public Long maxTimeMs;
+        }
+
+        static final class GetCOBExecutionSlowItem {
+
+            private GetCOBExecutionSlowItem() {}
+
+            @Schema(example = "1234")
+            public Long itemId;
+            @Schema(example = "48")
+            public Long durationMs;
+        }
+
+        @Schema(example = "1")
+        public Long id;
+        @Schema(example = "12")
+        public Long jobExecutionId;
+        @Schema(example = "LOAN_COB")
+        public String jobName;
+        @Schema(example = "partition_1")
+        public String partitionName;
+        public LocalDate businessDate;
+        public OffsetDateTime startedAt;
+        public OffsetDateTime finishedAt;
+        @Schema(example = "998")
+        public Long processedCount;
+        @Schema(example = "0")
+        public Long skippedCount;
+        @Schema(example = "2")
+        public Long failedCount;
+        @Schema(example = "1200")
+        public Long writeTimeMs;
+        public List<GetCOBExecutionStepSummary> businessSteps;
+        public List<GetCOBExecutionSlowItem> slowestItems;
+    }
+}
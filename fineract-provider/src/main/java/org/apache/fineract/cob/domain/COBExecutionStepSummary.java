@@ -0,0 +1,64 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
+
+@Entity
+@Table(name = "m_cob_execution_step_summary")
+@NoArgsConstructor
+@Getter
+public class COBExecutionStepSummary extends AbstractPersistableCustom {
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "summary_id", nullable = false)
+    private COBExecutionSummary summary;
+
+    @Column(name = "business_step", nullable = false)
+    private String businessStep;
+
+    @Column(name = "execution_count", nullable = false)
+    private Long executionCount;
+
+    @Column(name = "failure_count", nullable = false)
+    private Long failureCount;
+
+    @Column(name = "total_time_ms", nullable = false)
+    private Long totalTimeMs;
+
+    @Column(name = "max_time_ms", nullable = false)
+    private Long maxTimeMs;
+
+    COBExecutionStepSummary(COBExecutionSummary summary, String businessStep, Long executionCount, Long failureCount, Long totalTimeMs,
+            Long maxTimeMs) {
+        this.summary = summary;
+        this.businessStep = businessStep;
+        this.executionCount = executionCount;
+        this.failureCount = failureCount;
+        this.totalTimeMs = totalTimeMs;
+        this.maxTimeMs = maxTimeMs;
+    }
+}
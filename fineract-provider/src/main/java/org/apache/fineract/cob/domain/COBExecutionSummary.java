@@ -0,0 +1,105 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.domain;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.CascadeType;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
+
+/**
+ * Summary of the execution of one partition of a COB job run.
+ */
+@Entity
+@Table(name = "m_cob_execution_summary")
+@NoArgsConstructor
+@Getter
+public class COBExecutionSummary extends AbstractPersistableCustom {
+
+    @Column(name = "job_execution_id", nullable = false)
+    private Long jobExecutionId;
+
+    @Column(name = "job_name", nullable = false)
+    private String jobName;
+
+    @Column(name = "partition_name")
+    private String partitionName;
+
+    @Column(name = "business_date")
+    private LocalDate businessDate;
+
+    @Column(name = "started_at", nullable = false)
+    private OffsetDateTime startedAt;
+
+    @Column(name = "finished_at", nullable = false)
+    private OffsetDateTime finishedAt;
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount;
+
+    @Column(name = "skipped_count", nullable = false)
+    private Long skippedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private Long failedCount;
+
+    @Column(name = "write_time_ms", nullable = false)
+    private Long writeTimeMs;
+
+    @OrderBy("totalTimeMs DESC")
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "summary", orphanRemoval = true, fetch = FetchType.LAZY)
+    private List<COBExecutionStepSummary> businessSteps = new ArrayList<>();
+
+    @OrderBy("durationMs DESC")
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "summary", orphanRemoval = true, fetch = FetchType.LAZY)
+    private List<COBExecutionSlowItem> slowestItems = new ArrayList<>();
+
+    public COBExecutionSummary(Long jobExecutionId, String jobName, String partitionName, LocalDate businessDate,
+            OffsetDateTime startedAt, OffsetDateTime finishedAt, Long processedCount, Long skippedCount, Long failedCount,
+            Long writeTimeMs) {
+        this.jobExecutionId = jobExecutionId;
+        this.jobName = jobName;
+        this.partitionName = partitionName;
+        this.businessDate = businessDate;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.processedCount = processedCount;
+        this.skippedCount = skippedCount;
+        this.failedCount = failedCount;
+        this.writeTimeMs = writeTimeMs;
+    }
+
+    public void addBusinessStep(String businessStep, Long executionCount, Long failureCount, Long totalTimeMs, Long maxTimeMs) {
+        this.businessSteps.add(new COBExecutionStepSummary(this, businessStep, executionCount, failureCount, totalTimeMs, maxTimeMs));
+    }
+
+    public void addSlowItem(Long itemId, Long durationMs) {
+        this.slowestItems.add(new COBExecutionSlowItem(this, itemId, durationMs));
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface COBExecutionSummaryRepository extends JpaRepository<COBExecutionSummary, Long> {
+
+    List<COBExecutionSummary> findAllByJobNameAndJobExecutionIdOrderByPartitionName(String jobName, Long jobExecutionId);
+
+    List<COBExecutionSummary> findAllByJobNameAndBusinessDateOrderByJobExecutionIdDescPartitionName(String jobName, LocalDate businessDate);
+
+    List<COBExecutionSummary> findAllByJobNameOrderByIdDesc(String jobName, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from COBExecutionStepSummary s where s.summary.id in (select e.id from COBExecutionSummary e"
+            + " where e.jobName = :jobName and e.businessDate < :businessDate)")
+    void deleteStepSummariesOfBusinessDateBefore(String jobName, LocalDate businessDate);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from COBExecutionSlowItem s where s.summary.id in (select e.id from COBExecutionSummary e"
+            + " where e.jobName = :jobName and e.businessDate < :businessDate)")
+    void deleteSlowItemsOfBusinessDateBefore(String jobName, LocalDate businessDate);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from COBExecutionSummary e where e.jobName = :jobName and e.businessDate < :businessDate")
+    int deleteAllByJobNameAndBusinessDateBefore(String jobName, LocalDate businessDate);
+}
@@ -0,0 +1,152 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.listener;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.domain.COBExecutionSummary;
+import org.apache.fineract.cob.domain.COBExecutionSummaryRepository;
+import org.apache.fineract.cob.loan.LoanCOBConstant;
+import org.apache.fineract.cob.service.COBExecutionMetrics;
+import org.apache.fineract.cob.service.COBPartitionStatistics;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterProcess;
+import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.annotation.AfterWrite;
+import org.springframework.batch.core.annotation.BeforeProcess;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.core.annotation.BeforeWrite;
+import org.springframework.batch.core.annotation.OnProcessError;
+import org.springframework.batch.core.annotation.OnWriteError;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * Profiles the chunk processing of a Loan COB partition and persists its summary when the partition is finished.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class COBExecutionSummaryListener {
+
+    private final COBExecutionMetrics cobExecutionMetrics;
+    private final COBExecutionSummaryRepository cobExecutionSummaryRepository;
+    private final String jobName;
+
+    private Long writeStartNanos;
+
+    @BeforeStep
+    public void beforeStep(@NotNull StepExecution stepExecution) {
+        cobExecutionMetrics.startPartition(jobName);
+    }
+
+    @BeforeProcess
+    public void beforeProcess(@NotNull Loan item) {
+        cobExecutionMetrics.startItem();
+    }
+
+    @AfterProcess
+    public void afterProcess(@NotNull Loan item, Loan result) {
+        cobExecutionMetrics.finishItem(item.getId());
+    }
+
+    @OnProcessError
+    public void onProcessError(@NotNull Loan item, Exception e) {
+        cobExecutionMetrics.finishItem(item.getId());
+    }
+
+    @BeforeWrite
+    public void beforeWrite(@NotNull List<? extends Loan> items) {
+        writeStartNanos = System.nanoTime();
+    }
+
+    @AfterWrite
+    public void afterWrite(@NotNull List<? extends Loan> items) {
+        recordWrite();
+    }
+
+    @OnWriteError
+    public void onWriteError(Exception e, @NotNull List<? extends Loan> items) {
+        recordWrite();
+    }
+
+    @AfterStep
+    public ExitStatus afterStep(@NotNull StepExecution stepExecution) {
+        COBPartitionStatistics statistics = cobExecutionMetrics.finishPartition();
+        ExecutionContext jobExecutionContext = stepExecution.getJobExecution().getExecutionContext();
+        long processedCount = stepExecution.getWriteCount();
+        long skippedCount = countAlreadyLockedOrProcessedLoans(stepExecution);
+        long failedCount = stepExecution.getSkipCount();
+        cobExecutionMetrics.countItems(jobName, COBExecutionMetrics.OUTCOME_PROCESSED, processedCount);
+        cobExecutionMetrics.countItems(jobName, COBExecutionMetrics.OUTCOME_SKIPPED, skippedCount);
+        cobExecutionMetrics.countItems(jobName, COBExecutionMetrics.OUTCOME_FAILED, failedCount);
+        if (statistics == null) {
+            return null;
+        }
+        try {
+            String businessDate = (String) jobExecutionContext.get(LoanCOBConstant.BUSINESS_DATE_PARAMETER_NAME);
+            String partitionName = stepExecution.getExecutionContext().getString("partition", null);
+            COBExecutionSummary summary = new COBExecutionSummary(stepExecution.getJobExecutionId(), jobName, partitionName,
+                    businessDate == null ? null : LocalDate.parse(businessDate),
+                    statistics.getStartedAt(), DateUtils.getOffsetDateTimeOfTenant(), processedCount, skippedCount, failedCount,
+                    toMillis(statistics.getWriteNanos()));
+            statistics.getBusinessSteps()
+                    .forEach((businessStep, stepStatistics) -> summary.addBusinessStep(businessStep, stepStatistics.getExecutionCount(),
+                            stepStatistics.getFailureCount(), toMillis(stepStatistics.getTotalNanos()),
+                            toMillis(stepStatistics.getMaxNanos())));
+            statistics.getSlowestItems().forEach(itemTime -> summary.addSlowItem(itemTime.getItemId(), toMillis(itemTime.getNanos())));
+            cobExecutionSummaryRepository.save(summary);
+        } catch (RuntimeException e) {
+            // The summary is diagnostic only; failing to persist it must not fail the partition
+            log.warn("Persisting the execution summary of {} (step execution id={}) failed", jobName, stepExecution.getId(), e);
+        }
+        return null;
+    }
+
+    private static long countAlreadyLockedOrProcessedLoans(StepExecution stepExecution) {
+        // the list in the job execution context is shared by all partitions, only the loans of this partition are counted
+        Collection<?> partitionLoanIds = (Collection<?>) stepExecution.getExecutionContext().get(LoanCOBConstant.LOAN_IDS);
+        Collection<?> alreadyLockedOrProcessedLoanIds = (Collection<?>) stepExecution.getJobExecution().getExecutionContext()
+                .get(LoanCOBConstant.ALREADY_LOCKED_BY_INLINE_COB_OR_PROCESSED_LOAN_IDS);
+        if (partitionLoanIds == null || alreadyLockedOrProcessedLoanIds == null) {
+            return 0;
+        }
+        Set<?> alreadyLockedOrProcessed = new HashSet<>(alreadyLockedOrProcessedLoanIds);
+        return partitionLoanIds.stream().filter(alreadyLockedOrProcessed::contains).count();
+    }
+
+    private void recordWrite() {
+        if (writeStartNanos != null) {
+            cobExecutionMetrics.recordWrite(jobName, System.nanoTime() - writeStartNanos);
+            writeStartNanos = null;
+        }
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.listener;
+
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.loan.LoanCOBConstant;
+import org.apache.fineract.cob.service.COBExecutionSummaryService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes the execution summaries of Loan COB runs for business dates older than
+ * <code>fineract.cob-execution-summary.retention-days</code> once a run is finished, so that
+ * <code>m_cob_execution_summary</code> does not grow without bound. A retention of 0 keeps all summaries.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class COBExecutionSummaryPurgeListener implements FineractCOBAfterJobListener {
+
+    private final COBExecutionSummaryService cobExecutionSummaryService;
+    private final FineractProperties fineractProperties;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        FineractProperties.FineractCobExecutionSummaryProperties properties = fineractProperties.getCobExecutionSummary();
+        int retentionDays = properties == null ? 0 : properties.getRetentionDays();
+        if (retentionDays <= 0) {
+            return;
+        }
+        try {
+            String businessDate = (String) jobExecution.getExecutionContext().get(LoanCOBConstant.BUSINESS_DATE_PARAMETER_NAME);
+            LocalDate purgeBefore = (businessDate == null ? DateUtils.getBusinessLocalDate() : LocalDate.parse(businessDate))
+                    .minusDays(retentionDays);
+            int purged = cobExecutionSummaryService.purgeSummaries(getJobName(), purgeBefore);
+            log.debug("Purged {} execution summaries of {} before {}", purged, getJobName(), purgeBefore);
+        } catch (RuntimeException e) {
+            // The summaries are diagnostic only; failing to purge them must not fail the job
+            log.warn("Purging the execution summaries of {} failed", getJobName(), e);
+        }
+    }
+
+    @Override
+    public String getJobName() {
+        return JobName.LOAN_COB.name();
+    }
+}
@@ -20,9 +20,12 @@ package org.apache.fineract.cob.loan;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +37,7 @@ import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.annotation.AfterStep;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemProcessor;
+import org.springframework.util.CollectionUtils;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -41,19 +45,44 @@ public abstract class AbstractLoanItemProcessor implements ItemProcessor<Loan, L
 
     private final COBBusinessStepService cobBusinessStepService;
 
+    @Getter(AccessLevel.PROTECTED)
     @Setter(AccessLevel.PROTECTED)
     private ExecutionContext executionContext;
+    @Setter(AccessLevel.PROTECTED)
+    private Map<String, Set<Long>> applicableLoanIds;
+    @Getter(AccessLevel.PROTECTED)
     private LocalDate businessDate;
 
     @Override
     public Loan process(@NotNull Loan item) throws Exception {
         TreeMap<Long, String> businessStepMap = (TreeMap<Long, String>) executionContext.get(LoanCOBConstant.BUSINESS_STEP_MAP);
 
-        Loan alreadyProcessedLoan = cobBusinessStepService.run(businessStepMap, item);
+        TreeMap<Long, String> applicableBusinessSteps = getApplicableBusinessSteps(businessStepMap, item.getId());
+        Loan alreadyProcessedLoan = item;
+        if (!CollectionUtils.isEmpty(businessStepMap) && applicableBusinessSteps.isEmpty()) {
+            // none of the business steps applies, the writer only closes the business date and releases the lock
+            log.debug("No business step applies to loan {}", item.getId());
+        } else {
+            alreadyProcessedLoan = cobBusinessStepService.run(applicableBusinessSteps, item);
+        }
         alreadyProcessedLoan.setLastClosedBusinessDate(businessDate);
         return alreadyProcessedLoan;
     }
 
+    /**
+     * Drops the business steps which, according to their applicability filter evaluated for the partition, do not have
+     * to be executed for the loan.
+     */
+    private TreeMap<Long, String> getApplicableBusinessSteps(TreeMap<Long, String> businessStepMap, Long loanId) {
+        if (businessStepMap == null || applicableLoanIds == null || applicableLoanIds.isEmpty()) {
+            return businessStepMap;
+        }
+        TreeMap<Long, String> applicableBusinessSteps = new TreeMap<>(businessStepMap);
+        applicableBusinessSteps.values().removeIf(businessStep -> applicableLoanIds.containsKey(businessStep)
+                && !applicableLoanIds.get(businessStep).contains(loanId));
+        return applicableBusinessSteps;
+    }
+
     @AfterStep
     public ExitStatus afterStep(@NotNull StepExecution stepExecution) {
         return ExitStatus.COMPLETED;
@@ -18,10 +18,17 @@
  */
 package org.apache.fineract.cob.loan;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import lombok.AccessLevel;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.cob.exceptions.LoanAccountWasAlreadyLockedOrProcessed;
 import org.apache.fineract.cob.exceptions.LoanReadException;
@@ -33,28 +40,42 @@ import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.annotation.AfterStep;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * Reads the loans of a COB partition. Instead of loading every loan separately, the reader prefetches the next chunk of
+ * loans together with their repayment schedule, transactions and charges in one query per collection. The prefetched
+ * loans are only kept until the current chunk transaction completes, so the processor never receives a detached loan.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public abstract class AbstractLoanItemReader implements ItemReader<Loan> {
 
     private final LoanRepository loanRepository;
+    private final int prefetchSize;
 
-    @Setter(AccessLevel.PROTECTED)
-    private List<Long> alreadyLockedOrProcessedAccounts;
-    @Setter(AccessLevel.PROTECTED)
-    private List<Long> remainingData;
+    private Set<Long> alreadyLockedOrProcessedAccounts = new HashSet<>();
+    private Deque<Long> remainingData = new ArrayDeque<>();
+    private final Map<Long, Loan> prefetchedLoans = new HashMap<>();
     private Long loanId;
 
     @Override
     public Loan read() throws Exception {
         try {
-            if (remainingData.size() > 0) {
-                loanId = remainingData.remove(0);
-                if (alreadyLockedOrProcessedAccounts != null && alreadyLockedOrProcessedAccounts.remove(loanId)) {
+            if (!remainingData.isEmpty()) {
+                loanId = remainingData.poll();
+                if (alreadyLockedOrProcessedAccounts.remove(loanId)) {
                     throw new LoanAccountWasAlreadyLockedOrProcessed(loanId);
                 }
-                return loanRepository.findById(loanId).orElseThrow(() -> new LoanNotFoundException(loanId));
+                if (!prefetchedLoans.containsKey(loanId)) {
+                    prefetch(loanId);
+                }
+                final Loan loan = prefetchedLoans.remove(loanId);
+                if (loan == null) {
+                    throw new LoanNotFoundException(loanId);
+                }
+                return loan;
             }
         } catch (Exception e) {
             throw new LoanReadException(loanId, e);
@@ -68,4 +89,44 @@ public abstract class AbstractLoanItemReader implements ItemReader<Loan> {
         return ExitStatus.COMPLETED;
     }
 
+    protected void setAlreadyLockedOrProcessedAccounts(Collection<Long> alreadyLockedOrProcessedAccounts) {
+        this.alreadyLockedOrProcessedAccounts = alreadyLockedOrProcessedAccounts == null ? new HashSet<>()
+                : new HashSet<>(alreadyLockedOrProcessedAccounts);
+    }
+
+    protected void setRemainingData(Collection<Long> remainingData) {
+        this.remainingData = new ArrayDeque<>(remainingData);
+        this.prefetchedLoans.clear();
+    }
+
+    private void prefetch(Long firstLoanId) {
+        final List<Long> loanIds = new ArrayList<>(prefetchSize);
+        loanIds.add(firstLoanId);
+        final Iterator<Long> iterator = remainingData.iterator();
+        while (loanIds.size() < prefetchSize && iterator.hasNext()) {
+            final Long nextLoanId = iterator.next();
+            if (!alreadyLockedOrProcessedAccounts.contains(nextLoanId)) {
+                loanIds.add(nextLoanId);
+            }
+        }
+
+        prefetchedLoans.clear();
+        for (Loan loan : loanRepository.findAllByIdWithRepaymentSchedule(loanIds)) {
+            prefetchedLoans.put(loan.getId(), loan);
+        }
+        // the loans are already managed, these queries only initialize their collections
+        loanRepository.findAllByIdWithTransactions(loanIds);
+        loanRepository.findAllByIdWithCharges(loanIds);
+        log.debug("Prefetched {} of {} loans starting from loan {}", prefetchedLoans.size(), loanIds.size(), firstLoanId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+                    prefetchedLoans.clear();
+                }
+            });
+        }
+    }
 }
@@ -18,8 +18,13 @@
  */
 package org.apache.fineract.cob.loan;
 
+import java.time.LocalDate;
 import java.util.Collection;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.portfolio.charge.domain.ChargeAppliesTo;
+import org.apache.fineract.portfolio.charge.domain.ChargeTimeType;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.data.OverdueLoanScheduleData;
 import org.apache.fineract.portfolio.loanaccount.service.LoanChargeWritePlatformService;
@@ -32,6 +37,7 @@ public class ApplyChargeToOverdueLoansBusinessStep implements LoanCOBBusinessSte
 
     private final LoanReadPlatformService loanReadPlatformService;
     private final LoanChargeWritePlatformService loanChargeWritePlatformService;
+    private final ConfigurationDomainService configurationDomainService;
 
     @Override
     public Loan execute(Loan loan) {
@@ -42,6 +48,20 @@ public class ApplyChargeToOverdueLoansBusinessStep implements LoanCOBBusinessSte
         return loan;
     }
 
+    @Override
+    public LoanCOBApplicabilityFilter getApplicabilityFilter(LocalDate businessDate) {
+        final LocalDate penaltyDueDate = businessDate.minusDays(configurationDomainService.retrievePenaltyWaitPeriod());
+        final String dueDateCondition = configurationDomainService.isBackdatePenaltiesEnabled() ? "rs.duedate <= :penaltyDueDate"
+                : "rs.duedate = :penaltyDueDate";
+        return new LoanCOBApplicabilityFilter("exists (select 1 from m_product_loan_charge plc join m_charge c on c.id = plc.charge_id"
+                + " where plc.product_loan_id = loan.product_id and c.charge_time_enum = :chargeTimeType"
+                + " and c.charge_applies_to_enum = :chargeAppliesTo) and exists (select 1 from m_loan_repayment_schedule rs"
+                + " where rs.loan_id = loan.id and rs.completed_derived = false and rs.recalculated_interest_component = false and "
+                + dueDateCondition + ")",
+                Map.of("penaltyDueDate", penaltyDueDate, "chargeTimeType", ChargeTimeType.OVERDUE_INSTALLMENT.getValue(),
+                        "chargeAppliesTo", ChargeAppliesTo.LOAN.getValue()));
+    }
+
     @Override
     public String getEnumStyledName() {
         return "APPLY_CHARGE_TO_OVERDUE_LOANS";
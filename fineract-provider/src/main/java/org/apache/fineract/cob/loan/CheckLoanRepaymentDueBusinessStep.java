@@ -20,6 +20,7 @@ package org.apache.fineract.cob.loan;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -51,6 +52,14 @@ public class CheckLoanRepaymentDueBusinessStep implements LoanCOBBusinessStep {
         return loan;
     }
 
+    @Override
+    public LoanCOBApplicabilityFilter getApplicabilityFilter(LocalDate businessDate) {
+        Long numberOfDaysBeforeDueDateToRaiseEvent = configurationDomainService.retrieveRepaymentDueDays();
+        return new LoanCOBApplicabilityFilter(
+                "exists (select 1 from m_loan_repayment_schedule rs where rs.loan_id = loan.id and rs.duedate = :dueDate)",
+                Map.of("dueDate", businessDate.plusDays(numberOfDaysBeforeDueDateToRaiseEvent)));
+    }
+
     @Override
     public String getEnumStyledName() {
         return "CHECK_LOAN_REPAYMENT_DUE";
@@ -20,6 +20,7 @@ package org.apache.fineract.cob.loan;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -53,6 +54,14 @@ public class CheckLoanRepaymentOverdueBusinessStep implements LoanCOBBusinessSte
         return loan;
     }
 
+    @Override
+    public LoanCOBApplicabilityFilter getApplicabilityFilter(LocalDate businessDate) {
+        Long numberOfDaysAfterDueDateToRaiseEvent = configurationDomainService.retrieveRepaymentOverdueDays();
+        return new LoanCOBApplicabilityFilter("exists (select 1 from m_loan_repayment_schedule rs where rs.loan_id = loan.id"
+                + " and rs.completed_derived = false and rs.duedate = :dueDate)",
+                Map.of("dueDate", businessDate.minusDays(numberOfDaysAfterDueDateToRaiseEvent)));
+    }
+
     @Override
     public String getEnumStyledName() {
         return "CHECK_LOAN_REPAYMENT_OVERDUE";
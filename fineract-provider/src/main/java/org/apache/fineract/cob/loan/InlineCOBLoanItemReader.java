@@ -18,7 +18,6 @@
  */
 package org.apache.fineract.cob.loan;
 
-import java.util.ArrayList;
 import java.util.List;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
 import org.jetbrains.annotations.NotNull;
@@ -28,8 +27,8 @@ import org.springframework.batch.item.ExecutionContext;
 
 public class InlineCOBLoanItemReader extends AbstractLoanItemReader {
 
-    public InlineCOBLoanItemReader(LoanRepository loanRepository) {
-        super(loanRepository);
+    public InlineCOBLoanItemReader(LoanRepository loanRepository, int prefetchSize) {
+        super(loanRepository, prefetchSize);
     }
 
     @BeforeStep
@@ -37,6 +36,6 @@ public class InlineCOBLoanItemReader extends AbstractLoanItemReader {
     public void beforeStep(@NotNull StepExecution stepExecution) {
         ExecutionContext executionContext = stepExecution.getJobExecution().getExecutionContext();
         List<Long> loanIds = (List<Long>) executionContext.get(LoanCOBConstant.LOAN_IDS);
-        setRemainingData(new ArrayList<>(loanIds));
+        setRemainingData(loanIds);
     }
 }
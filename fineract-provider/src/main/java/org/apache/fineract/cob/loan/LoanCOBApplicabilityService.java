@@ -0,0 +1,88 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import com.google.common.collect.Lists;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evaluates the applicability filters of the Loan COB business steps with set based queries, so that loans can be
+ * routed to the steps they need without loading them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoanCOBApplicabilityService {
+
+    private final ApplicationContext applicationContext;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Returns the ids of the given loans each business step has to be executed for, keyed by the business step bean
+     * name. Steps without applicability filter are not part of the result, they have to be executed for every loan.
+     * The filters are evaluated over loan id ranges of at most {@code batchSize} loans.
+     */
+    public Map<String, Set<Long>> findApplicableLoanIds(TreeMap<Long, String> businessStepMap, List<Long> loanIds,
+            LocalDate businessDate, int batchSize) {
+        Map<String, Set<Long>> applicableLoanIds = new LinkedHashMap<>();
+        List<Long> sortedLoanIds = loanIds.stream().sorted().toList();
+        for (String businessStep : businessStepMap.values()) {
+            Object businessStepBean = applicationContext.getBean(businessStep);
+            if (!(businessStepBean instanceof LoanCOBBusinessStep)) {
+                continue;
+            }
+            LoanCOBApplicabilityFilter filter = ((LoanCOBBusinessStep) businessStepBean).getApplicabilityFilter(businessDate);
+            if (filter != null) {
+                Set<Long> loanIdsOfStep = findApplicableLoanIds(filter, sortedLoanIds, batchSize);
+                log.debug("Business step {} applies to {} of {} loans", businessStep, loanIdsOfStep.size(), loanIds.size());
+                applicableLoanIds.put(businessStep, loanIdsOfStep);
+            }
+        }
+        return applicableLoanIds;
+    }
+
+    private Set<Long> findApplicableLoanIds(LoanCOBApplicabilityFilter filter, List<Long> sortedLoanIds, int batchSize) {
+        String sql = "select loan.id from m_loan loan where loan.id between :fromLoanId and :toLoanId and (" + filter.getPredicate()
+                + ")";
+        Set<Long> applicableLoanIds = new HashSet<>();
+        for (List<Long> batch : Lists.partition(sortedLoanIds, batchSize)) {
+            Map<String, Object> params = new HashMap<>(filter.getParameters());
+            params.put("fromLoanId", batch.get(0));
+            params.put("toLoanId", batch.get(batch.size() - 1));
+            Set<Long> batchLoanIds = new HashSet<>(batch);
+            List<Long> matchingLoanIds = new ArrayList<>(namedParameterJdbcTemplate.queryForList(sql, params, Long.class));
+            matchingLoanIds.retainAll(batchLoanIds);
+            applicableLoanIds.addAll(matchingLoanIds);
+        }
+        return applicableLoanIds;
+    }
+}
@@ -18,9 +18,18 @@
  */
 package org.apache.fineract.cob.loan;
 
+import java.time.LocalDate;
 import org.apache.fineract.cob.COBBusinessStep;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 
 public interface LoanCOBBusinessStep extends COBBusinessStep<Loan> {
 
+    /**
+     * Returns the filter selecting the loans this step has to be executed for on the given business date, or
+     * {@code null} when the step has to be executed for every loan. Loans not matching the filter are not handed to
+     * {@link #execute(Object)} during the Loan COB job.
+     */
+    default LoanCOBApplicabilityFilter getApplicabilityFilter(LocalDate businessDate) {
+        return null;
+    }
 }
@@ -21,8 +21,11 @@ package org.apache.fineract.cob.loan;
 import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.common.InitialisationTasklet;
 import org.apache.fineract.cob.common.ResetContextTasklet;
+import org.apache.fineract.cob.domain.COBExecutionSummaryRepository;
 import org.apache.fineract.cob.domain.LoanAccountLockRepository;
+import org.apache.fineract.cob.listener.COBExecutionSummaryListener;
 import org.apache.fineract.cob.listener.ChunkProcessingLoanItemListener;
+import org.apache.fineract.cob.service.COBExecutionMetrics;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
@@ -66,6 +69,12 @@ public class LoanCOBWorkerConfiguration {
     private AppUserRepositoryWrapper userRepository;
     @Autowired
     private TransactionTemplate transactionTemplate;
+    @Autowired
+    private COBExecutionMetrics cobExecutionMetrics;
+    @Autowired
+    private COBExecutionSummaryRepository cobExecutionSummaryRepository;
+    @Autowired
+    private LoanCOBApplicabilityService loanCOBApplicabilityService;
 
     @Bean(name = LoanCOBConstant.LOAN_COB_WORKER_STEP)
     public Step loanCOBWorkerStep() {
@@ -91,7 +100,7 @@ public class LoanCOBWorkerConfiguration {
                 .<Loan, Loan>chunk(propertyService.getChunkSize(JobName.LOAN_COB.name())).reader(cobWorkerItemReader())
                 .processor(cobWorkerItemProcessor()).writer(cobWorkerItemWriter()).faultTolerant().skip(Exception.class)
                 .skipLimit(propertyService.getChunkSize(JobName.LOAN_COB.name()) + 1).listener(loanItemListener())
-                .listener(promotionListener()).build();
+                .listener(cobExecutionSummaryListener()).listener(promotionListener()).build();
     }
 
     @Bean
@@ -116,6 +125,12 @@ public class LoanCOBWorkerConfiguration {
         return new ChunkProcessingLoanItemListener(accountLockRepository, transactionTemplate);
     }
 
+    @Bean
+    @StepScope
+    public COBExecutionSummaryListener cobExecutionSummaryListener() {
+        return new COBExecutionSummaryListener(cobExecutionMetrics, cobExecutionSummaryRepository, LoanCOBConstant.JOB_NAME);
+    }
+
     @Bean
     public ApplyLoanLockTasklet applyLock() {
         return new ApplyLoanLockTasklet(accountLockRepository);
@@ -129,13 +144,13 @@ public class LoanCOBWorkerConfiguration {
     @Bean
     @StepScope
     public LoanItemReader cobWorkerItemReader() {
-        return new LoanItemReader(loanRepository);
+        return new LoanItemReader(loanRepository, propertyService.getChunkSize(JobName.LOAN_COB.name()));
     }
 
     @Bean
     @StepScope
     public LoanItemProcessor cobWorkerItemProcessor() {
-        return new LoanItemProcessor(cobBusinessStepService);
+        return new LoanItemProcessor(cobBusinessStepService, loanCOBApplicabilityService);
     }
 
     @Bean
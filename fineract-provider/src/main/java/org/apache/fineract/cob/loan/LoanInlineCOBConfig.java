@@ -88,7 +88,7 @@ public class LoanInlineCOBConfig {
 
     @Bean
     public InlineCOBLoanItemReader inlineCobWorkerItemReader() {
-        return new InlineCOBLoanItemReader(loanRepository);
+        return new InlineCOBLoanItemReader(loanRepository, propertyService.getChunkSize(JobName.LOAN_COB.name()));
     }
 
     @Bean
@@ -18,19 +18,33 @@
  */
 package org.apache.fineract.cob.loan;
 
+import java.util.List;
+import java.util.TreeMap;
 import org.apache.fineract.cob.COBBusinessStepService;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.util.CollectionUtils;
 
 public class LoanItemProcessor extends AbstractLoanItemProcessor {
 
-    public LoanItemProcessor(COBBusinessStepService cobBusinessStepService) {
+    private final LoanCOBApplicabilityService loanCOBApplicabilityService;
+
+    public LoanItemProcessor(COBBusinessStepService cobBusinessStepService, LoanCOBApplicabilityService loanCOBApplicabilityService) {
         super(cobBusinessStepService);
+        this.loanCOBApplicabilityService = loanCOBApplicabilityService;
     }
 
     @BeforeStep
+    @SuppressWarnings({ "unchecked" })
     public void beforeStep(StepExecution stepExecution) {
         setExecutionContext(stepExecution.getExecutionContext());
         setBusinessDate(stepExecution);
+        TreeMap<Long, String> businessStepMap = (TreeMap<Long, String>) getExecutionContext().get(LoanCOBConstant.BUSINESS_STEP_MAP);
+        List<Long> loanIds = (List<Long>) getExecutionContext().get(LoanCOBConstant.LOAN_IDS);
+        if (businessStepMap != null && !CollectionUtils.isEmpty(loanIds)) {
+            // Business steps are executed with the day after the closed business date as business date
+            setApplicableLoanIds(loanCOBApplicabilityService.findApplicableLoanIds(businessStepMap, loanIds, getBusinessDate().plusDays(1),
+                    loanIds.size()));
+        }
     }
 }
@@ -18,7 +18,6 @@
  */
 package org.apache.fineract.cob.loan;
 
-import java.util.ArrayList;
 import java.util.List;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
 import org.jetbrains.annotations.NotNull;
@@ -28,8 +27,8 @@ import org.springframework.batch.item.ExecutionContext;
 
 public class LoanItemReader extends AbstractLoanItemReader {
 
-    public LoanItemReader(LoanRepository loanRepository) {
-        super(loanRepository);
+    public LoanItemReader(LoanRepository loanRepository, int prefetchSize) {
+        super(loanRepository, prefetchSize);
     }
 
     @BeforeStep
@@ -41,6 +40,6 @@ public class LoanItemReader extends AbstractLoanItemReader {
         List<Long> loanIds = (List<Long>) executionContext.get(LoanCOBConstant.LOAN_IDS);
         setAlreadyLockedOrProcessedAccounts(
                 (List<Long>) jobExecutionContext.get(LoanCOBConstant.ALREADY_LOCKED_BY_INLINE_COB_OR_PROCESSED_LOAN_IDS));
-        setRemainingData(new ArrayList<>(loanIds));
+        setRemainingData(loanIds);
     }
 }
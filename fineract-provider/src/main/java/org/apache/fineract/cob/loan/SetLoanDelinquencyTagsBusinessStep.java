@@ -18,6 +18,8 @@
  */
 package org.apache.fineract.cob.loan;
 
+import java.time.LocalDate;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -39,6 +41,18 @@ public class SetLoanDelinquencyTagsBusinessStep implements LoanCOBBusinessStep {
         return loan;
     }
 
+    /**
+     * Only loans with an unpaid installment due before the business date or with an active delinquency tag can get a
+     * delinquency tag applied, changed or lifted.
+     */
+    @Override
+    public LoanCOBApplicabilityFilter getApplicabilityFilter(LocalDate businessDate) {
+        return new LoanCOBApplicabilityFilter("exists (select 1 from m_loan_repayment_schedule rs where rs.loan_id = loan.id"
+                + " and rs.completed_derived = false and rs.duedate < :businessDate) or exists (select 1 from"
+                + " m_loan_delinquency_tag_history th where th.loan_id = loan.id and th.liftedon_date is null)",
+                Map.of("businessDate", businessDate));
+    }
+
     @Override
     public String getEnumStyledName() {
         return "LOAN_DELINQUENCY_CLASSIFICATION";
@@ -0,0 +1,122 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Micrometer instrumentation of the COB jobs; published through the actuator <code>metrics</code> (and, when exposed,
+ * <code>prometheus</code>) endpoints.
+ *
+ * <ul>
+ * <li><code>fineract.cob.business_step</code>: timer per business step and outcome</li>
+ * <li><code>fineract.cob.item</code>: timer of the processing of one item (loan) per job</li>
+ * <li><code>fineract.cob.write</code>: timer of writing a chunk, including the release of its locks, per job</li>
+ * <li><code>fineract.cob.items</code>: counter of processed, skipped and failed items per job</li>
+ * </ul>
+ *
+ * Besides, while a partition is processed on the current thread (between {@link #startPartition(String)} and
+ * {@link #finishPartition()}), the measurements are also collected into the {@link COBPartitionStatistics} of the
+ * partition.
+ */
+@Component
+@RequiredArgsConstructor
+public class COBExecutionMetrics {
+
+    public static final String BUSINESS_STEP_TIMER = "fineract.cob.business_step";
+    public static final String ITEM_TIMER = "fineract.cob.item";
+    public static final String WRITE_TIMER = "fineract.cob.write";
+    public static final String ITEM_COUNTER = "fineract.cob.items";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+    public static final String OUTCOME_PROCESSED = "processed";
+    public static final String OUTCOME_SKIPPED = "skipped";
+    public static final String OUTCOME_FAILED = "failed";
+
+    private static final int SLOWEST_ITEM_SAMPLE_SIZE = 10;
+    private static final ThreadLocal<COBPartitionStatistics> PARTITION_STATISTICS = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    public void startPartition(String jobName) {
+        PARTITION_STATISTICS.set(new COBPartitionStatistics(jobName, SLOWEST_ITEM_SAMPLE_SIZE));
+    }
+
+    /**
+     * Returns the statistics of the partition processed on the current thread and stops collecting them, or
+     * {@code null} when no partition was started.
+     */
+    public COBPartitionStatistics finishPartition() {
+        COBPartitionStatistics statistics = PARTITION_STATISTICS.get();
+        PARTITION_STATISTICS.remove();
+        return statistics;
+    }
+
+    public void recordBusinessStep(String businessStep, long nanos, boolean failed) {
+        Timer.builder(BUSINESS_STEP_TIMER).description("Execution time of COB business steps")
+                .tags(Tags.of("step", businessStep, "outcome", failed ? OUTCOME_FAILURE : OUTCOME_SUCCESS)).publishPercentileHistogram()
+                .register(meterRegistry).record(nanos, TimeUnit.NANOSECONDS);
+        COBPartitionStatistics statistics = PARTITION_STATISTICS.get();
+        if (statistics != null) {
+            statistics.recordBusinessStep(businessStep, nanos, failed);
+        }
+    }
+
+    public void startItem() {
+        COBPartitionStatistics statistics = PARTITION_STATISTICS.get();
+        if (statistics != null) {
+            statistics.startItem(System.nanoTime());
+        }
+    }
+
+    public void finishItem(Long itemId) {
+        COBPartitionStatistics statistics = PARTITION_STATISTICS.get();
+        if (statistics == null) {
+            return;
+        }
+        Long nanos = statistics.finishItem(itemId, System.nanoTime());
+        if (nanos != null) {
+            Timer.builder(ITEM_TIMER).description("Processing time of one item by a COB job").tags(Tags.of("job", statistics.getJobName()))
+                    .publishPercentileHistogram().register(meterRegistry).record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordWrite(String jobName, long nanos) {
+        Timer.builder(WRITE_TIMER).description("Time of writing a COB chunk and releasing its locks").tags(Tags.of("job", jobName))
+                .register(meterRegistry).record(nanos, TimeUnit.NANOSECONDS);
+        COBPartitionStatistics statistics = PARTITION_STATISTICS.get();
+        if (statistics != null) {
+            statistics.recordWrite(nanos);
+        }
+    }
+
+    public void countItems(String jobName, String outcome, long count) {
+        if (count > 0) {
+            Counter.builder(ITEM_COUNTER).description("Number of items handled by COB jobs")
+                    .tags(Tags.of("job", jobName, "outcome", outcome)).register(meterRegistry).increment(count);
+        }
+    }
+}
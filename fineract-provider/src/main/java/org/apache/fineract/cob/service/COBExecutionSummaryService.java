@@ -0,0 +1,37 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.cob.data.COBExecutionSummaryData;
+
+public interface COBExecutionSummaryService {
+
+    /**
+     * Returns the partition summaries of a job run, of the runs for a business date or, when neither is given, the most
+     * recent ones up to the limit (at most 500).
+     */
+    List<COBExecutionSummaryData> retrieveSummaries(String jobName, Long jobExecutionId, LocalDate businessDate, int limit);
+
+    /**
+     * Deletes the summaries of the job for business dates before the given one and returns how many were deleted.
+     */
+    int purgeSummaries(String jobName, LocalDate businessDateBefore);
+}
@@ -0,0 +1,87 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.cob.data.COBExecutionSlowItemData;
+import org.apache.fineract.cob.data.COBExecutionStepSummaryData;
+import org.apache.fineract.cob.data.COBExecutionSummaryData;
+import org.apache.fineract.cob.domain.COBExecutionSummary;
+import org.apache.fineract.cob.domain.COBExecutionSummaryRepository;
+import org.apache.fineract.infrastructure.core.data.DataValidatorBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class COBExecutionSummaryServiceImpl implements COBExecutionSummaryService {
+
+    static final int MAX_LIMIT = 500;
+
+    private final COBExecutionSummaryRepository cobExecutionSummaryRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<COBExecutionSummaryData> retrieveSummaries(String jobName, Long jobExecutionId, LocalDate businessDate, int limit) {
+        new DataValidatorBuilder(new ArrayList<>()).resource("cobExecutionSummary").parameter("limit").value(limit).integerGreaterThanZero()
+                .throwValidationErrors();
+        List<COBExecutionSummary> summaries;
+        if (jobExecutionId != null) {
+            summaries = cobExecutionSummaryRepository.findAllByJobNameAndJobExecutionIdOrderByPartitionName(jobName, jobExecutionId);
+        } else if (businessDate != null) {
+            summaries = cobExecutionSummaryRepository.findAllByJobNameAndBusinessDateOrderByJobExecutionIdDescPartitionName(jobName,
+                    businessDate);
+        } else {
+            summaries = cobExecutionSummaryRepository.findAllByJobNameOrderByIdDesc(jobName, PageRequest.of(0, Math.min(limit, MAX_LIMIT)));
+        }
+        return summaries.stream().map(this::toData).toList();
+    }
+
+    @Override
+    @Transactional
+    public int purgeSummaries(String jobName, LocalDate businessDateBefore) {
+        cobExecutionSummaryRepository.deleteStepSummariesOfBusinessDateBefore(jobName, businessDateBefore);
+        cobExecutionSummaryRepository.deleteSlowItemsOfBusinessDateBefore(jobName, businessDateBefore);
+        return cobExecutionSummaryRepository.deleteAllByJobNameAndBusinessDateBefore(jobName, businessDateBefore);
+    }
+
+    private COBExecutionSummaryData toData(COBExecutionSummary summary) {
+        COBExecutionSummaryData data = new COBExecutionSummaryData();
+        data.setId(summary.getId());
+        data.setJobExecutionId(summary.getJobExecutionId());
+        data.setJobName(summary.getJobName());
+        data.setPartitionName(summary.getPartitionName());
+        data.setBusinessDate(summary.getBusinessDate());
+        data.setStartedAt(summary.getStartedAt());
+        data.setFinishedAt(summary.getFinishedAt());
+        data.setProcessedCount(summary.getProcessedCount());
+        data.setSkippedCount(summary.getSkippedCount());
+        data.setFailedCount(summary.getFailedCount());
+        data.setWriteTimeMs(summary.getWriteTimeMs());
+        data.setBusinessSteps(summary.getBusinessSteps().stream().map(step -> new COBExecutionStepSummaryData(step.getBusinessStep(),
+                step.getExecutionCount(), step.getFailureCount(), step.getTotalTimeMs(), step.getMaxTimeMs())).toList());
+        data.setSlowestItems(summary.getSlowestItems().stream()
+                .map(slowItem -> new COBExecutionSlowItemData(slowItem.getItemId(), slowItem.getDurationMs())).toList());
+        return data;
+    }
+}
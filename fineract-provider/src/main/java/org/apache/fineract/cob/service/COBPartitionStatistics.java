@@ -0,0 +1,116 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import lombok.Getter;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+
+/**
+ * Statistics collected while one partition of a COB job is processed: execution times per business step and the
+ * slowest items of the partition.
+ */
+@Getter
+public class COBPartitionStatistics {
+
+    private final String jobName;
+    private final OffsetDateTime startedAt = DateUtils.getOffsetDateTimeOfTenant();
+    private final Map<String, BusinessStepStatistics> businessSteps = new LinkedHashMap<>();
+    private final int slowestItemSampleSize;
+    private final PriorityQueue<ItemTime> slowestItems = new PriorityQueue<>(Comparator.comparingLong(ItemTime::getNanos));
+    private long writeNanos;
+    private Long itemStartNanos;
+
+    public COBPartitionStatistics(String jobName, int slowestItemSampleSize) {
+        this.jobName = jobName;
+        this.slowestItemSampleSize = slowestItemSampleSize;
+    }
+
+    void recordBusinessStep(String businessStep, long nanos, boolean failed) {
+        businessSteps.computeIfAbsent(businessStep, key -> new BusinessStepStatistics()).record(nanos, failed);
+    }
+
+    void startItem(long startNanos) {
+        this.itemStartNanos = startNanos;
+    }
+
+    /**
+     * Returns the processing time of the item started last, or {@code null} when no item was started.
+     */
+    Long finishItem(Long itemId, long endNanos) {
+        if (itemStartNanos == null) {
+            return null;
+        }
+        long nanos = endNanos - itemStartNanos;
+        itemStartNanos = null;
+        if (slowestItems.size() < slowestItemSampleSize) {
+            slowestItems.add(new ItemTime(itemId, nanos));
+        } else if (!slowestItems.isEmpty() && slowestItems.peek().getNanos() < nanos) {
+            slowestItems.poll();
+            slowestItems.add(new ItemTime(itemId, nanos));
+        }
+        return nanos;
+    }
+
+    void recordWrite(long nanos) {
+        this.writeNanos += nanos;
+    }
+
+    /**
+     * Returns the sampled slowest items, slowest first.
+     */
+    public List<ItemTime> getSlowestItems() {
+        return slowestItems.stream().sorted(Comparator.comparingLong(ItemTime::getNanos).reversed()).toList();
+    }
+
+    @Getter
+    public static class BusinessStepStatistics {
+
+        private long executionCount;
+        private long failureCount;
+        private long totalNanos;
+        private long maxNanos;
+
+        private void record(long nanos, boolean failed) {
+            executionCount++;
+            if (failed) {
+                failureCount++;
+            }
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+    }
+
+    @Getter
+    public static class ItemTime {
+
+        private final Long itemId;
+        private final long nanos;
+
+        public ItemTime(Long itemId, long nanos) {
+            this.itemId = itemId;
+            this.nanos = nanos;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.commands.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.commands.handler.NewCommandSourceHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Micrometer instrumentation of the command processing pipeline; published through the actuator <code>metrics</code>
+ * (and, when exposed, <code>prometheus</code>) endpoints.
+ *
+ * <ul>
+ * <li><code>fineract.command.execution</code>: end to end timer per entity, action and outcome</li>
+ * <li><code>fineract.command.stage</code>: timer per entity, action and {@link Stage}</li>
+ * <li><code>fineract.command.handler</code>: histogram of the handler execution time per handler class</li>
+ * <li><code>fineract.command.failures</code>: counter of failed commands per entity, action and exception type</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class CommandProcessingMetrics {
+
+    public static final String COMMAND_TIMER = "fineract.command.execution";
+    public static final String STAGE_TIMER = "fineract.command.stage";
+    public static final String HANDLER_TIMER = "fineract.command.handler";
+    public static final String FAILURE_COUNTER = "fineract.command.failures";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+    public static final String OUTCOME_DUPLICATE = "duplicate";
+    public static final String OUTCOME_AWAITING_APPROVAL = "awaiting_approval";
+
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    public enum Stage {
+
+        IDEMPOTENCY_CHECK("idempotency_check"), //
+        COMMAND_SOURCE_INSERT("command_source_insert"), //
+        HANDLER("handler"), //
+        AUDIT_UPDATE("audit_update"), //
+        HOOK_PUBLISH("hook_publish");
+
+        private final String tagValue;
+
+        Stage(final String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        public String getTagValue() {
+            return this.tagValue;
+        }
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(this.meterRegistry);
+    }
+
+    public <T> T recordStage(final Stage stage, final CommandWrapper wrapper, final Supplier<T> action) {
+        final Timer.Sample sample = start();
+        try {
+            return action.get();
+        } finally {
+            sample.stop(stageTimer(stage, wrapper));
+        }
+    }
+
+    public void recordStage(final Stage stage, final CommandWrapper wrapper, final Runnable action) {
+        final Timer.Sample sample = start();
+        try {
+            action.run();
+        } finally {
+            sample.stop(stageTimer(stage, wrapper));
+        }
+    }
+
+    public void stopStage(final Timer.Sample sample, final Stage stage, final CommandWrapper wrapper) {
+        sample.stop(stageTimer(stage, wrapper));
+    }
+
+    /**
+     * Stops the sample for both the {@link Stage#HANDLER} stage of the command and the per handler histogram.
+     */
+    public void recordHandler(final Timer.Sample sample, final CommandWrapper wrapper, final NewCommandSourceHandler handler) {
+        final long durationNanos = sample.stop(stageTimer(Stage.HANDLER, wrapper));
+        Timer.builder(HANDLER_TIMER).description("Execution time of command handlers")
+                .tags(Tags.of("handler", ClassUtils.getUserClass(handler).getSimpleName())).publishPercentileHistogram()
+                .register(this.meterRegistry).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCommand(final Timer.Sample sample, final CommandWrapper wrapper, final String outcome) {
+        sample.stop(Timer.builder(COMMAND_TIMER).description("End to end execution time of commands")
+                .tags(commandTags(wrapper).and("outcome", outcome)).publishPercentileHistogram().register(this.meterRegistry));
+    }
+
+    public void recordFailure(final CommandWrapper wrapper, final Throwable throwable) {
+        Counter.builder(FAILURE_COUNTER).description("Number of failed commands")
+                .tags(commandTags(wrapper).and("exception", throwable.getClass().getSimpleName())).register(this.meterRegistry)
+                .increment();
+    }
+
+    private Timer stageTimer(final Stage stage, final CommandWrapper wrapper) {
+        return Timer.builder(STAGE_TIMER).description("Execution time of the command processing stages")
+                .tags(commandTags(wrapper).and("stage", stage.getTagValue())).register(this.meterRegistry);
+    }
+
+    private static Tags commandTags(final CommandWrapper wrapper) {
+        return Tags.of("entity", Objects.toString(wrapper.entityName(), UNKNOWN), "action",
+                Objects.toString(wrapper.actionName(), UNKNOWN));
+    }
+}
@@ -25,6 +25,7 @@ import static org.apache.fineract.commands.domain.CommandProcessingResultType.UN
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.Timer;
 import java.lang.reflect.Type;
 import java.time.Instant;
 import java.util.HashMap;
@@ -40,6 +41,7 @@ import org.apache.fineract.commands.exception.RollbackTransactionAsCommandIsNotA
 import org.apache.fineract.commands.exception.UnsupportedCommandException;
 import org.apache.fineract.commands.handler.NewCommandSourceHandler;
 import org.apache.fineract.commands.provider.CommandHandlerProvider;
+import org.apache.fineract.commands.service.CommandProcessingMetrics.Stage;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
@@ -78,6 +80,7 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
     private final IdempotencyKeyResolver idempotencyKeyResolver;
     private final IdempotencyKeyGenerator idempotencyKeyGenerator;
     private final CommandSourceService commandSourceService;
+    private final CommandProcessingMetrics commandProcessingMetrics;
 
     private final FineractRequestContextHolder fineractRequestContextHolder;
     private final Gson gson = GoogleGsonSerializerHelper.createSimpleGson();
@@ -86,29 +89,55 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
     @Retry(name = "executeCommand", fallbackMethod = "fallbackExecuteCommand")
     public CommandProcessingResult executeCommand(final CommandWrapper wrapper, final JsonCommand command,
             final boolean isApprovedByChecker) {
+        final Timer.Sample commandSample = commandProcessingMetrics.start();
+        String outcome = CommandProcessingMetrics.OUTCOME_FAILURE;
+        try {
+            final CommandProcessingResult result = doExecuteCommand(wrapper, command, isApprovedByChecker);
+            outcome = CommandProcessingMetrics.OUTCOME_SUCCESS;
+            return result;
+        } catch (AbstractIdempotentCommandException e) {
+            outcome = CommandProcessingMetrics.OUTCOME_DUPLICATE;
+            throw e;
+        } catch (RollbackTransactionAsCommandIsNotApprovedByCheckerException e) {
+            outcome = CommandProcessingMetrics.OUTCOME_AWAITING_APPROVAL;
+            throw e;
+        } finally {
+            commandProcessingMetrics.recordCommand(commandSample, wrapper, outcome);
+        }
+    }
+
+    private CommandProcessingResult doExecuteCommand(final CommandWrapper wrapper, final JsonCommand command,
+            final boolean isApprovedByChecker) {
         // Do not store the idempotency key because of the exception handling
         setIdempotencyKeyStoreFlag(false);
 
         final boolean rollbackTransaction = configurationDomainService.isMakerCheckerEnabledForTask(wrapper.taskPermissionName());
         String idempotencyKey = idempotencyKeyResolver.resolve(wrapper);
-        exceptionWhenTheRequestAlreadyProcessed(wrapper, idempotencyKey);
+        commandProcessingMetrics.recordStage(Stage.IDEMPOTENCY_CHECK, wrapper,
+                () -> exceptionWhenTheRequestAlreadyProcessed(wrapper, idempotencyKey));
 
         // Store idempotency key to the request attribute
 
-        CommandSource savedCommandSource = commandSourceService.saveInitial(wrapper, command, context.authenticatedUser(wrapper),
-                idempotencyKey);
+        CommandSource savedCommandSource = commandProcessingMetrics.recordStage(Stage.COMMAND_SOURCE_INSERT, wrapper,
+                () -> commandSourceService.saveInitial(wrapper, command, context.authenticatedUser(wrapper), idempotencyKey));
         storeCommandToIdempotentFilter(savedCommandSource);
         setIdempotencyKeyStoreFlag(true);
 
         final CommandProcessingResult result;
+        final NewCommandSourceHandler handler = findCommandHandler(wrapper);
+        final Timer.Sample handlerSample = commandProcessingMetrics.start();
         try {
-            result = findCommandHandler(wrapper).processCommand(command);
+            result = handler.processCommand(command);
         } catch (Throwable t) { // NOSONAR
+            commandProcessingMetrics.recordHandler(handlerSample, wrapper, handler);
+            commandProcessingMetrics.recordFailure(wrapper, t);
             commandSourceService.saveFailed(commandSourceService.findCommandSource(wrapper, idempotencyKey));
             publishHookErrorEvent(wrapper, command, t);
             throw t;
         }
+        commandProcessingMetrics.recordHandler(handlerSample, wrapper, handler);
 
+        final Timer.Sample auditSample = commandProcessingMetrics.start();
         CommandSource initialCommandSource = commandSourceService.findCommandSource(wrapper, idempotencyKey);
         initialCommandSource.setResult(toApiJsonSerializer.serializeResult(result));
         initialCommandSource.updateResourceId(result.getResourceId());
@@ -121,6 +150,7 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
 
         initialCommandSource.setStatus(CommandProcessingResultType.PROCESSED.getValue());
         commandSourceService.saveResult(initialCommandSource);
+        commandProcessingMetrics.stopStage(auditSample, Stage.AUDIT_UPDATE, wrapper);
 
         if ((rollbackTransaction || result.isRollbackTransaction()) && !isApprovedByChecker) {
             /*
@@ -137,7 +167,8 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
         }
         result.setRollbackTransaction(null);
 
-        publishHookEvent(wrapper.entityName(), wrapper.actionName(), command, result);
+        commandProcessingMetrics.recordStage(Stage.HOOK_PUBLISH, wrapper,
+                () -> publishHookEvent(wrapper.entityName(), wrapper.actionName(), command, result));
 
         return result;
     }
@@ -0,0 +1,103 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ContextPropagatingExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imports the rows read from a workbook by an {@link ImportHandler}.
+ *
+ * Rows sharing a grouping key (for example the client of a loan) are imported one after the other in sheet order, while
+ * the groups themselves are imported in parallel when <code>fineract.bulk-import.thread-count</code> is greater than
+ * one. Every row is still imported through its own commands, so a failing row never rolls back another one.
+ *
+ * The workbook itself is not thread safe: importers must only read the row data handed to them and leave writing the
+ * status columns to the calling thread, once {@link #importRows} has returned.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImportRowExecutor {
+
+    private final FineractProperties fineractProperties;
+
+    /**
+     * Runs the importer for every row and returns, in the order of <code>rows</code>, the exception a row failed with or
+     * <code>null</code> when it was imported. Rows with a <code>null</code> grouping key do not depend on any other row.
+     */
+    public <T> List<RuntimeException> importRows(final List<T> rows, final Function<T, Object> groupingKey, final Consumer<T> importer) {
+        final Map<Object, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            final Object key = groupingKey.apply(rows.get(i));
+            groups.computeIfAbsent(key == null ? Integer.valueOf(-i - 1) : key, k -> new ArrayList<>()).add(i);
+        }
+
+        final RuntimeException[] failures = new RuntimeException[rows.size()];
+        final int threadCount = getThreadCount();
+        if (threadCount <= 1 || groups.size() <= 1) {
+            for (final List<Integer> group : groups.values()) {
+                importGroup(rows, group, importer, failures);
+            }
+        } else {
+            importGroupsInParallel(rows, new ArrayList<>(groups.values()), importer, failures, threadCount);
+        }
+        return Arrays.asList(failures);
+    }
+
+    private <T> void importGroupsInParallel(final List<T> rows, final List<List<Integer>> groups, final Consumer<T> importer,
+            final RuntimeException[] failures, final int threadCount) {
+        final List<Supplier<Void>> tasks = new ArrayList<>(groups.size());
+        for (final List<Integer> group : groups) {
+            tasks.add(() -> {
+                importGroup(rows, group, importer, failures);
+                return null;
+            });
+        }
+        ContextPropagatingExecutor.invokeAll("bulk-import", threadCount, tasks);
+    }
+
+    private <T> void importGroup(final List<T> rows, final List<Integer> group, final Consumer<T> importer,
+            final RuntimeException[] failures) {
+        for (final Integer index : group) {
+            try {
+                importer.accept(rows.get(index));
+            } catch (RuntimeException e) {
+                log.error("Problem occurred while importing row", e);
+                failures[index] = e;
+            }
+        }
+    }
+
+    private int getThreadCount() {
+        final FineractProperties.FineractBulkImportProperties properties = this.fineractProperties.getBulkImport();
+        return properties == null ? 1 : properties.getThreadCount();
+    }
+}
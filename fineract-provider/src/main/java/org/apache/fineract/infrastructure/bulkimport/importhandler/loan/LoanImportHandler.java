@@ -38,6 +38,7 @@ import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateI
 import org.apache.fineract.infrastructure.bulkimport.data.Count;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandler;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportRowExecutor;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.helper.DateSerializer;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.helper.EnumOptionDataValueSerializer;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
@@ -72,6 +73,8 @@ public class LoanImportHandler implements ImportHandler {
 
     private final LoanRepaymentScheduleTransactionProcessorFactory loanRepaymentScheduleTransactionProcessorFactory;
 
+    private final ImportRowExecutor importRowExecutor;
+
     @Override
     public Count process(final Workbook workbook, final String locale, final String dateFormat) {
         List<LoanAccountData> loans = new ArrayList<>();
@@ -380,56 +383,72 @@ public class LoanImportHandler implements ImportHandler {
             final List<LoanTransactionData> loanRepayments, final List<DisbursementData> disbursalDates, final List<String> statuses,
             final String dateFormat) {
         Sheet loanSheet = workbook.getSheet(TemplatePopulateImportConstants.LOANS_SHEET_NAME);
+        // everything read from the sheet is collected up front, the rows are then imported without touching the workbook
+        final List<Integer> indexes = new ArrayList<>(loans.size());
+        final String[] loanIds = new String[loans.size()];
+        final int[] progressLevels = new int[loans.size()];
+        for (int i = 0; i < loans.size(); i++) {
+            indexes.add(i);
+            progressLevels[i] = getProgressLevel(statuses.get(i));
+            if (progressLevels[i] > 0) {
+                loanIds[i] = ImportHandlerUtils.readAsString(LoanConstants.LOAN_ID_COL, loanSheet.getRow(loans.get(i).getRowIndex()));
+            }
+        }
+
+        final List<RuntimeException> failures = importRowExecutor.importRows(indexes, i -> getGroupingKey(loans.get(i)), i -> {
+            int progressLevel = progressLevels[i];
+            if (progressLevel == 0 && loans.get(i) != null) {
+                loanIds[i] = importLoan(loans, i, dateFormat).getLoanId().toString();
+                progressLevel = 1;
+                progressLevels[i] = progressLevel;
+            }
+            final Long loanId = loanIds[i] == null ? null : Long.valueOf(loanIds[i]);
+            if (progressLevel <= 1 && approvalDates.get(i) != null) {
+                progressLevel = importLoanApproval(approvalDates, loanId, i, dateFormat);
+                progressLevels[i] = progressLevel;
+            }
+            if (progressLevel <= 2 && disbursalDates.get(i) != null) {
+                progressLevel = importDisbursalData(approvalDates, disbursalDates, loanId, i, dateFormat);
+                progressLevels[i] = progressLevel;
+            }
+            if (loanRepayments.get(i) != null) {
+                progressLevels[i] = importLoanRepayment(loanRepayments, loanId, i, dateFormat);
+            }
+        });
+
         int successCount = 0;
         int errorCount = 0;
-        int progressLevel = 0;
-        String loanId;
-        String errorMessage;
         for (int i = 0; i < loans.size(); i++) {
             Row row = loanSheet.getRow(loans.get(i).getRowIndex());
             Cell errorReportCell = row.createCell(LoanConstants.FAILURE_REPORT_COL);
             Cell statusCell = row.createCell(LoanConstants.STATUS_COL);
-            CommandProcessingResult result = null;
-            loanId = EMPTY_STR;
-            try {
-                String status = statuses.get(i);
-                progressLevel = getProgressLevel(status);
-
-                if (progressLevel == 0 && loans.get(i) != null) {
-                    result = importLoan(loans, i, dateFormat);
-                    loanId = result.getLoanId().toString();
-                    progressLevel = 1;
-                } else {
-                    loanId = ImportHandlerUtils.readAsString(LoanConstants.LOAN_ID_COL, loanSheet.getRow(loans.get(i).getRowIndex()));
-                }
-
-                if (progressLevel <= 1 && approvalDates.get(i) != null) {
-                    progressLevel = importLoanApproval(approvalDates, result, i, dateFormat);
-                }
-
-                if (progressLevel <= 2 && disbursalDates.get(i) != null) {
-                    progressLevel = importDisbursalData(approvalDates, disbursalDates, result, i, dateFormat);
-                }
-
-                if (loanRepayments.get(i) != null) {
-                    progressLevel = importLoanRepayment(loanRepayments, result, i, dateFormat);
-                }
-
+            final RuntimeException failure = failures.get(i);
+            if (failure == null) {
                 successCount++;
                 statusCell.setCellValue(TemplatePopulateImportConstants.STATUS_CELL_IMPORTED);
                 statusCell.setCellStyle(ImportHandlerUtils.getCellStyle(workbook, IndexedColors.LIGHT_GREEN));
-            } catch (RuntimeException ex) {
+            } else {
                 errorCount++;
-                log.error("Problem occurred in importEntity function", ex);
-                errorMessage = ImportHandlerUtils.getErrorMessage(ex);
-                writeLoanErrorMessage(workbook, loanId, errorMessage, progressLevel, statusCell, errorReportCell, row);
+                String errorMessage = ImportHandlerUtils.getErrorMessage(failure);
+                String loanId = loanIds[i] == null ? EMPTY_STR : loanIds[i];
+                writeLoanErrorMessage(workbook, loanId, errorMessage, progressLevels[i], statusCell, errorReportCell, row);
             }
-
         }
         setReportHeaders(loanSheet);
         return Count.instance(successCount, errorCount);
     }
 
+    private Object getGroupingKey(final LoanAccountData loan) {
+        if (loan == null) {
+            return null;
+        } else if (loan.getClientId() != null) {
+            return "client-" + loan.getClientId();
+        } else if (loan.getGroupId() != null) {
+            return "group-" + loan.getGroupId();
+        }
+        return null;
+    }
+
     private void writeLoanErrorMessage(final Workbook workbook, final String loanId, final String errorMessage, final int progressLevel,
             final Cell statusCell, final Cell errorReportCell, final Row row) {
         String status = EMPTY_STR;
@@ -459,7 +478,7 @@ public class LoanImportHandler implements ImportHandler {
         ImportHandlerUtils.writeString(LoanConstants.FAILURE_REPORT_COL, rowHeader, "Report");
     }
 
-    private Integer importLoanRepayment(final List<LoanTransactionData> loanRepayments, final CommandProcessingResult result,
+    private Integer importLoanRepayment(final List<LoanTransactionData> loanRepayments, final Long loanId,
             final int rowIndex, final String dateFormat) {
         GsonBuilder gsonBuilder = GoogleGsonSerializerHelper.createGsonBuilder();
         gsonBuilder.registerTypeAdapter(LocalDate.class, new DateSerializer(dateFormat));
@@ -468,7 +487,7 @@ public class LoanImportHandler implements ImportHandler {
         loanRepaymentJsonob.remove("numberOfRepayments");
         String payload = loanRepaymentJsonob.toString();
         final CommandWrapper commandRequest = new CommandWrapperBuilder() //
-                .loanRepaymentTransaction(result.getLoanId()) //
+                .loanRepaymentTransaction(loanId) //
                 .withJson(payload) //
                 .build(); //
 
@@ -477,7 +496,7 @@ public class LoanImportHandler implements ImportHandler {
     }
 
     private Integer importDisbursalData(final List<LoanApprovalData> approvalDates, final List<DisbursementData> disbursalDates,
-            final CommandProcessingResult result, final int rowIndex, final String dateFormat) {
+            final Long loanId, final int rowIndex, final String dateFormat) {
         if (approvalDates.get(rowIndex) != null && disbursalDates.get(rowIndex) != null) {
 
             DisbursementData disbusalData = disbursalDates.get(rowIndex);
@@ -487,14 +506,14 @@ public class LoanImportHandler implements ImportHandler {
             if (linkAccountId != null && !EMPTY_STR.equals(linkAccountId)) {
                 String payload = gsonBuilder.create().toJson(disbusalData);
                 final CommandWrapper commandRequest = new CommandWrapperBuilder() //
-                        .disburseLoanToSavingsApplication(result.getLoanId()) //
+                        .disburseLoanToSavingsApplication(loanId) //
                         .withJson(payload) //
                         .build(); //
                 commandsSourceWritePlatformService.logCommandSource(commandRequest);
             } else {
                 String payload = gsonBuilder.create().toJson(disbusalData);
                 final CommandWrapper commandRequest = new CommandWrapperBuilder() //
-                        .disburseLoanApplication(result.getLoanId()) //
+                        .disburseLoanApplication(loanId) //
                         .withJson(payload) //
                         .build(); //
 
@@ -504,14 +523,14 @@ public class LoanImportHandler implements ImportHandler {
         return 3;
     }
 
-    private Integer importLoanApproval(final List<LoanApprovalData> approvalDates, final CommandProcessingResult result, final int rowIndex,
+    private Integer importLoanApproval(final List<LoanApprovalData> approvalDates, final Long loanId, final int rowIndex,
             final String dateFormat) {
         if (approvalDates.get(rowIndex) != null) {
             GsonBuilder gsonBuilder = GoogleGsonSerializerHelper.createGsonBuilder();
             gsonBuilder.registerTypeAdapter(LocalDate.class, new DateSerializer(dateFormat));
             String payload = gsonBuilder.create().toJson(approvalDates.get(rowIndex));
             final CommandWrapper commandRequest = new CommandWrapperBuilder() //
-                    .approveLoanApplication(result.getLoanId()) //
+                    .approveLoanApplication(loanId) //
                     .withJson(payload) //
                     .build(); //
 
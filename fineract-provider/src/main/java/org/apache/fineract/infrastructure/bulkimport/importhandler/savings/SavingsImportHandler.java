@@ -33,6 +33,7 @@ import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateI
 import org.apache.fineract.infrastructure.bulkimport.data.Count;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandler;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportRowExecutor;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.helper.DateSerializer;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.helper.EnumOptionDataIdSerializer;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
@@ -47,8 +48,6 @@ import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -61,12 +60,14 @@ public class SavingsImportHandler implements ImportHandler {
     public static final String SEMI_ANNUAL = "Semi-Annual";
     public static final String ANNUALLY = "Annually";
     public static final String BI_ANNUAL = "BiAnnual";
-    private static final Logger LOG = LoggerFactory.getLogger(SavingsImportHandler.class);
     private final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService;
+    private final ImportRowExecutor importRowExecutor;
 
     @Autowired
-    public SavingsImportHandler(final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService) {
+    public SavingsImportHandler(final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService,
+            final ImportRowExecutor importRowExecutor) {
         this.commandsSourceWritePlatformService = commandsSourceWritePlatformService;
+        this.importRowExecutor = importRowExecutor;
     }
 
     @Override
@@ -268,43 +269,48 @@ public class SavingsImportHandler implements ImportHandler {
     public Count importEntity(final Workbook workbook, final List<SavingsAccountData> savings, final List<SavingsApproval> approvalDates,
             final List<SavingsActivation> activationDates, final List<String> statuses, final String dateFormat) {
         Sheet savingsSheet = workbook.getSheet(TemplatePopulateImportConstants.SAVINGS_ACCOUNTS_SHEET_NAME);
+        // everything read from the sheet is collected up front, the rows are then imported without touching the workbook
+        final List<Integer> indexes = new ArrayList<>(savings.size());
+        final Long[] savingsIds = new Long[savings.size()];
+        final int[] progressLevels = new int[savings.size()];
+        for (int i = 0; i < savings.size(); i++) {
+            indexes.add(i);
+            progressLevels[i] = getProgressLevel(statuses.get(i));
+            if (progressLevels[i] > 0) {
+                savingsIds[i] = ImportHandlerUtils.readAsLong(SavingsConstants.SAVINGS_ID_COL,
+                        savingsSheet.getRow(savings.get(i).getRowIndex()));
+            }
+        }
+
+        final List<RuntimeException> failures = importRowExecutor.importRows(indexes, i -> savings.get(i).getClientId(), i -> {
+            if (progressLevels[i] == 0) {
+                CommandProcessingResult result = importSavings(savings, i, dateFormat);
+                savingsIds[i] = result.getSavingsId();
+                progressLevels[i] = 1;
+            }
+            if (progressLevels[i] <= 1) {
+                progressLevels[i] = importSavingsApproval(approvalDates, savingsIds[i], i, dateFormat);
+            }
+            if (progressLevels[i] <= 2) {
+                progressLevels[i] = importSavingsActivation(activationDates, savingsIds[i], i, dateFormat);
+            }
+        });
+
         int successCount = 0;
         int errorCount = 0;
-        int progressLevel = 0;
-        String errorMessage = "";
-        Long savingsId = null;
         for (int i = 0; i < savings.size(); i++) {
             Row row = savingsSheet.getRow(savings.get(i).getRowIndex());
             Cell statusCell = row.createCell(SavingsConstants.STATUS_COL);
             Cell errorReportCell = row.createCell(SavingsConstants.FAILURE_REPORT_COL);
-            try {
-                String status = statuses.get(i);
-                progressLevel = getProgressLevel(status);
-
-                if (progressLevel == 0) {
-                    CommandProcessingResult result = importSavings(savings, i, dateFormat);
-                    savingsId = result.getSavingsId();
-                    progressLevel = 1;
-                } else {
-                    savingsId = ImportHandlerUtils.readAsLong(SavingsConstants.SAVINGS_ID_COL,
-                            savingsSheet.getRow(savings.get(i).getRowIndex()));
-                }
-
-                if (progressLevel <= 1) {
-                    progressLevel = importSavingsApproval(approvalDates, savingsId, i, dateFormat);
-                }
-
-                if (progressLevel <= 2) {
-                    progressLevel = importSavingsActivation(activationDates, savingsId, i, dateFormat);
-                }
+            RuntimeException failure = failures.get(i);
+            if (failure == null) {
                 successCount++;
                 statusCell.setCellValue(TemplatePopulateImportConstants.STATUS_CELL_IMPORTED);
                 statusCell.setCellStyle(ImportHandlerUtils.getCellStyle(workbook, IndexedColors.LIGHT_GREEN));
-            } catch (RuntimeException ex) {
+            } else {
                 errorCount++;
-                LOG.error("Problem occurred in importEntity function", ex);
-                errorMessage = ImportHandlerUtils.getErrorMessage(ex);
-                writeSavingsErrorMessage(workbook, savingsId, errorMessage, progressLevel, statusCell, errorReportCell, row);
+                String errorMessage = ImportHandlerUtils.getErrorMessage(failure);
+                writeSavingsErrorMessage(workbook, savingsIds[i], errorMessage, progressLevels[i], statusCell, errorReportCell, row);
             }
         }
         setReportHeaders(savingsSheet);
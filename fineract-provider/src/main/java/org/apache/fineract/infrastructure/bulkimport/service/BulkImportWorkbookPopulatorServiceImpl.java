@@ -66,6 +66,8 @@ import org.apache.fineract.infrastructure.bulkimport.populator.users.UserWorkboo
 import org.apache.fineract.infrastructure.codes.data.CodeValueData;
 import org.apache.fineract.infrastructure.codes.service.CodeValueReadPlatformService;
 import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
+import org.apache.fineract.infrastructure.core.service.AsyncRequestExecutor;
+import org.apache.fineract.infrastructure.core.service.AsyncRequestType;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.Page;
 import org.apache.fineract.infrastructure.core.service.SearchParameters;
@@ -136,6 +138,7 @@ public class BulkImportWorkbookPopulatorServiceImpl implements BulkImportWorkboo
     private final ChargeReadPlatformService chargeReadPlatformService;
     private final DepositProductReadPlatformService depositProductReadPlatformService;
     private final RoleReadPlatformService roleReadPlatformService;
+    private final AsyncRequestExecutor asyncRequestExecutor;
 
     @Autowired
     public BulkImportWorkbookPopulatorServiceImpl(final PlatformSecurityContext context,
@@ -152,7 +155,7 @@ public class BulkImportWorkbookPopulatorServiceImpl implements BulkImportWorkboo
             final ShareProductReadPlatformService shareProductReadPlatformService,
             final ChargeReadPlatformService chargeReadPlatformService,
             final DepositProductReadPlatformService depositProductReadPlatformService,
-            final RoleReadPlatformService roleReadPlatformService) {
+            final RoleReadPlatformService roleReadPlatformService, final AsyncRequestExecutor asyncRequestExecutor) {
         this.officeReadPlatformService = officeReadPlatformService;
         this.staffReadPlatformService = staffReadPlatformService;
         this.context = context;
@@ -172,10 +175,16 @@ public class BulkImportWorkbookPopulatorServiceImpl implements BulkImportWorkboo
         this.chargeReadPlatformService = chargeReadPlatformService;
         this.depositProductReadPlatformService = depositProductReadPlatformService;
         this.roleReadPlatformService = roleReadPlatformService;
+        this.asyncRequestExecutor = asyncRequestExecutor;
     }
 
     @Override
-    public Response getTemplate(String entityType, Long officeId, Long staffId, final String dateFormat) {
+    public Response getTemplate(final String entityType, final Long officeId, final Long staffId, final String dateFormat) {
+        // templates of large offices take long to build, bound how many of them can run at the same time
+        return this.asyncRequestExecutor.call(AsyncRequestType.EXPORT, () -> populateTemplate(entityType, officeId, staffId, dateFormat));
+    }
+
+    private Response populateTemplate(String entityType, Long officeId, Long staffId, final String dateFormat) {
         WorkbookPopulator populator = null;
         final Workbook workbook = new HSSFWorkbook();
         if (entityType != null) {
@@ -61,7 +61,10 @@ import org.springframework.stereotype.Component;
 @Scope("singleton")
 @Tag(name = "Cache", description = "The following settings are possible for cache:\n" + "\n" + "No Caching: caching turned off\n"
         + "Single node: caching on for single instance deployments of platorm (works for multiple tenants but only one tomcat)\n"
-        + "By default caching is set to No Caching. Switching between caches results in the cache been clear e.g. from Single node to No cache and back again would clear down the single node cache.")
+        + "Multi node: caching on for deployments with several instances, evictions are propagated to the other instances\n"
+        + "By default caching is set to No Caching. Switching between caches results in the cache been clear e.g. from Single node to No cache and back again would clear down the single node cache. "
+        + "The switch only applies to the instance serving the request, "
+        + "the other instances pick up the new setting when they are restarted.")
 public class CacheApiResource {
 
     private static final Set<String> RESPONSE_DATA_PARAMETERS = new HashSet<>(List.of("id"));
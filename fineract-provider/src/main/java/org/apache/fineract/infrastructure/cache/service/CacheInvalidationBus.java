@@ -0,0 +1,43 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+
+/**
+ * Transport used by the {@link DistributedCacheManager} to keep the local caches of several Fineract nodes coherent.
+ *
+ * Implementations are selected with the <code>fineract.cache.invalidation.bus</code> property.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Makes the message available to every other node; delivery back to the publishing node is allowed, the receiver
+     * filters on the node id.
+     */
+    void publish(CacheInvalidationMessage message);
+
+    /**
+     * Starts delivering messages published from now on to the given listener.
+     */
+    void start(Consumer<CacheInvalidationMessage> listener);
+
+    void stop();
+}
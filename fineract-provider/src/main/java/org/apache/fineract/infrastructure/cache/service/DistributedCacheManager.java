@@ -0,0 +1,161 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link CacheManager} behind the {@link org.apache.fineract.infrastructure.cache.domain.CacheType#MULTI_NODE} cache
+ * type: every node keeps its own local (near-)caches, reusing the single node cache regions, and evictions are
+ * propagated to the other nodes through the configured {@link CacheInvalidationBus}.
+ */
+@Slf4j
+@Component
+public class DistributedCacheManager implements CacheManager {
+
+    private static final String KEY_TYPE_SEPARATOR = ":";
+    private static final String STRING_KEY_PREFIX = String.class.getName() + KEY_TYPE_SEPARATOR;
+    private static final String HASHED_KEY_PREFIX = "sha256" + KEY_TYPE_SEPARATOR;
+    // length of m_cache_invalidation.cache_key
+    static final int MAX_KEY_LENGTH = 500;
+
+    private final CacheManager localCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    @Autowired
+    public DistributedCacheManager(final JCacheCacheManager localCacheManager, final CacheInvalidationBus invalidationBus,
+            final FineractProperties fineractProperties) {
+        this.localCacheManager = localCacheManager;
+        this.invalidationBus = invalidationBus;
+        // the configured node id is not necessarily unique across a cluster, so make it unique per JVM
+        this.nodeId = fineractProperties.getNodeId() + "-" + UUID.randomUUID();
+    }
+
+    @Override
+    public Cache getCache(final String name) {
+        final Cache cache = this.caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        final Cache localCache = this.localCacheManager.getCache(name);
+        if (localCache == null) {
+            return null;
+        }
+        return this.caches.computeIfAbsent(name, key -> new InvalidationPublishingCache(localCache, this));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return this.localCacheManager.getCacheNames();
+    }
+
+    public void activate() {
+        clearLocalCaches();
+        this.invalidationBus.start(this::onInvalidation);
+    }
+
+    public void deactivate() {
+        this.invalidationBus.stop();
+    }
+
+    void publishInvalidation(final String cacheName, final Object key) {
+        this.invalidationBus.publish(new CacheInvalidationMessage(this.nodeId, cacheName, key == null ? null : serializeKey(key)));
+    }
+
+    /**
+     * Serializes a cache key as its type and string representation, so that the receiving nodes can tell string keys,
+     * which they evict directly, from the other keys, which they have to look up among the entries of their region.
+     * Representations longer than {@link #MAX_KEY_LENGTH} are replaced by their SHA-256 hash, which the receiving nodes
+     * look up the same way.
+     */
+    static String serializeKey(final Object key) {
+        final String serializedKey = key.getClass().getName() + KEY_TYPE_SEPARATOR + key;
+        if (serializedKey.length() <= MAX_KEY_LENGTH) {
+            return serializedKey;
+        }
+        return HASHED_KEY_PREFIX + Hashing.sha256().hashString(serializedKey, StandardCharsets.UTF_8);
+    }
+
+    private void onInvalidation(final CacheInvalidationMessage message) {
+        if (this.nodeId.equals(message.getNodeId())) {
+            return;
+        }
+        final Cache localCache = this.localCacheManager.getCache(message.getCacheName());
+        if (localCache == null) {
+            log.warn("Received invalidation for unknown cache {}", message.getCacheName());
+            return;
+        }
+        if (message.isClearAll()) {
+            localCache.clear();
+        } else {
+            evict(localCache, message.getCacheKey());
+        }
+    }
+
+    private void evict(final Cache localCache, final String cacheKey) {
+        if (cacheKey.startsWith(STRING_KEY_PREFIX)) {
+            localCache.evict(cacheKey.substring(STRING_KEY_PREFIX.length()));
+            return;
+        }
+        final List<Object> matchingKeys = new ArrayList<>();
+        final Object nativeCache = localCache.getNativeCache();
+        if (nativeCache instanceof javax.cache.Cache) {
+            for (javax.cache.Cache.Entry<?, ?> entry : (javax.cache.Cache<?, ?>) nativeCache) {
+                if (cacheKey.equals(serializeKey(entry.getKey()))) {
+                    matchingKeys.add(entry.getKey());
+                }
+            }
+        } else if (nativeCache instanceof Map) {
+            for (Object key : ((Map<?, ?>) nativeCache).keySet()) {
+                if (cacheKey.equals(serializeKey(key))) {
+                    matchingKeys.add(key);
+                }
+            }
+        } else {
+            log.warn("Unable to look up the entries of cache {}, clearing it", localCache.getName());
+            localCache.clear();
+            return;
+        }
+        matchingKeys.forEach(localCache::evict);
+    }
+
+    private void clearLocalCaches() {
+        for (String cacheName : this.localCacheManager.getCacheNames()) {
+            this.localCacheManager.getCache(cacheName).clear();
+        }
+    }
+}
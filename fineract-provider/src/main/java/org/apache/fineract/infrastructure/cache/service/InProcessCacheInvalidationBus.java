@@ -0,0 +1,53 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link CacheInvalidationBus} delivering messages synchronously inside the JVM; enough for a single node and for
+ * tests, as it needs no shared infrastructure at all.
+ */
+@Component
+@ConditionalOnProperty(value = "fineract.cache.invalidation.bus", havingValue = "in-process")
+public class InProcessCacheInvalidationBus implements CacheInvalidationBus {
+
+    private volatile Consumer<CacheInvalidationMessage> listener;
+
+    @Override
+    public void publish(final CacheInvalidationMessage message) {
+        final Consumer<CacheInvalidationMessage> currentListener = this.listener;
+        if (currentListener != null) {
+            currentListener.accept(message);
+        }
+    }
+
+    @Override
+    public void start(final Consumer<CacheInvalidationMessage> listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void stop() {
+        this.listener = null;
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Local near-cache region which, besides evicting locally, publishes every eviction to the other nodes through the
+ * {@link DistributedCacheManager}.
+ *
+ * When the eviction happens inside a transaction (as for the <code>@CacheEvict</code> annotated write services), the
+ * entry is evicted again and the invalidation is published only after the commit, so that neither this node nor the
+ * others can re-populate their caches with the not yet committed (stale) state in the meantime.
+ */
+final class InvalidationPublishingCache implements Cache {
+
+    private final Cache delegate;
+    private final DistributedCacheManager cacheManager;
+
+    InvalidationPublishingCache(final Cache delegate, final DistributedCacheManager cacheManager) {
+        this.delegate = delegate;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return this.delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this.delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        return this.delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(final Object key, final Class<T> type) {
+        return this.delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        return this.delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        this.delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(final Object key, final Object value) {
+        return this.delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(final Object key) {
+        this.delegate.evict(key);
+        afterCommit(() -> {
+            this.delegate.evict(key);
+            this.cacheManager.publishInvalidation(getName(), key);
+        });
+    }
+
+    @Override
+    public boolean evictIfPresent(final Object key) {
+        final boolean present = this.delegate.evictIfPresent(key);
+        afterCommit(() -> {
+            this.delegate.evict(key);
+            this.cacheManager.publishInvalidation(getName(), key);
+        });
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        this.delegate.clear();
+        afterCommit(() -> {
+            this.delegate.clear();
+            this.cacheManager.publishInvalidation(getName(), null);
+        });
+    }
+
+    @Override
+    public boolean invalidate() {
+        final boolean invalidated = this.delegate.invalidate();
+        afterCommit(() -> {
+            this.delegate.clear();
+            this.cacheManager.publishInvalidation(getName(), null);
+        });
+        return invalidated;
+    }
+
+    private static void afterCommit(final Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
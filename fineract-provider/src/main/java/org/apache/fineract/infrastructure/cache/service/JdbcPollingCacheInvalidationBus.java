@@ -0,0 +1,169 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link CacheInvalidationBus} backed by the <code>m_cache_invalidation</code> table of the tenant store database,
+ * which every node of a cluster shares already. Messages are inserted by the publishing node and picked up by the other
+ * nodes polling for rows with a higher id than the last one they have seen; old rows are purged after the configured
+ * retention.
+ *
+ * As ids are assigned on insert but become visible on commit, a lower id can show up after a higher one was read. The
+ * ids skipped that way are polled for again during a minute, and every id is delivered once.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "fineract.cache.invalidation.bus", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcPollingCacheInvalidationBus implements CacheInvalidationBus, DisposableBean {
+
+    private static final int PURGE_EVERY_N_POLLS = 100;
+    private static final long LATE_COMMIT_WINDOW_MILLIS = 60_000L;
+    private static final int MAX_PENDING_IDS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long pollIntervalMillis;
+    private final long retentionMinutes;
+
+    private ScheduledExecutorService poller;
+    private volatile Consumer<CacheInvalidationMessage> listener;
+    private long lastSeenId;
+    // ids below lastSeenId which were not visible yet, with the time they were first missed (accessed by the poller only)
+    private final Map<Long, Long> pendingIds = new HashMap<>();
+    private int pollCount;
+
+    @Autowired
+    public JdbcPollingCacheInvalidationBus(@Qualifier("hikariTenantDataSource") final DataSource dataSource,
+            final FineractProperties fineractProperties) {
+        this(new JdbcTemplate(dataSource), fineractProperties.getCache().getInvalidation().getPollIntervalMs(),
+                fineractProperties.getCache().getInvalidation().getRetentionMinutes());
+    }
+
+    JdbcPollingCacheInvalidationBus(final JdbcTemplate jdbcTemplate, final long pollIntervalMillis, final long retentionMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    @Override
+    public void publish(final CacheInvalidationMessage message) {
+        this.jdbcTemplate.update("INSERT INTO m_cache_invalidation (node_id, cache_name, cache_key, created_date) VALUES (?, ?, ?, ?)",
+                message.getNodeId(), message.getCacheName(), message.getCacheKey(), DateUtils.getLocalDateTimeOfSystem());
+    }
+
+    @Override
+    public synchronized void start(final Consumer<CacheInvalidationMessage> listener) {
+        this.listener = listener;
+        if (this.poller != null) {
+            return;
+        }
+        final Long maxId = this.jdbcTemplate.queryForObject("SELECT MAX(id) FROM m_cache_invalidation", Long.class);
+        this.lastSeenId = maxId == null ? 0L : maxId;
+        this.pendingIds.clear();
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "cache-invalidation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.poller.scheduleWithFixedDelay(this::pollSafely, this.pollIntervalMillis, this.pollIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Started polling for cache invalidations every {} ms", this.pollIntervalMillis);
+    }
+
+    @Override
+    public synchronized void stop() {
+        this.listener = null;
+        if (this.poller != null) {
+            this.poller.shutdownNow();
+            this.poller = null;
+            log.info("Stopped polling for cache invalidations");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        stop();
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            // keep the scheduled task alive, the next poll will pick up where this one failed
+            log.warn("Polling for cache invalidations failed", e);
+        }
+    }
+
+    void poll() {
+        final long now = System.currentTimeMillis();
+        this.pendingIds.values().removeIf(missedAt -> now - missedAt > LATE_COMMIT_WINDOW_MILLIS);
+        final long fromId = this.pendingIds.isEmpty() ? this.lastSeenId : Collections.min(this.pendingIds.keySet()) - 1;
+
+        final List<CacheInvalidationMessage> messages = new ArrayList<>();
+        this.jdbcTemplate.query("SELECT id, node_id, cache_name, cache_key FROM m_cache_invalidation WHERE id > ? ORDER BY id",
+                (RowCallbackHandler) rs -> {
+                    final long id = rs.getLong("id");
+                    if (id <= this.lastSeenId) {
+                        if (this.pendingIds.remove(id) == null) {
+                            // already delivered by an earlier poll
+                            return;
+                        }
+                    } else {
+                        for (long missingId = Math.max(this.lastSeenId + 1, id - MAX_PENDING_IDS); missingId < id; missingId++) {
+                            this.pendingIds.put(missingId, now);
+                        }
+                        this.lastSeenId = id;
+                    }
+                    messages.add(
+                            new CacheInvalidationMessage(rs.getString("node_id"), rs.getString("cache_name"), rs.getString("cache_key")));
+                }, fromId);
+
+        final Consumer<CacheInvalidationMessage> currentListener = this.listener;
+        if (currentListener != null) {
+            messages.forEach(currentListener);
+        }
+
+        if (++this.pollCount % PURGE_EVERY_N_POLLS == 0) {
+            final LocalDateTime purgeBefore = DateUtils.getLocalDateTimeOfSystem().minusMinutes(this.retentionMinutes);
+            final int purged = this.jdbcTemplate.update("DELETE FROM m_cache_invalidation WHERE created_date < ?", purgeBefore);
+            log.debug("Purged {} cache invalidation messages older than {}", purged, purgeBefore);
+        }
+    }
+}
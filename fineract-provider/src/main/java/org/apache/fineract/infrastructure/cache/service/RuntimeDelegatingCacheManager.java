@@ -40,7 +40,11 @@ import org.springframework.stereotype.Component;
  * At present this implementation of {@link CacheManager} just delegates to the real {@link CacheManager} to use.
  *
  * By default it is {@link NoOpCacheManager} but we can change that by checking some persisted configuration in the
- * database on startup and allow user to switch implementation through UI/API
+ * database on startup and allow user to switch implementation through UI/API. Besides the single node cache, a multi
+ * node mode is available through the {@link DistributedCacheManager}, which keeps local caches coherent across nodes.
+ *
+ * Switching the cache type is not propagated: it takes effect on the node serving the request, while the other nodes
+ * keep their cache type until they are restarted and pick up the persisted one.
  */
 @Component(value = "runtimeDelegatingCacheManager")
 public class RuntimeDelegatingCacheManager implements CacheManager {
@@ -48,12 +52,14 @@ public class RuntimeDelegatingCacheManager implements CacheManager {
     private static final Logger LOG = LoggerFactory.getLogger(RuntimeDelegatingCacheManager.class);
 
     private final CacheManager cacheManager;
+    private final DistributedCacheManager distributedCacheManager;
     private final CacheManager noOpCacheManager = new NoOpCacheManager();
     private CacheManager currentCacheManager;
 
     @Autowired
-    public RuntimeDelegatingCacheManager(final JCacheCacheManager cacheManager) {
+    public RuntimeDelegatingCacheManager(final JCacheCacheManager cacheManager, final DistributedCacheManager distributedCacheManager) {
         this.cacheManager = cacheManager;
+        this.distributedCacheManager = distributedCacheManager;
         this.currentCacheManager = this.noOpCacheManager;
     }
 
@@ -71,42 +77,38 @@ public class RuntimeDelegatingCacheManager implements CacheManager {
 
         final boolean noCacheEnabled = this.currentCacheManager instanceof NoOpCacheManager;
         final boolean ehcacheEnabled = this.currentCacheManager instanceof JCacheCacheManager;
-
-        // final boolean distributedCacheEnabled = false;
+        final boolean distributedCacheEnabled = this.currentCacheManager instanceof DistributedCacheManager;
 
         final EnumOptionData noCacheType = CacheEnumerations.cacheType(CacheType.NO_CACHE);
         final EnumOptionData singleNodeCacheType = CacheEnumerations.cacheType(CacheType.SINGLE_NODE);
-        // final EnumOptionData multiNodeCacheType =
-        // CacheEnumerations.cacheType(CacheType.MULTI_NODE);
+        final EnumOptionData multiNodeCacheType = CacheEnumerations.cacheType(CacheType.MULTI_NODE);
 
         final CacheData noCache = CacheData.instance(noCacheType, noCacheEnabled);
         final CacheData singleNodeCache = CacheData.instance(singleNodeCacheType, ehcacheEnabled);
-        // final CacheData distributedCache =
-        // CacheData.instance(multiNodeCacheType, distributedCacheEnabled);
+        final CacheData distributedCache = CacheData.instance(multiNodeCacheType, distributedCacheEnabled);
 
-        final Collection<CacheData> caches = Arrays.asList(noCache, singleNodeCache);
+        final Collection<CacheData> caches = Arrays.asList(noCache, singleNodeCache, distributedCache);
         return caches;
     }
 
-    public Map<String, Object> switchToCache(final boolean ehcacheEnabled, final CacheType toCacheType) {
+    public Map<String, Object> switchToCache(final CacheType currentCacheType, final CacheType toCacheType) {
 
         final Map<String, Object> changes = new HashMap<>();
 
-        final boolean noCacheEnabled = !ehcacheEnabled;
-        final boolean distributedCacheEnabled = !ehcacheEnabled;
+        if (toCacheType != CacheType.INVALID && currentCacheType != toCacheType) {
+            changes.put(CacheApiConstants.cacheTypeParameter, toCacheType.getValue());
+        }
 
         switch (toCacheType) {
             case INVALID:
             break;
             case NO_CACHE:
-                if (!noCacheEnabled) {
-                    changes.put(CacheApiConstants.cacheTypeParameter, toCacheType.getValue());
-                }
+                this.distributedCacheManager.deactivate();
                 this.currentCacheManager = this.noOpCacheManager;
             break;
             case SINGLE_NODE:
-                if (!ehcacheEnabled) {
-                    changes.put(CacheApiConstants.cacheTypeParameter, toCacheType.getValue());
+                this.distributedCacheManager.deactivate();
+                if (!changes.isEmpty()) {
                     clearEhCache();
                 }
                 this.currentCacheManager = this.cacheManager;
@@ -116,9 +118,9 @@ public class RuntimeDelegatingCacheManager implements CacheManager {
                 }
             break;
             case MULTI_NODE:
-                if (!distributedCacheEnabled) {
-                    changes.put(CacheApiConstants.cacheTypeParameter, toCacheType.getValue());
-                }
+                // activating always starts from empty local caches, as this node missed invalidations meanwhile
+                this.distributedCacheManager.activate();
+                this.currentCacheManager = this.distributedCacheManager;
             break;
         }
 
@@ -0,0 +1,221 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.campaigns.sms.service;
+
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+import com.github.mustachejava.MustacheFactory;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.campaigns.sms.domain.SmsCampaign;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ContextPropagatingExecutor;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.dataqueries.service.ReadReportingService;
+import org.apache.fineract.infrastructure.sms.domain.SmsMessageStatusType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns the rows of a campaign report into pending messages of the campaign.
+ *
+ * The message template is compiled once and the compiled template is reused for every row and for later runs of the
+ * same campaign. The report rows are streamed and collected in batches of <code>fineract.sms-campaign.batch-size</code>
+ * rows; every batch is rendered by up to <code>fineract.sms-campaign.thread-count</code> threads and inserted into
+ * <code>sms_messages_outbound</code> with one JDBC batch. Inserts happen on the calling thread, within its transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SmsCampaignMessageGenerator {
+
+    private static final int MAX_COMPILED_TEMPLATES = 1000;
+    private static final String INSERT_SQL = "insert into sms_messages_outbound (client_id, campaign_id, status_enum, mobile_no, message,"
+            + " submittedon_date, is_notification) values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final ReadReportingService readReportingService;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final FineractProperties fineractProperties;
+    private final MustacheFactory mustacheFactory = new DefaultMustacheFactory();
+    private final ConcurrentMap<List<String>, Mustache> compiledTemplates = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the compiled template; compiled templates are thread safe and can be rendered concurrently.
+     */
+    public Mustache compile(final String textMessageTemplate, final String campaignName) {
+        final List<String> key = Arrays.asList(campaignName, textMessageTemplate);
+        Mustache mustache = this.compiledTemplates.get(key);
+        if (mustache == null) {
+            mustache = this.mustacheFactory.compile(new StringReader(textMessageTemplate), campaignName);
+            if (this.compiledTemplates.size() < MAX_COMPILED_TEMPLATES) {
+                this.compiledTemplates.put(key, mustache);
+            }
+        }
+        return mustache;
+    }
+
+    public String render(final Mustache template, final Map<String, Object> smsParams) {
+        final StringWriter stringWriter = new StringWriter();
+        template.execute(stringWriter, smsParams);
+        return stringWriter.toString();
+    }
+
+    /**
+     * Runs the report of the campaign and enqueues a pending message for every row with a mobile number (or, for
+     * notification campaigns, for every client with a registered device).
+     *
+     * @return the number of messages enqueued
+     */
+    public long enqueueMessages(final SmsCampaign smsCampaign, final Map<String, String> queryParams) {
+        final Mustache template = compile(smsCampaign.getMessage(), smsCampaign.getCampaignName());
+        final int batchSize = getBatchSize();
+        final int threadCount = getThreadCount();
+        final List<Map<String, Object>> rows = new ArrayList<>(batchSize);
+        final long[] enqueued = { 0 };
+        final ContextPropagatingExecutor executor = threadCount > 1 ? ContextPropagatingExecutor.create("sms-campaign", threadCount) : null;
+        try (executor) {
+            this.readReportingService.streamResultSetForSmsEmailCampaign(queryParams.get("reportName"), "report", queryParams, row -> {
+                rows.add(normalizeReportRow(row));
+                if (rows.size() == batchSize) {
+                    enqueued[0] += insertMessages(smsCampaign, template, rows, executor, threadCount);
+                    rows.clear();
+                }
+            });
+            if (!rows.isEmpty()) {
+                enqueued[0] += insertMessages(smsCampaign, template, rows, executor, threadCount);
+            }
+        }
+        log.debug("Enqueued {} messages of campaign {}", enqueued[0], smsCampaign.getId());
+        return enqueued[0];
+    }
+
+    /**
+     * Replaces the <code>[year,month,day]</code> dates of a report row by <code>day-month-year</code> strings, the
+     * format campaign templates were written for.
+     */
+    @SuppressWarnings("rawtypes")
+    public static Map<String, Object> normalizeReportRow(final Map<String, Object> row) {
+        for (final Map.Entry<String, Object> entry : row.entrySet()) {
+            final Object value = entry.getValue();
+            if (value instanceof ArrayList && ((ArrayList) value).size() == 3) {
+                final ArrayList date = (ArrayList) value;
+                entry.setValue(date.get(2).toString() + "-" + date.get(1).toString() + "-" + date.get(0).toString());
+            }
+        }
+        return row;
+    }
+
+    private long insertMessages(final SmsCampaign smsCampaign, final Mustache template, final List<Map<String, Object>> rows,
+            final ContextPropagatingExecutor executor, final int threadCount) {
+        final Set<Long> registeredClientIds = smsCampaign.isNotification() ? findClientIdsWithDeviceRegistration(rows) : Set.of();
+        final List<Map<String, Object>> recipients = new ArrayList<>(rows.size());
+        for (final Map<String, Object> row : rows) {
+            final boolean valid = smsCampaign.isNotification() ? registeredClientIds.contains(clientId(row)) : row.get("mobileNo") != null;
+            if (valid) {
+                recipients.add(row);
+            }
+        }
+        if (recipients.isEmpty()) {
+            return 0;
+        }
+
+        final List<String> messages = render(template, recipients, executor, threadCount);
+        final LocalDate submittedOnDate = DateUtils.getBusinessLocalDate();
+        final List<Object[]> params = new ArrayList<>(recipients.size());
+        for (int i = 0; i < recipients.size(); i++) {
+            final Map<String, Object> recipient = recipients.get(i);
+            final Object mobileNo = recipient.get("mobileNo");
+            params.add(new Object[] { clientId(recipient), smsCampaign.getId(), SmsMessageStatusType.PENDING.getValue(),
+                    mobileNo == null ? null : mobileNo.toString(), messages.get(i), submittedOnDate, smsCampaign.isNotification() });
+        }
+        this.jdbcTemplate.batchUpdate(INSERT_SQL, params);
+        return params.size();
+    }
+
+    private List<String> render(final Mustache template, final List<Map<String, Object>> rows, final ContextPropagatingExecutor executor,
+            final int threadCount) {
+        if (executor == null || rows.size() == 1) {
+            return renderAll(template, rows);
+        }
+        final int sliceSize = (rows.size() + threadCount - 1) / threadCount;
+        final List<Supplier<List<String>>> tasks = new ArrayList<>(threadCount);
+        for (int from = 0; from < rows.size(); from += sliceSize) {
+            final List<Map<String, Object>> slice = rows.subList(from, Math.min(from + sliceSize, rows.size()));
+            tasks.add(() -> renderAll(template, slice));
+        }
+        final List<String> messages = new ArrayList<>(rows.size());
+        for (final List<String> renderedSlice : executor.invokeAll(tasks)) {
+            messages.addAll(renderedSlice);
+        }
+        return messages;
+    }
+
+    private List<String> renderAll(final Mustache template, final List<Map<String, Object>> rows) {
+        final List<String> messages = new ArrayList<>(rows.size());
+        for (final Map<String, Object> row : rows) {
+            messages.add(render(template, row));
+        }
+        return messages;
+    }
+
+    private Set<Long> findClientIdsWithDeviceRegistration(final List<Map<String, Object>> rows) {
+        final Set<Long> clientIds = new HashSet<>();
+        for (final Map<String, Object> row : rows) {
+            final Long clientId = clientId(row);
+            if (clientId != null) {
+                clientIds.add(clientId);
+            }
+        }
+        if (clientIds.isEmpty()) {
+            return clientIds;
+        }
+        return new HashSet<>(this.namedParameterJdbcTemplate.queryForList(
+                "select client_id from client_device_registration where client_id in (:clientIds)", Map.of("clientIds", clientIds),
+                Long.class));
+    }
+
+    private static Long clientId(final Map<String, Object> row) {
+        final Object id = row.get("id");
+        return id == null ? null : ((Number) id).longValue();
+    }
+
+    private int getBatchSize() {
+        final FineractProperties.FineractSmsCampaignProperties properties = this.fineractProperties.getSmsCampaign();
+        return properties == null || properties.getBatchSize() <= 0 ? 1000 : properties.getBatchSize();
+    }
+
+    private int getThreadCount() {
+        final FineractProperties.FineractSmsCampaignProperties properties = this.fineractProperties.getSmsCampaign();
+        return properties == null ? 1 : Math.max(1, properties.getThreadCount());
+    }
+}
@@ -21,13 +21,9 @@ package org.apache.fineract.infrastructure.campaigns.sms.service;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.mustachejava.DefaultMustacheFactory;
 import com.github.mustachejava.Mustache;
-import com.github.mustachejava.MustacheFactory;
 import com.google.gson.JsonElement;
 import java.io.IOException;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -36,7 +32,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -103,6 +98,7 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
     private final FromJsonHelper fromJsonHelper;
 
     private final SmsMessageScheduledJobService smsMessageScheduledJobService;
+    private final SmsCampaignMessageGenerator smsCampaignMessageGenerator;
 
     @Transactional
     @Override
@@ -184,32 +180,10 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
     @Override
     public void insertDirectCampaignIntoSmsOutboundTable(SmsCampaign smsCampaign) {
         try {
-            HashMap<String, String> campaignParams = new ObjectMapper().readValue(smsCampaign.getParamValue(), new TypeReference<>() {});
-
             HashMap<String, String> queryParamForRunReport = new ObjectMapper().readValue(smsCampaign.getParamValue(),
                     new TypeReference<>() {});
 
-            List<HashMap<String, Object>> runReportObject = getRunReportByServiceImpl(campaignParams.get("reportName"),
-                    queryParamForRunReport);
-
-            if (runReportObject != null) {
-                for (HashMap<String, Object> entry : runReportObject) {
-                    String textMessage = compileSmsTemplate(smsCampaign.getMessage(), smsCampaign.getCampaignName(), entry);
-                    Integer clientId = (Integer) entry.get("id");
-                    Object mobileNo = entry.get("mobileNo");
-
-                    Client client = clientRepositoryWrapper.findOneWithNotFoundDetection(clientId.longValue());
-                    if (smsCampaignValidator.isValidNotificationOrSms(client, smsCampaign, mobileNo)) {
-                        String mobileNumber = null;
-                        if (mobileNo != null) {
-                            mobileNumber = mobileNo.toString();
-                        }
-                        SmsMessage smsMessage = SmsMessage.pendingSms(null, null, client, null, textMessage, mobileNumber, smsCampaign,
-                                smsCampaign.isNotification());
-                        smsMessageRepository.save(smsMessage);
-                    }
-                }
-            }
+            this.smsCampaignMessageGenerator.enqueueMessages(smsCampaign, queryParamForRunReport);
         } catch (final IOException e) {
             log.error("Error occurred.", e);
         }
@@ -431,13 +405,8 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
 
     @Override
     public String compileSmsTemplate(final String textMessageTemplate, final String campaignName, final Map<String, Object> smsParams) {
-        final MustacheFactory mf = new DefaultMustacheFactory();
-        final Mustache mustache = mf.compile(new StringReader(textMessageTemplate), campaignName);
-
-        final StringWriter stringWriter = new StringWriter();
-        mustache.execute(stringWriter, smsParams);
-
-        return stringWriter.toString();
+        final Mustache mustache = this.smsCampaignMessageGenerator.compile(textMessageTemplate, campaignName);
+        return this.smsCampaignMessageGenerator.render(mustache, smsParams);
     }
 
     private List<HashMap<String, Object>> getRunReportByServiceImpl(final String reportName, final Map<String, String> queryParams)
@@ -455,19 +424,8 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
             log.warn("Conversion of report query results to JSON failed", e);
             return resultList;
         }
-        // loop changes array date to string date
-        for (Iterator<HashMap<String, Object>> iter = resultList.iterator(); iter.hasNext();) {
-            HashMap<String, Object> entry = iter.next();
-            for (Iterator<Map.Entry<String, Object>> it = entry.entrySet().iterator(); it.hasNext();) {
-                Map.Entry<String, Object> map = it.next();
-                String key = map.getKey();
-                Object ob = map.getValue();
-                if (ob instanceof ArrayList && ((ArrayList) ob).size() == 3) {
-                    String changeArrayDateToStringDate = ((ArrayList) ob).get(2).toString() + "-" + ((ArrayList) ob).get(1).toString() + "-"
-                            + ((ArrayList) ob).get(0).toString();
-                    entry.put(key, changeArrayDateToStringDate);
-                }
-            }
+        for (HashMap<String, Object> entry : resultList) {
+            SmsCampaignMessageGenerator.normalizeReportRow(entry);
         }
         return resultList;
     }
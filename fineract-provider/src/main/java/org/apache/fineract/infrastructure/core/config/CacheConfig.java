@@ -61,6 +61,11 @@ public class CacheConfig {
         cacheManager.createCache("codes", defaultTemplate);
         cacheManager.createCache("hooks", defaultTemplate);
         cacheManager.createCache("tfConfig", defaultTemplate);
+        cacheManager.createCache("configByName", defaultTemplate);
+        cacheManager.createCache("payment_types", defaultTemplate);
+        cacheManager.createCache("paymentTypesWithCode", defaultTemplate);
+        cacheManager.createCache("tellers", defaultTemplate);
+        cacheManager.createCache("businessCalendars", defaultTemplate);
 
         javax.cache.configuration.Configuration<Object, Object> accessTokenTemplate = Eh107Configuration.fromEhcacheCacheConfiguration(
                 CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(10000))
@@ -68,6 +73,14 @@ public class CacheConfig {
 
         cacheManager.createCache("userTFAccessToken", accessTokenTemplate);
 
+        // schedule previews also depend on data without an eviction hook (e.g. configuration, floating rates)
+        javax.cache.configuration.Configuration<Object, Object> loanScheduleQuoteTemplate = Eh107Configuration
+                .fromEhcacheCacheConfiguration(
+                        CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(2000))
+                                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofMinutes(10))).build());
+
+        cacheManager.createCache("loanScheduleQuotes", loanScheduleQuoteTemplate);
+
         return cacheManager;
     }
 }
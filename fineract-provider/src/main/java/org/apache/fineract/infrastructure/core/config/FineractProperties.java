@@ -47,6 +47,20 @@ public class FineractProperties {
 
     private FineractContentProperties content;
 
+    private FineractCacheProperties cache;
+
+    private FineractCobExecutionSummaryProperties cobExecutionSummary;
+
+    private FineractBulkImportProperties bulkImport;
+
+    private FineractLoanScheduleQuoteProperties loanScheduleQuote;
+
+    private FineractShareDividendPostingProperties shareDividendPosting;
+
+    private FineractSmsCampaignProperties smsCampaign;
+
+    private FineractAsyncRequestProperties asyncRequest;
+
     @Getter
     @Setter
     public static class FineractTenantProperties {
@@ -138,7 +152,9 @@ public class FineractProperties {
     public static class FineractExternalEventsProperties {
 
         private boolean enabled;
+        private boolean deferUntilCommit;
         private FineractExternalEventsProducerProperties producer;
+        private FineractExternalEventsPurgeProperties purge;
     }
 
     @Getter
@@ -158,6 +174,23 @@ public class FineractProperties {
         private String brokerUrl;
     }
 
+    @Getter
+    @Setter
+    public static class FineractExternalEventsPurgeProperties {
+
+        private int batchSize;
+        private long pauseMillis;
+        private FineractExternalEventsPurgeArchiveProperties archive;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractExternalEventsPurgeArchiveProperties {
+
+        private boolean enabled;
+        private String directory;
+    }
+
     @Getter
     @Setter
     public static class FineractContentProperties {
@@ -168,6 +201,7 @@ public class FineractProperties {
         private List<String> mimeWhitelist;
         private FineractContentFilesystemProperties filesystem;
         private FineractContentS3Properties s3;
+        private FineractContentImageCacheProperties imageCache;
     }
 
     @Getter
@@ -176,6 +210,16 @@ public class FineractProperties {
 
         private Boolean enabled;
         private String rootFolder;
+        private Boolean contentAddressed;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractContentImageCacheProperties {
+
+        private Boolean enabled;
+        private String folder;
+        private Long maxSizeInMb;
     }
 
     @Getter
@@ -187,4 +231,79 @@ public class FineractProperties {
         private String accessKey;
         private String secretKey;
     }
+
+    @Getter
+    @Setter
+    public static class FineractCacheProperties {
+
+        private FineractCacheInvalidationProperties invalidation;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCacheInvalidationProperties {
+
+        private String bus;
+        private long pollIntervalMs;
+        private long retentionMinutes;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCobExecutionSummaryProperties {
+
+        private int retentionDays;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractBulkImportProperties {
+
+        private int threadCount;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractLoanScheduleQuoteProperties {
+
+        private int threadCount;
+        private int maxQuotes;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractShareDividendPostingProperties {
+
+        private int threadCount;
+        private int chunkSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSmsCampaignProperties {
+
+        private int threadCount;
+        private int batchSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractAsyncRequestProperties {
+
+        private boolean enabled;
+        private FineractAsyncRequestPoolProperties reports;
+        private FineractAsyncRequestPoolProperties exports;
+        private int maxJobs;
+        private long maxJobsSizeInMb;
+        private long jobRetentionMinutes;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractAsyncRequestPoolProperties {
+
+        private int threadCount;
+        private int queueCapacity;
+        private long timeoutSeconds;
+    }
 }
@@ -0,0 +1,320 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractAsyncRequestPoolProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractAsyncRequestProperties;
+import org.apache.fineract.infrastructure.core.exception.AsyncRequestJobNotFoundException;
+import org.apache.fineract.infrastructure.core.exception.PlatformServiceUnavailableException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs long-running requests (reports, template exports) on dedicated bounded executors, one per
+ * {@link AsyncRequestType}, instead of on the request threads of the servlet container.
+ *
+ * The tenant, the security context and the MDC (correlation id) of the request are propagated to the executing thread.
+ * When an executor and its queue are full the request is rejected with a 503 right away instead of waiting for a
+ * thread. With <code>fineract.async-request.enabled=false</code> everything runs on the request thread as before, only
+ * explicitly submitted jobs use the executors.
+ *
+ * Submitted jobs and their output are kept in the heap of this node until polled, bounded by
+ * <code>fineract.async-request.max-jobs</code> and <code>fineract.async-request.max-jobs-size-in-mb</code>. Behind a load
+ * balancer polling a job therefore requires sticky sessions.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncRequestExecutor {
+
+    private static final long MB = 1024L * 1024L;
+
+    private final FineractProperties fineractProperties;
+    private final Map<AsyncRequestType, ThreadPoolExecutor> executors = new EnumMap<>(AsyncRequestType.class);
+    private final Map<String, AsyncRequestJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong jobsSize = new AtomicLong();
+
+    @PostConstruct
+    public void initializeExecutors() {
+        final FineractAsyncRequestProperties properties = this.fineractProperties.getAsyncRequest();
+        this.executors.put(AsyncRequestType.REPORT, createExecutor("async-report-", properties == null ? null : properties.getReports()));
+        this.executors.put(AsyncRequestType.EXPORT, createExecutor("async-export-", properties == null ? null : properties.getExports()));
+    }
+
+    @PreDestroy
+    public void shutdownExecutors() {
+        this.executors.values().forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
+    public boolean isEnabled() {
+        final FineractAsyncRequestProperties properties = this.fineractProperties.getAsyncRequest();
+        return properties != null && properties.isEnabled();
+    }
+
+    /**
+     * Produces the response of a suspended request on the executor of the given type. The response is written by the
+     * executing thread as well, so that streamed entities are also produced off the request thread.
+     */
+    public void resume(final AsyncRequestType type, final AsyncResponse asyncResponse, final Supplier<Response> work) {
+        if (!isEnabled()) {
+            resumeWith(asyncResponse, work);
+            return;
+        }
+        final FutureTask<Void> task = new FutureTask<>(runWithRequestContext(() -> resumeWith(asyncResponse, work)), null);
+        final long timeoutSeconds = poolProperties(type) == null ? 0 : poolProperties(type).getTimeoutSeconds();
+        if (timeoutSeconds > 0) {
+            asyncResponse.setTimeout(timeoutSeconds, TimeUnit.SECONDS);
+            asyncResponse.setTimeoutHandler(response -> {
+                response.resume(serviceUnavailable(type, "timed out"));
+                // nobody waits for the response anymore, so stop producing it (or do not start if it is still queued)
+                task.cancel(true);
+            });
+        }
+        try {
+            this.executors.get(type).execute(task);
+        } catch (RejectedExecutionException e) {
+            asyncResponse.resume(serviceUnavailable(type, "rejected, too many requests are in progress"));
+        }
+    }
+
+    /**
+     * Runs the work on the executor of the given type and waits for its result, bounding how many request threads can
+     * be busy with this type of work. Used where the endpoint itself cannot be suspended.
+     */
+    public <T> T call(final AsyncRequestType type, final Supplier<T> work) {
+        if (!isEnabled()) {
+            return work.get();
+        }
+        final Future<T> future;
+        try {
+            future = this.executors.get(type).submit(ContextPropagatingExecutor.withContext(work)::get);
+        } catch (RejectedExecutionException e) {
+            throw serviceUnavailable(type, "rejected, too many requests are in progress");
+        }
+        final long timeoutSeconds = poolProperties(type) == null ? 0 : poolProperties(type).getTimeoutSeconds();
+        try {
+            return timeoutSeconds > 0 ? future.get(timeoutSeconds, TimeUnit.SECONDS) : future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Waiting for the " + type + " request was interrupted", e);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw serviceUnavailable(type, "timed out");
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Submits the work as a job which can be polled with {@link #getJobResult(String, Long)} by the same user. Streamed
+     * entities are materialized by the job, so the polling request does not run the work again.
+     */
+    public String submitJob(final AsyncRequestType type, final Long ownerId, final Supplier<Response> work) {
+        purgeExpiredJobs();
+        final FineractAsyncRequestProperties properties = this.fineractProperties.getAsyncRequest();
+        if (properties != null && properties.getMaxJobs() > 0 && this.jobs.size() >= properties.getMaxJobs()) {
+            throw serviceUnavailable(type, "rejected, too many jobs are pending");
+        }
+        if (this.jobsSize.get() >= maxJobsSize()) {
+            throw serviceUnavailable(type, "rejected, the output of the pending jobs is too large");
+        }
+        final String jobId = UUID.randomUUID().toString();
+        final AsyncRequestJob job = new AsyncRequestJob(ownerId);
+        try {
+            final Supplier<Response> materializedWork = ContextPropagatingExecutor.withContext(() -> {
+                try {
+                    final Response response = materialize(work.get());
+                    reserve(job, sizeOf(response), type);
+                    return response;
+                } finally {
+                    job.finishedAt = System.currentTimeMillis();
+                }
+            });
+            job.future = this.executors.get(type).submit(materializedWork::get);
+        } catch (RejectedExecutionException e) {
+            throw serviceUnavailable(type, "rejected, too many requests are in progress");
+        }
+        this.jobs.put(jobId, job);
+        return jobId;
+    }
+
+    /**
+     * Returns the response of a finished job, which is then forgotten, or <code>null</code> while the job is still
+     * running.
+     */
+    public Response getJobResult(final String jobId, final Long ownerId) {
+        purgeExpiredJobs();
+        final AsyncRequestJob job = this.jobs.get(jobId);
+        if (job == null || !Objects.equals(job.ownerId, ownerId)) {
+            throw new AsyncRequestJobNotFoundException(jobId);
+        }
+        if (!job.future.isDone()) {
+            return null;
+        }
+        if (this.jobs.remove(jobId, job)) {
+            release(job);
+        }
+        try {
+            return job.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reading the result of job " + jobId + " was interrupted", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private void purgeExpiredJobs() {
+        final FineractAsyncRequestProperties properties = this.fineractProperties.getAsyncRequest();
+        if (properties == null || properties.getJobRetentionMinutes() <= 0) {
+            return;
+        }
+        final long expiredBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(properties.getJobRetentionMinutes());
+        this.jobs.forEach((jobId, job) -> {
+            if (job.finishedAt > 0 && job.finishedAt < expiredBefore && this.jobs.remove(jobId, job)) {
+                release(job);
+            }
+        });
+    }
+
+    private long maxJobsSize() {
+        final FineractAsyncRequestProperties properties = this.fineractProperties.getAsyncRequest();
+        return properties == null || properties.getMaxJobsSizeInMb() <= 0 ? Long.MAX_VALUE : properties.getMaxJobsSizeInMb() * MB;
+    }
+
+    private void reserve(final AsyncRequestJob job, final long size, final AsyncRequestType type) {
+        if (this.jobsSize.addAndGet(size) > maxJobsSize()) {
+            this.jobsSize.addAndGet(-size);
+            throw serviceUnavailable(type, "rejected, its output does not fit into the space left for pending jobs");
+        }
+        job.size = size;
+    }
+
+    private void release(final AsyncRequestJob job) {
+        this.jobsSize.addAndGet(-job.size);
+    }
+
+    private static long sizeOf(final Response response) {
+        final Object entity = response.getEntity();
+        if (entity instanceof byte[]) {
+            return ((byte[]) entity).length;
+        }
+        if (entity instanceof String) {
+            return ((String) entity).length();
+        }
+        return 0;
+    }
+
+    private void resumeWith(final AsyncResponse asyncResponse, final Supplier<Response> work) {
+        try {
+            asyncResponse.resume(work.get());
+        } catch (RuntimeException e) {
+            asyncResponse.resume(e);
+        }
+    }
+
+    private Response materialize(final Response response) {
+        if (!(response.getEntity() instanceof StreamingOutput)) {
+            return response;
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ((StreamingOutput) response.getEntity()).write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Response.fromResponse(response).entity(out.toByteArray()).build();
+    }
+
+    private static Runnable runWithRequestContext(final Runnable work) {
+        final Supplier<Void> supplier = ContextPropagatingExecutor.withContext(() -> {
+            work.run();
+            return null;
+        });
+        return supplier::get;
+    }
+
+    private FineractAsyncRequestPoolProperties poolProperties(final AsyncRequestType type) {
+        final FineractAsyncRequestProperties properties = this.fineractProperties.getAsyncRequest();
+        if (properties == null) {
+            return null;
+        }
+        return type == AsyncRequestType.REPORT ? properties.getReports() : properties.getExports();
+    }
+
+    private static ThreadPoolExecutor createExecutor(final String threadNamePrefix, final FineractAsyncRequestPoolProperties properties) {
+        final int threadCount = properties == null ? 1 : Math.max(1, properties.getThreadCount());
+        final int queueCapacity = properties == null ? 1 : Math.max(1, properties.getQueueCapacity());
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(threadNamePrefix));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static PlatformServiceUnavailableException serviceUnavailable(final AsyncRequestType type, final String reason) {
+        return new PlatformServiceUnavailableException("error.msg.async.request.unavailable",
+                "The " + type.name().toLowerCase() + " request was " + reason + ", please try again later", type.name());
+    }
+
+    private static RuntimeException unwrap(final ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+            return (RuntimeException) e.getCause();
+        }
+        return new IllegalStateException(e.getCause());
+    }
+
+    private static final class AsyncRequestJob {
+
+        private final Long ownerId;
+        private volatile Future<Response> future;
+        private volatile long finishedAt;
+        private volatile long size;
+
+        private AsyncRequestJob(final Long ownerId) {
+            this.ownerId = ownerId;
+        }
+    }
+}
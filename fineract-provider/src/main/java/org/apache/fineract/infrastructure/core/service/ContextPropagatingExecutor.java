@@ -0,0 +1,135 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.slf4j.MDC;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Runs tasks on a bounded number of threads, propagating the tenant, the security context and the MDC (correlation id)
+ * of the submitting thread to the thread running each task and clearing them again afterwards.
+ *
+ * An instance owns its threads: create one per run (for example per job execution) or per bean, reuse it for every
+ * batch and close it at the end. Idle threads are released after a minute, and batches submitted concurrently share
+ * the same bound. {@link #invokeAll(String, int, List)} runs a single batch on a throw-away instance.
+ */
+public final class ContextPropagatingExecutor implements AutoCloseable {
+
+    private final String name;
+    private final ExecutorService executorService;
+
+    private ContextPropagatingExecutor(final String name, final int threadCount) {
+        this.name = name;
+        final int poolSize = Math.max(1, threadCount);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory(name + "-"));
+        executor.allowCoreThreadTimeOut(true);
+        this.executorService = executor;
+    }
+
+    /**
+     * Creates an executor running at most <code>threadCount</code> tasks at a time. The name is used for the threads and
+     * in the messages of the exceptions thrown by {@link #invokeAll(List)}.
+     */
+    public static ContextPropagatingExecutor create(final String name, final int threadCount) {
+        return new ContextPropagatingExecutor(name, threadCount);
+    }
+
+    /**
+     * Runs the tasks on at most <code>threadCount</code> threads which are released again before returning.
+     */
+    public static <T> List<T> invokeAll(final String name, final int threadCount, final List<Supplier<T>> tasks) {
+        try (ContextPropagatingExecutor executor = create(name, Math.min(threadCount, tasks.size()))) {
+            return executor.invokeAll(tasks);
+        }
+    }
+
+    /**
+     * Runs the tasks in parallel and waits for all of them. The results are returned in the order of the tasks; when a
+     * task failed, the exception of the first failed task is rethrown (checked exceptions wrapped into an
+     * {@link IllegalStateException}).
+     */
+    public <T> List<T> invokeAll(final List<Supplier<T>> tasks) {
+        final List<Callable<T>> callables = new ArrayList<>(tasks.size());
+        for (final Supplier<T> task : tasks) {
+            callables.add(withContext(task)::get);
+        }
+        final List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (final Future<T> future : this.executorService.invokeAll(callables)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(this.name + " was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(this.name + " failed", e.getCause());
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        this.executorService.shutdownNow();
+    }
+
+    /**
+     * Captures the context of the calling thread and returns work which runs with that context on whatever thread it is
+     * executed.
+     */
+    public static <T> Supplier<T> withContext(final Supplier<T> work) {
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        final Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return () -> {
+            ThreadLocalContextUtil.init(context);
+            SecurityContextHolder.setContext(securityContext);
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                return work.get();
+            } finally {
+                MDC.clear();
+                SecurityContextHolder.clearContext();
+                ThreadLocalContextUtil.reset();
+            }
+        };
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.infrastructure.dataqueries.api;
 
+import com.google.gson.Gson;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -25,6 +26,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
@@ -32,6 +35,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
@@ -39,6 +44,8 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import org.apache.fineract.infrastructure.core.api.ApiParameterHelper;
 import org.apache.fineract.infrastructure.core.exception.PlatformServiceUnavailableException;
+import org.apache.fineract.infrastructure.core.service.AsyncRequestExecutor;
+import org.apache.fineract.infrastructure.core.service.AsyncRequestType;
 import org.apache.fineract.infrastructure.dataqueries.service.ReadReportingService;
 import org.apache.fineract.infrastructure.report.provider.ReportingProcessServiceProvider;
 import org.apache.fineract.infrastructure.report.service.ReportingProcessService;
@@ -57,17 +64,20 @@ import org.springframework.stereotype.Component;
 public class RunreportsApiResource {
 
     public static final String IS_SELF_SERVICE_USER_REPORT_PARAMETER = "isSelfServiceUserReport";
+    public static final String ASYNC_JOB_PARAMETER = "asyncJob";
 
     private final PlatformSecurityContext context;
     private final ReadReportingService readExtraDataAndReportingService;
     private final ReportingProcessServiceProvider reportingProcessServiceProvider;
+    private final AsyncRequestExecutor asyncRequestExecutor;
 
     @Autowired
     public RunreportsApiResource(final PlatformSecurityContext context, final ReadReportingService readExtraDataAndReportingService,
-            final ReportingProcessServiceProvider reportingProcessServiceProvider) {
+            final ReportingProcessServiceProvider reportingProcessServiceProvider, final AsyncRequestExecutor asyncRequestExecutor) {
         this.context = context;
         this.readExtraDataAndReportingService = readExtraDataAndReportingService;
         this.reportingProcessServiceProvider = reportingProcessServiceProvider;
+        this.asyncRequestExecutor = asyncRequestExecutor;
     }
 
     @GET
@@ -91,12 +101,16 @@ public class RunreportsApiResource {
             + "\n" + "\n"
             + "runreports/Expected%20Payments%20By%20Date%20-%20Formatted?R_endDate=2013-04-30&R_loanOfficerId=-1&R_officeId=1&R_startDate=2013-04-16&output-type=CSV&R_officeId=1\n"
             + "\n" + "\n"
-            + "runreports/Expected%20Payments%20By%20Date%20-%20Formatted?R_endDate=2013-04-30&R_loanOfficerId=-1&R_officeId=1&R_startDate=2013-04-16&output-type=PDF&R_officeId=1")
+            + "runreports/Expected%20Payments%20By%20Date%20-%20Formatted?R_endDate=2013-04-30&R_loanOfficerId=-1&R_officeId=1&R_startDate=2013-04-16&output-type=PDF&R_officeId=1\n"
+            + "\n" + "\n"
+            + "Adding \"&asyncJob=true\" runs the report in the background and returns a job id, the output is then fetched from runreports/jobs/{jobId}.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = RunreportsApiResourceSwagger.RunReportsResponse.class))) })
-    public Response runReport(@PathParam("reportName") @Parameter(description = "reportName") final String reportName,
+    public void runReport(@PathParam("reportName") @Parameter(description = "reportName") final String reportName,
             @Context final UriInfo uriInfo,
-            @DefaultValue("false") @QueryParam(IS_SELF_SERVICE_USER_REPORT_PARAMETER) @Parameter(description = IS_SELF_SERVICE_USER_REPORT_PARAMETER) final boolean isSelfServiceUserReport) {
+            @DefaultValue("false") @QueryParam(IS_SELF_SERVICE_USER_REPORT_PARAMETER) @Parameter(description = IS_SELF_SERVICE_USER_REPORT_PARAMETER) final boolean isSelfServiceUserReport,
+            @DefaultValue("false") @QueryParam(ASYNC_JOB_PARAMETER) @Parameter(description = ASYNC_JOB_PARAMETER) final boolean asyncJob,
+            @Suspended final AsyncResponse asyncResponse) {
 
         MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
         queryParams.putAll(uriInfo.getQueryParameters());
@@ -114,7 +128,32 @@ public class RunreportsApiResource {
             throw new PlatformServiceUnavailableException("err.msg.report.service.implementation.missing",
                     ReportingProcessServiceProvider.SERVICE_MISSING + reportType, reportType);
         }
-        return reportingProcessService.processRequest(reportName, queryParams);
+
+        if (asyncJob) {
+            final String jobId = this.asyncRequestExecutor.submitJob(AsyncRequestType.REPORT, this.context.authenticatedUser().getId(),
+                    () -> reportingProcessService.processRequest(reportName, queryParams));
+            asyncResponse.resume(jobStatus(jobId, "SUBMITTED"));
+            return;
+        }
+        this.asyncRequestExecutor.resume(AsyncRequestType.REPORT, asyncResponse,
+                () -> reportingProcessService.processRequest(reportName, queryParams));
+    }
+
+    @GET
+    @Path("jobs/{jobId}")
+    @Produces({ MediaType.APPLICATION_JSON, "text/csv", "application/vnd.ms-excel", "application/pdf", "text/html" })
+    @Operation(summary = "Retrieve the output of a report job", description = "Returns the output of a report started with \"asyncJob=true\" once it has finished, "
+            + "the output can be retrieved once. While the report is still running a 202 with the job status is returned.")
+    public Response retrieveReportJobResult(@PathParam("jobId") @Parameter(description = "jobId") final String jobId) {
+        final Response result = this.asyncRequestExecutor.getJobResult(jobId, this.context.authenticatedUser().getId());
+        return result == null ? jobStatus(jobId, "RUNNING") : result;
+    }
+
+    private Response jobStatus(final String jobId, final String status) {
+        final Map<String, String> jobStatus = new LinkedHashMap<>();
+        jobStatus.put("jobId", jobId);
+        jobStatus.put("status", status);
+        return Response.status(Response.Status.ACCEPTED).type(MediaType.APPLICATION_JSON).entity(new Gson().toJson(jobStatus)).build();
     }
 
     private void checkUserPermissionForReport(final String reportName, final boolean parameterType) {
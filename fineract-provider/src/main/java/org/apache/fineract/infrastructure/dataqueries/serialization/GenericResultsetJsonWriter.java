@@ -0,0 +1,243 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.serialization;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
+
+/**
+ * Writes generic resultset data as a JSON array of row objects (the non "genericResultSet" format of datatables and
+ * reports).
+ *
+ * Rows can either be taken from already materialized {@link GenericResultsetData}, or be written
+ * straight from a JDBC {@link ResultSet} using the typed getters, without boxing every cell into an intermediate list.
+ * Dates are written as <code>[year,month,day]</code> and date-times as
+ * <code>[year,month,day,hour,minute,second,nano]</code>, just like the Jackson/Gson serialization of the rest of the
+ * API.
+ */
+public final class GenericResultsetJsonWriter implements Closeable, Flushable {
+
+    enum ColumnKind {
+        NUMBER, DECIMAL, DATE, DATETIME, OTHER
+    }
+
+    private final JsonWriter jsonWriter;
+
+    public GenericResultsetJsonWriter(final Writer writer) {
+        this.jsonWriter = new JsonWriter(writer);
+        this.jsonWriter.setSerializeNulls(true);
+    }
+
+    /**
+     * Writes the complete JSON array for already materialized resultset data.
+     */
+    public void writeResultsetData(final GenericResultsetData resultsetData) throws IOException {
+        final List<ResultsetColumnHeaderData> columnHeaders = resultsetData.getColumnHeaders();
+        final ColumnKind[] kinds = resolveColumnKinds(columnHeaders);
+        this.jsonWriter.beginArray();
+        for (final ResultsetRowData rowData : resultsetData.getData()) {
+            final List<Object> row = rowData.getRow();
+            this.jsonWriter.beginObject();
+            for (int i = 0; i < row.size(); i++) {
+                this.jsonWriter.name(columnHeaders.get(i).getColumnName());
+                writeValue(kinds[i], row.get(i));
+            }
+            this.jsonWriter.endObject();
+        }
+        this.jsonWriter.endArray();
+    }
+
+    /**
+     * Writes the complete JSON array for all remaining rows of the result set; the result set is read forward-only and
+     * each row is written as soon as it is fetched.
+     *
+     * @return the number of rows written
+     */
+    public long writeResultSet(final ResultSet rs) throws SQLException, IOException {
+        final List<ResultsetColumnHeaderData> columnHeaders = columnHeaders(rs.getMetaData());
+        final ColumnKind[] kinds = resolveColumnKinds(columnHeaders);
+        final int columnCount = columnHeaders.size();
+
+        long rowCount = 0;
+        this.jsonWriter.beginArray();
+        while (rs.next()) {
+            this.jsonWriter.beginObject();
+            for (int i = 0; i < columnCount; i++) {
+                this.jsonWriter.name(columnHeaders.get(i).getColumnName());
+                writeValue(kinds[i], rs, i + 1);
+            }
+            this.jsonWriter.endObject();
+            rowCount++;
+        }
+        this.jsonWriter.endArray();
+        return rowCount;
+    }
+
+    public static List<ResultsetColumnHeaderData> columnHeaders(final ResultSetMetaData metaData) throws SQLException {
+        final int columnCount = metaData.getColumnCount();
+        final List<ResultsetColumnHeaderData> columnHeaders = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            columnHeaders.add(ResultsetColumnHeaderData.basic(metaData.getColumnLabel(i), metaData.getColumnTypeName(i)));
+        }
+        return columnHeaders;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.jsonWriter.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.jsonWriter.close();
+    }
+
+    private void writeValue(final ColumnKind kind, final ResultSet rs, final int columnIndex) throws SQLException, IOException {
+        switch (kind) {
+            case NUMBER:
+                final long longValue = rs.getLong(columnIndex);
+                if (rs.wasNull()) {
+                    this.jsonWriter.nullValue();
+                } else {
+                    this.jsonWriter.value(longValue);
+                }
+            break;
+            case DECIMAL:
+                final BigDecimal decimalValue = rs.getBigDecimal(columnIndex);
+                if (decimalValue == null) {
+                    this.jsonWriter.nullValue();
+                } else {
+                    this.jsonWriter.value(decimalValue);
+                }
+            break;
+            case DATE:
+                final Date dateValue = rs.getDate(columnIndex);
+                writeDate(dateValue == null ? null : dateValue.toLocalDate());
+            break;
+            case DATETIME:
+                final Timestamp timestampValue = rs.getTimestamp(columnIndex);
+                writeDateTime(timestampValue == null ? null : timestampValue.toLocalDateTime());
+            break;
+            default:
+                final Object value = rs.getObject(columnIndex);
+                if (value == null) {
+                    this.jsonWriter.nullValue();
+                } else {
+                    this.jsonWriter.value(String.valueOf(value));
+                }
+            break;
+        }
+    }
+
+    private void writeValue(final ColumnKind kind, final Object value) throws IOException {
+        if (value == null) {
+            this.jsonWriter.nullValue();
+        } else if ((kind == ColumnKind.NUMBER || kind == ColumnKind.DECIMAL) && value instanceof Number) {
+            this.jsonWriter.value((Number) value);
+        } else if (kind == ColumnKind.DATE && value instanceof LocalDate) {
+            writeDate((LocalDate) value);
+        } else if (kind == ColumnKind.DATETIME && value instanceof LocalDateTime) {
+            writeDateTime((LocalDateTime) value);
+        } else {
+            this.jsonWriter.value(String.valueOf(value));
+        }
+    }
+
+    private void writeDate(final LocalDate localDate) throws IOException {
+        if (localDate == null) {
+            this.jsonWriter.nullValue();
+            return;
+        }
+        this.jsonWriter.beginArray();
+        this.jsonWriter.value(localDate.getYear());
+        this.jsonWriter.value(localDate.getMonthValue());
+        this.jsonWriter.value(localDate.getDayOfMonth());
+        this.jsonWriter.endArray();
+    }
+
+    private void writeDateTime(final LocalDateTime localDateTime) throws IOException {
+        if (localDateTime == null) {
+            this.jsonWriter.nullValue();
+            return;
+        }
+        this.jsonWriter.beginArray();
+        this.jsonWriter.value(localDateTime.getYear());
+        this.jsonWriter.value(localDateTime.getMonthValue());
+        this.jsonWriter.value(localDateTime.getDayOfMonth());
+        this.jsonWriter.value(localDateTime.getHour());
+        this.jsonWriter.value(localDateTime.getMinute());
+        this.jsonWriter.value(localDateTime.getSecond());
+        this.jsonWriter.value(localDateTime.getNano());
+        this.jsonWriter.endArray();
+    }
+
+    static ColumnKind[] resolveColumnKinds(final List<ResultsetColumnHeaderData> columnHeaders) {
+        final ColumnKind[] kinds = new ColumnKind[columnHeaders.size()];
+        for (int i = 0; i < kinds.length; i++) {
+            kinds[i] = resolveColumnKind(columnHeaders.get(i));
+        }
+        return kinds;
+    }
+
+    private static ColumnKind resolveColumnKind(final ResultsetColumnHeaderData columnHeader) {
+        String displayType = columnHeader.getColumnDisplayType();
+        final String columnType = columnHeader.getColumnType();
+        if (displayType == null && columnType != null) {
+            if ("INT".equalsIgnoreCase(columnType)) {
+                displayType = "INTEGER";
+            } else if ("DATE".equalsIgnoreCase(columnType)) {
+                displayType = "DATE";
+            } else if ("DATETIME".equalsIgnoreCase(columnType)) {
+                displayType = "DATETIME";
+            }
+        }
+        if (displayType == null) {
+            return ColumnKind.OTHER;
+        }
+        switch (displayType.toUpperCase()) {
+            case "INTEGER":
+            case "CODELOOKUP":
+                return ColumnKind.NUMBER;
+            case "DECIMAL":
+                return ColumnKind.DECIMAL;
+            case "DATE":
+                return ColumnKind.DATE;
+            case "DATETIME":
+                return ColumnKind.DATETIME;
+            default:
+                return ColumnKind.OTHER;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.serialization;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.serialization.GenericResultsetJsonWriter.ColumnKind;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Maps result set rows to the same maps Jackson reads back from the output of {@link GenericResultsetJsonWriter}, so
+ * that callers processing report rows one by one get identical values without the JSON round trip: integers as
+ * <code>Integer</code> or <code>Long</code>, decimals as <code>Double</code> (or an integer when they have no
+ * fraction), dates and date-times as lists of their fields and everything else as strings.
+ *
+ * The column kinds are resolved from the metadata of the first row, so an instance must only be used for one result
+ * set.
+ */
+public final class GenericResultsetRowMapper implements RowMapper<Map<String, Object>> {
+
+    private List<ResultsetColumnHeaderData> columnHeaders;
+    private ColumnKind[] kinds;
+
+    @Override
+    public Map<String, Object> mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+        if (this.columnHeaders == null) {
+            this.columnHeaders = GenericResultsetJsonWriter.columnHeaders(rs.getMetaData());
+            this.kinds = GenericResultsetJsonWriter.resolveColumnKinds(this.columnHeaders);
+        }
+        final Map<String, Object> row = new HashMap<>();
+        for (int i = 0; i < this.kinds.length; i++) {
+            row.put(this.columnHeaders.get(i).getColumnName(), readValue(this.kinds[i], rs, i + 1));
+        }
+        return row;
+    }
+
+    private static Object readValue(final ColumnKind kind, final ResultSet rs, final int columnIndex) throws SQLException {
+        switch (kind) {
+            case NUMBER:
+                final long longValue = rs.getLong(columnIndex);
+                if (rs.wasNull()) {
+                    return null;
+                }
+                return longValue == (int) longValue ? Integer.valueOf((int) longValue) : Long.valueOf(longValue);
+            case DECIMAL:
+                final BigDecimal decimalValue = rs.getBigDecimal(columnIndex);
+                return decimalValue == null ? null : readNumber(decimalValue.toString());
+            case DATE:
+                final Date dateValue = rs.getDate(columnIndex);
+                if (dateValue == null) {
+                    return null;
+                }
+                final LocalDate localDate = dateValue.toLocalDate();
+                return new ArrayList<>(List.of(localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth()));
+            case DATETIME:
+                final Timestamp timestampValue = rs.getTimestamp(columnIndex);
+                if (timestampValue == null) {
+                    return null;
+                }
+                final LocalDateTime localDateTime = timestampValue.toLocalDateTime();
+                return new ArrayList<>(List.of(localDateTime.getYear(), localDateTime.getMonthValue(), localDateTime.getDayOfMonth(),
+                        localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(), localDateTime.getNano()));
+            default:
+                final Object value = rs.getObject(columnIndex);
+                return value == null ? null : String.valueOf(value);
+        }
+    }
+
+    private static Object readNumber(final String text) {
+        if (text.indexOf('.') >= 0 || text.indexOf('E') >= 0 || text.indexOf('e') >= 0) {
+            return Double.valueOf(text);
+        }
+        final BigInteger value = new BigInteger(text);
+        if (value.bitLength() < Integer.SIZE) {
+            return value.intValue();
+        }
+        return value.bitLength() < Long.SIZE ? (Object) value.longValue() : value;
+    }
+}
@@ -42,14 +42,12 @@ public class DatatableReportingProcessService implements ReportingProcessService
 
     private final ReadReportingService readExtraDataAndReportingService;
     private final ToApiJsonSerializer<ReportData> toApiJsonSerializer;
-    private final GenericDataService genericDataService;
 
     @Autowired
     public DatatableReportingProcessService(final ReadReportingService readExtraDataAndReportingService,
-            final GenericDataService genericDataService, final ToApiJsonSerializer<ReportData> toApiJsonSerializer) {
+            final ToApiJsonSerializer<ReportData> toApiJsonSerializer) {
         this.readExtraDataAndReportingService = readExtraDataAndReportingService;
         this.toApiJsonSerializer = toApiJsonSerializer;
-        this.genericDataService = genericDataService;
     }
 
     @Override
@@ -80,22 +78,18 @@ public class DatatableReportingProcessService implements ReportingProcessService
         if (!exportCsv) {
             final Map<String, String> reportParams = getReportParams(queryParams);
 
-            final GenericResultsetData result = this.readExtraDataAndReportingService.retrieveGenericResultset(reportName,
-                    parameterTypeValue, reportParams, isSelfServiceUserReport);
-
-            String json;
             final boolean genericResultSetIsPassed = ApiParameterHelper.genericResultSetPassed(queryParams);
             final boolean genericResultSet = ApiParameterHelper.genericResultSet(queryParams);
-            if (genericResultSetIsPassed) {
-                if (genericResultSet) {
-                    json = this.toApiJsonSerializer.serializePretty(prettyPrint, result);
-                } else {
-                    json = this.genericDataService.generateJsonFromGenericResultsetData(result);
-                }
-            } else {
-                json = this.toApiJsonSerializer.serializePretty(prettyPrint, result);
+            if (genericResultSetIsPassed && !genericResultSet) {
+                final StreamingOutput result = this.readExtraDataAndReportingService.retrieveReportJson(reportName, parameterTypeValue,
+                        reportParams, isSelfServiceUserReport);
+                return Response.ok().entity(result).type(MediaType.APPLICATION_JSON).build();
             }
 
+            final GenericResultsetData result = this.readExtraDataAndReportingService.retrieveGenericResultset(reportName,
+                    parameterTypeValue, reportParams, isSelfServiceUserReport);
+            final String json = this.toApiJsonSerializer.serializePretty(prettyPrint, result);
+
             return Response.ok().entity(json).type(MediaType.APPLICATION_JSON).build();
         }
 
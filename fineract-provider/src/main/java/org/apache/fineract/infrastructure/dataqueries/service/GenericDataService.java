@@ -19,6 +19,9 @@
 package org.apache.fineract.infrastructure.dataqueries.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.ws.rs.core.StreamingOutput;
 import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
 import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
 
@@ -28,6 +31,20 @@ public interface GenericDataService {
 
     String generateJsonFromGenericResultsetData(GenericResultsetData grs);
 
+    /**
+     * Runs the query lazily when the returned output is written and streams every row straight from the JDBC result
+     * set to the response, in the same format as {@link #generateJsonFromGenericResultsetData(GenericResultsetData)}.
+     */
+    StreamingOutput streamJsonFromResultSet(String sql);
+
+    /**
+     * Runs the query and hands every row to the handler as soon as it is fetched, with the same values as the maps read
+     * back from {@link #generateJsonFromGenericResultsetData(GenericResultsetData)}.
+     *
+     * @return the number of rows handled
+     */
+    long streamRows(String sql, Consumer<Map<String, Object>> rowHandler);
+
     String replace(String str, String pattern, String replace);
 
     String wrapSQL(String sql);
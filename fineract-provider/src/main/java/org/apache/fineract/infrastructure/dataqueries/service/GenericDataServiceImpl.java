@@ -18,14 +18,19 @@
  */
 package org.apache.fineract.infrastructure.dataqueries.service;
 
-import static java.lang.String.format;
-
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import javax.sql.DataSource;
+import javax.ws.rs.core.StreamingOutput;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.exception.PlatformDataIntegrityException;
 import org.apache.fineract.infrastructure.core.service.RoutingDataSource;
@@ -36,9 +41,12 @@ import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeader
 import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnValueData;
 import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
 import org.apache.fineract.infrastructure.dataqueries.exception.DatatableNotFoundException;
+import org.apache.fineract.infrastructure.dataqueries.serialization.GenericResultsetJsonWriter;
+import org.apache.fineract.infrastructure.dataqueries.serialization.GenericResultsetRowMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.jdbc.support.rowset.SqlRowSetMetaData;
 import org.springframework.stereotype.Service;
@@ -47,7 +55,14 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class GenericDataServiceImpl implements GenericDataService {
 
+    /**
+     * Rows fetched per round trip when streaming report results; drivers honouring the fetch size (PostgreSQL inside a
+     * transaction, MySQL/MariaDB with useCursorFetch) then never hold the whole result in memory.
+     */
+    private static final int STREAMING_FETCH_SIZE = 1000;
+
     private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
     private final DataSource dataSource;
     private final DatabaseIndependentQueryService databaseIndependentQueryService;
 
@@ -57,6 +72,8 @@ public class GenericDataServiceImpl implements GenericDataService {
         this.dataSource = dataSource;
         this.databaseIndependentQueryService = databaseIndependentQueryService;
         this.jdbcTemplate = new JdbcTemplate(this.dataSource);
+        this.streamingJdbcTemplate = new JdbcTemplate(this.dataSource);
+        this.streamingJdbcTemplate.setFetchSize(STREAMING_FETCH_SIZE);
     }
 
     @Override
@@ -136,79 +153,53 @@ public class GenericDataServiceImpl implements GenericDataService {
 
     @Override
     public String generateJsonFromGenericResultsetData(final GenericResultsetData grs) {
+        final StringWriter writer = new StringWriter();
+        try (GenericResultsetJsonWriter jsonWriter = new GenericResultsetJsonWriter(writer)) {
+            jsonWriter.writeResultsetData(grs);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
 
-        final StringBuilder writer = new StringBuilder();
-
-        writer.append("[");
-
-        final List<ResultsetColumnHeaderData> columnHeaders = grs.getColumnHeaders();
-
-        final List<ResultsetRowData> data = grs.getData();
-        List<Object> row;
-        Integer rSize;
-        final String doubleQuote = "\"";
-        final String slashDoubleQuote = "\\\"";
-        String currColType;
-        Object currVal;
-
-        for (int i = 0; i < data.size(); i++) {
-            writer.append("\n{");
-
-            row = data.get(i).getRow();
-            rSize = row.size();
-            for (int j = 0; j < rSize; j++) {
-
-                writer.append(doubleQuote + columnHeaders.get(j).getColumnName() + doubleQuote + ": ");
-                currColType = columnHeaders.get(j).getColumnDisplayType();
-                final String colType = columnHeaders.get(j).getColumnType();
-                if (currColType == null && colType.equalsIgnoreCase("INT")) {
-                    currColType = "INTEGER";
-                }
-                if (currColType == null && colType.equalsIgnoreCase("VARCHAR")) {
-                    currColType = "VARCHAR";
-                }
-                if (currColType == null && colType.equalsIgnoreCase("DATE")) {
-                    currColType = "DATE";
-                }
-                if (currColType == null && colType.equalsIgnoreCase("DATETIME")) {
-                    currColType = "DATETIME";
-                }
-                currVal = row.get(j);
-                if (currVal != null && currColType != null) {
-                    if (currColType.equalsIgnoreCase("DECIMAL") || currColType.equalsIgnoreCase("INTEGER")
-                            || currColType.equalsIgnoreCase("CODELOOKUP")) {
-                        writer.append(currVal);
-                    } else {
-                        if (currColType.equalsIgnoreCase("DATE")) {
-                            final LocalDate localDate = (LocalDate) currVal;
-                            writer.append(format("[%d,%d,%d]", localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth()));
-                        } else if (currColType.equalsIgnoreCase("DATETIME")) {
-                            final LocalDateTime localDateTime = (LocalDateTime) currVal;
-                            writer.append(format("[%d,%d,%d,%d,%d,%d,%d]", localDateTime.getYear(), localDateTime.getMonthValue(),
-                                    localDateTime.getDayOfMonth(), localDateTime.getHour(), localDateTime.getMinute(),
-                                    localDateTime.getSecond(), localDateTime.getNano()));
-                        } else {
-                            writer.append(doubleQuote + replace(String.valueOf(currVal), doubleQuote, slashDoubleQuote) + doubleQuote);
-                        }
+    @Override
+    public StreamingOutput streamJsonFromResultSet(final String sql) {
+        return out -> {
+            final GenericResultsetJsonWriter jsonWriter = new GenericResultsetJsonWriter(
+                    new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+            try {
+                final Long rowCount = this.streamingJdbcTemplate.query(sql, rs -> { // NOSONAR
+                    try {
+                        return jsonWriter.writeResultSet(rs);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
                     }
-                } else {
-                    writer.append("null");
-                }
-                if (j < (rSize - 1)) {
-                    writer.append(",\n");
-                }
+                });
+                log.debug("Streamed {} rows as JSON", rowCount);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (DataAccessException e) {
+                log.error("Reporting error: {}", e.getMessage());
+                throw new PlatformDataIntegrityException("error.msg.report.unknown.data.integrity.issue", e.getClass().getName(), e);
             }
+            jsonWriter.flush();
+        };
+    }
 
-            if (i < (data.size() - 1)) {
-                writer.append("},");
-            } else {
-                writer.append("}");
-            }
+    @Override
+    public long streamRows(final String sql, final Consumer<Map<String, Object>> rowHandler) {
+        final GenericResultsetRowMapper rowMapper = new GenericResultsetRowMapper();
+        final long[] rowCount = { 0 };
+        try {
+            this.streamingJdbcTemplate.query(sql, (RowCallbackHandler) rs -> { // NOSONAR
+                rowHandler.accept(rowMapper.mapRow(rs, (int) rowCount[0]));
+                rowCount[0]++;
+            });
+        } catch (DataAccessException e) {
+            log.error("Reporting error: {}", e.getMessage());
+            throw new PlatformDataIntegrityException("error.msg.report.unknown.data.integrity.issue", e.getClass().getName(), e);
         }
-
-        writer.append("\n]");
-        return writer.toString();
-
+        return rowCount[0];
     }
 
     @Override
@@ -22,6 +22,7 @@ import java.io.ByteArrayOutputStream;
 import java.util.Collection;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Consumer;
 import javax.ws.rs.core.StreamingOutput;
 import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
 import org.apache.fineract.infrastructure.dataqueries.data.ReportData;
@@ -47,10 +48,22 @@ public interface ReadReportingService {
     GenericResultsetData retrieveGenericResultset(String name, String type, Map<String, String> extractedQueryParams,
             boolean isSelfServiceUserReport);
 
+    StreamingOutput retrieveReportJson(String name, String type, Map<String, String> extractedQueryParams,
+            boolean isSelfServiceUserReport);
+
     // TODO This is weird, could they not be using the retrieveGenericResultset() above after all?
     // needed for smsCampaign and emailCampaign jobs where securityContext is null
     GenericResultsetData retrieveGenericResultSetForSmsEmailCampaign(String name, String type, Map<String, String> extractedQueryParams);
 
+    /**
+     * Like {@link #retrieveGenericResultSetForSmsEmailCampaign(String, String, Map)}, but streams the rows to the handler
+     * instead of materializing the whole result.
+     *
+     * @return the number of rows handled
+     */
+    long streamResultSetForSmsEmailCampaign(String name, String type, Map<String, String> extractedQueryParams,
+            Consumer<Map<String, Object>> rowHandler);
+
     // TODO kill this when tackling https://issues.apache.org/jira/browse/FINERACT-1264
     ByteArrayOutputStream generatePentahoReportAsOutputStream(String reportName, String outputTypeParam, Map<String, String> queryParams,
             Locale locale, AppUser runReportAsUser, StringBuilder errorLog);
@@ -36,6 +36,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import javax.ws.rs.core.StreamingOutput;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -172,6 +173,14 @@ public class ReadReportingServiceImpl implements ReadReportingService {
         return result;
     }
 
+    @Override
+    public StreamingOutput retrieveReportJson(final String name, final String type, final Map<String, String> queryParams,
+            final boolean isSelfServiceUserReport) {
+        // resolve the SQL (and with it the current user) eagerly, only the query execution is deferred to the writer
+        final String sql = getSQLtoRun(name, type, queryParams, isSelfServiceUserReport);
+        return this.genericDataService.streamJsonFromResultSet(sql);
+    }
+
     private String getSQLtoRun(final String name, final String type, final Map<String, String> queryParams,
             final boolean isSelfServiceUserReport) {
 
@@ -496,6 +505,20 @@ public class ReadReportingServiceImpl implements ReadReportingService {
         return result;
     }
 
+    @Override
+    public long streamResultSetForSmsEmailCampaign(final String name, final String type, final Map<String, String> queryParams,
+            final Consumer<Map<String, Object>> rowHandler) {
+        final long startTime = System.currentTimeMillis();
+        log.debug("STARTING REPORT: {}   Type: {}", name, type);
+
+        final String sql = sqlToRunForSmsEmailCampaign(name, type, queryParams);
+        final long rowCount = this.genericDataService.streamRows(sql, rowHandler);
+
+        final long elapsed = System.currentTimeMillis() - startTime;
+        log.debug("FINISHING Report/Request Name: {} - {}     Rows: {}     Elapsed Time: {}", name, type, rowCount, elapsed);
+        return rowCount;
+    }
+
     private String sqlToRunForSmsEmailCampaign(final String name, final String type, final Map<String, String> queryParams) {
         String sql = getSql(name, type);
 
@@ -19,10 +19,16 @@
 package org.apache.fineract.infrastructure.documentmanagement.api;
 
 import com.google.common.io.ByteSource;
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.StreamingOutput;
 import org.apache.fineract.infrastructure.documentmanagement.data.FileData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,26 +42,198 @@ final class ContentResources {
 
     private static final Logger LOG = LoggerFactory.getLogger(ContentResources.class);
 
+    private static final int STATUS_RANGE_NOT_SATISFIABLE = 416;
+
+    /**
+     * A single byte range of the content, both ends inclusive.
+     */
+    static final class ByteRange {
+
+        static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+        private final long first;
+        private final long last;
+
+        ByteRange(final long first, final long last) {
+            this.first = first;
+            this.last = last;
+        }
+
+        long getFirst() {
+            return this.first;
+        }
+
+        long getLast() {
+            return this.last;
+        }
+
+        long length() {
+            return this.last - this.first + 1;
+        }
+    }
+
     private ContentResources() {}
 
     static Response fileDataToResponse(FileData fileData, String fileName, String dispositionType) {
-        ResponseBuilder response;
-        try {
-            ByteSource byteSource = fileData.getByteSource();
-            // TODO Where is this InputStream closed?! It needs to be AFTER it's read by JAX-RS.. how to do that?
-            InputStream is = byteSource.openBufferedStream();
-            response = Response.ok(is);
-            response.header("Content-Disposition", dispositionType + "; filename=\"" + fileName + "\"");
-            response.header("Content-Length", byteSource.sizeIfKnown().or(-1L));
-            response.header("Content-Type", fileData.contentType());
-        } catch (IOException e) {
-            LOG.error("resizedImage.getByteSource().openBufferedStream() failed", e);
-            response = Response.serverError();
+        return fileDataToResponse(fileData, fileName, dispositionType, null);
+    }
+
+    static Response fileDataToResponse(FileData fileData, String dispositionType) {
+        return fileDataToResponse(fileData, fileData.name(), dispositionType, null);
+    }
+
+    static Response fileDataToResponse(FileData fileData, String dispositionType, HttpHeaders httpHeaders) {
+        return fileDataToResponse(fileData, fileData.name(), dispositionType, httpHeaders);
+    }
+
+    /**
+     * Builds the download response. When request headers are given, <code>If-None-Match</code> is answered with
+     * <code>304 Not Modified</code> for a matching entity tag, and a single <code>Range</code> (honoured only if an
+     * <code>If-Range</code> tag matches) is answered with <code>206 Partial Content</code>. The content is only opened
+     * when JAX-RS writes the response, and closed right after; a file which does not exist is answered with
+     * <code>404 Not Found</code> right away.
+     */
+    static Response fileDataToResponse(FileData fileData, String fileName, String dispositionType, HttpHeaders httpHeaders) {
+        if (fileData.getFile() != null && !fileData.getFile().isFile()) {
+            LOG.error("File {} of {} does not exist", fileData.getFile(), fileName);
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        final long size = size(fileData);
+        final String entityTag = fileData.getEntityTag();
+        if (isNotModified(httpHeaders, entityTag)) {
+            return Response.notModified().header(HttpHeaders.ETAG, entityTag).build();
+        }
+
+        ByteRange range = null;
+        if (httpHeaders != null && size >= 0) {
+            final String ifRange = httpHeaders.getHeaderString("If-Range");
+            if (ifRange == null || (entityTag != null && matches(ifRange, entityTag, false))) {
+                range = parseRange(httpHeaders.getHeaderString("Range"), size);
+            }
+        }
+        if (range == ByteRange.UNSATISFIABLE) {
+            return Response.status(STATUS_RANGE_NOT_SATISFIABLE).header("Content-Range", "bytes */" + size).build();
+        }
+
+        final ResponseBuilder response;
+        if (range == null) {
+            response = Response.ok(body(fileData, 0, size));
+            if (size >= 0) {
+                response.header("Content-Length", size);
+            }
+        } else {
+            response = Response.status(Response.Status.PARTIAL_CONTENT).entity(body(fileData, range.getFirst(), range.length()));
+            response.header("Content-Length", range.length());
+            response.header("Content-Range", "bytes " + range.getFirst() + "-" + range.getLast() + "/" + size);
+        }
+        response.header("Content-Disposition", dispositionType + "; filename=\"" + fileName + "\"");
+        response.header("Content-Type", fileData.contentType());
+        if (size >= 0) {
+            response.header("Accept-Ranges", "bytes");
+        }
+        if (entityTag != null) {
+            response.header(HttpHeaders.ETAG, entityTag);
         }
         return response.build();
     }
 
-    static Response fileDataToResponse(FileData fileData, String dispositionType) {
-        return fileDataToResponse(fileData, fileData.name(), dispositionType);
+    /**
+     * Parses a <code>Range</code> header for content of the given size. Returns <code>null</code> when the whole content
+     * should be sent (no header, a syntax error or multiple ranges, which are not supported) and
+     * {@link ByteRange#UNSATISFIABLE} when the range starts beyond the content or the content is empty.
+     */
+    static ByteRange parseRange(final String rangeHeader, final long size) {
+        if (rangeHeader == null || !rangeHeader.startsWith("bytes=") || rangeHeader.indexOf(',') >= 0) {
+            return null;
+        }
+        final String spec = rangeHeader.substring("bytes=".length()).trim();
+        final int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            final String firstText = spec.substring(0, dash).trim();
+            final String lastText = spec.substring(dash + 1).trim();
+            if (firstText.isEmpty()) {
+                // suffix range: the last n bytes
+                final long suffixLength = Long.parseLong(lastText);
+                if (suffixLength <= 0 || size == 0) {
+                    return ByteRange.UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(0, size - suffixLength), size - 1);
+            }
+            final long first = Long.parseLong(firstText);
+            final long last = lastText.isEmpty() ? size - 1 : Math.min(Long.parseLong(lastText), size - 1);
+            if (first < 0 || (!lastText.isEmpty() && Long.parseLong(lastText) < first)) {
+                return null;
+            }
+            return first >= size ? ByteRange.UNSATISFIABLE : new ByteRange(first, last);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether the <code>If-None-Match</code> header of the request matches the entity tag.
+     */
+    static boolean isNotModified(final HttpHeaders httpHeaders, final String entityTag) {
+        return httpHeaders != null && entityTag != null && matches(httpHeaders.getHeaderString(HttpHeaders.IF_NONE_MATCH), entityTag, true);
+    }
+
+    private static boolean matches(final String header, final String entityTag, final boolean weakComparison) {
+        if (header == null) {
+            return false;
+        }
+        if (weakComparison && "*".equals(header.trim())) {
+            return true;
+        }
+        if (!weakComparison && entityTag.startsWith("W/")) {
+            return false;
+        }
+        final String opaqueTag = entityTag.startsWith("W/") ? entityTag.substring(2) : entityTag;
+        for (final String candidate : header.split(",")) {
+            final String trimmed = candidate.trim();
+            if (weakComparison ? opaqueTag.equals(trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed) : entityTag.equals(trimmed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long size(final FileData fileData) {
+        if (fileData.getFile() != null) {
+            return fileData.getFile().length();
+        }
+        return fileData.getByteSource().sizeIfKnown().or(-1L);
+    }
+
+    private static StreamingOutput body(final FileData fileData, final long offset, final long length) {
+        final File file = fileData.getFile();
+        if (file != null) {
+            return out -> {
+                try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                    // the target channel is not closed, JAX-RS closes the underlying response stream
+                    final WritableByteChannel target = Channels.newChannel(out);
+                    long position = offset;
+                    final long end = offset + length;
+                    while (position < end) {
+                        final long transferred = channel.transferTo(position, end - position, target);
+                        if (transferred <= 0) {
+                            throw new IOException("File " + file + " ended before " + end + " bytes were written");
+                        }
+                        position += transferred;
+                    }
+                }
+            };
+        }
+        return out -> {
+            final ByteSource byteSource = length < 0 ? fileData.getByteSource() : fileData.getByteSource().slice(offset, length);
+            try {
+                byteSource.copyTo(out);
+            } catch (IOException e) {
+                LOG.error("Writing content of {} failed", fileData.name(), e);
+                throw e;
+            }
+        };
     }
 }
@@ -34,8 +34,12 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -46,7 +50,6 @@ import org.apache.fineract.infrastructure.core.serialization.DefaultToApiJsonSer
 import org.apache.fineract.infrastructure.documentmanagement.contentrepository.ContentRepositoryUtils;
 import org.apache.fineract.infrastructure.documentmanagement.contentrepository.ContentRepositoryUtils.ImageFileExtension;
 import org.apache.fineract.infrastructure.documentmanagement.data.FileData;
-import org.apache.fineract.infrastructure.documentmanagement.data.ImageResizer;
 import org.apache.fineract.infrastructure.documentmanagement.exception.ContentManagementException;
 import org.apache.fineract.infrastructure.documentmanagement.exception.InvalidEntityTypeForImageManagementException;
 import org.apache.fineract.infrastructure.documentmanagement.service.ImageReadPlatformService;
@@ -66,12 +69,13 @@ import org.springframework.stereotype.Component;
 @Path("{entity}/{entityId}/images")
 public class ImagesApiResource {
 
+    private static final CacheControl REVALIDATE = CacheControl.valueOf("private, no-cache");
+
     private final PlatformSecurityContext context;
     private final ImageReadPlatformService imageReadPlatformService;
     private final ImageWritePlatformService imageWritePlatformService;
     private final DefaultToApiJsonSerializer<ClientData> toApiJsonSerializer;
     private final FileUploadValidator fileUploadValidator;
-    private final ImageResizer imageResizer;
 
     /**
      * Upload images through multi-part form upload
@@ -117,7 +121,8 @@ public class ImagesApiResource {
 
     /**
      * Returns a images, either as Base64 encoded text/plain or as inline or attachment with image MIME type as
-     * Content-Type.
+     * Content-Type. Resized images are served from the image thumbnail cache with an entity tag, so that clients can
+     * revalidate them with <code>If-None-Match</code>.
      */
     @GET
     @Consumes(MediaType.APPLICATION_JSON)
@@ -125,7 +130,8 @@ public class ImagesApiResource {
     // octet-stream)
     public Response retrieveImage(@PathParam("entity") final String entityName, @PathParam("entityId") final Long entityId,
             @QueryParam("maxWidth") final Integer maxWidth, @QueryParam("maxHeight") final Integer maxHeight,
-            @QueryParam("output") final String output, @HeaderParam("Accept") String acceptHeader) {
+            @QueryParam("output") final String output, @HeaderParam("Accept") String acceptHeader,
+            @Context final HttpHeaders httpHeaders) {
         validateEntityTypeforImage(entityName);
         if (EntityTypeForImages.CLIENTS.toString().equalsIgnoreCase(entityName)) {
             this.context.authenticatedUser().validateHasReadPermission("CLIENTIMAGE");
@@ -133,23 +139,30 @@ public class ImagesApiResource {
             this.context.authenticatedUser().validateHasReadPermission("STAFFIMAGE");
         }
 
-        final FileData imageData = this.imageReadPlatformService.retrieveImage(entityName, entityId);
-        final FileData resizedImage = imageResizer.resize(imageData, maxWidth, maxHeight);
+        final FileData resizedImage = this.imageReadPlatformService.retrieveImage(entityName, entityId, maxWidth, maxHeight);
 
         // If client wants (Accept header) octet-stream, or output="octet" or "inline_octet", then send that instead of
         // text
         if ("application/octet-stream".equalsIgnoreCase(acceptHeader)
                 || (output != null && (output.equals("octet") || output.equals("inline_octet")))) {
-            return ContentResources.fileDataToResponse(resizedImage, resizedImage.name() + ImageFileExtension.JPEG,
-                    "inline_octet".equals(output) ? "inline" : "attachment");
+            final Response response = ContentResources.fileDataToResponse(resizedImage, resizedImage.name() + ImageFileExtension.JPEG,
+                    "inline_octet".equals(output) ? "inline" : "attachment", httpHeaders);
+            return Response.fromResponse(response).cacheControl(REVALIDATE).build();
+        }
+
+        // the Base64 encoded text is another representation of the image, so it needs its own entity tag
+        final String entityTag = resizedImage.getEntityTag() == null ? null
+                : StringUtils.removeEnd(resizedImage.getEntityTag(), "\"") + "-base64\"";
+        if (ContentResources.isNotModified(httpHeaders, entityTag)) {
+            return Response.notModified().header(HttpHeaders.ETAG, entityTag).cacheControl(REVALIDATE).build();
         }
 
         // Else return response with Base64 encoded
         // TODO: Need a better way of determining image type
         String imageDataURISuffix = ContentRepositoryUtils.ImageDataURIsuffix.JPEG.getValue();
-        if (StringUtils.endsWith(imageData.name(), ContentRepositoryUtils.ImageFileExtension.GIF.getValue())) {
+        if (StringUtils.endsWith(resizedImage.name(), ContentRepositoryUtils.ImageFileExtension.GIF.getValue())) {
             imageDataURISuffix = ContentRepositoryUtils.ImageDataURIsuffix.GIF.getValue();
-        } else if (StringUtils.endsWith(imageData.name(), ContentRepositoryUtils.ImageFileExtension.PNG.getValue())) {
+        } else if (StringUtils.endsWith(resizedImage.name(), ContentRepositoryUtils.ImageFileExtension.PNG.getValue())) {
             imageDataURISuffix = ContentRepositoryUtils.ImageDataURIsuffix.PNG.getValue();
         }
 
@@ -157,14 +170,18 @@ public class ImagesApiResource {
             byte[] resizedImageBytes = resizedImage.getByteSource().read();
             if (resizedImageBytes != null) {
                 final String clientImageAsBase64Text = imageDataURISuffix + Base64.getMimeEncoder().encodeToString(resizedImageBytes);
-                return Response.ok(clientImageAsBase64Text, MediaType.TEXT_PLAIN_TYPE).build();
+                final ResponseBuilder response = Response.ok(clientImageAsBase64Text, MediaType.TEXT_PLAIN_TYPE);
+                if (entityTag != null) {
+                    response.header(HttpHeaders.ETAG, entityTag).cacheControl(REVALIDATE);
+                }
+                return response.build();
             } else {
                 log.error("resizedImageBytes is null for entityName={}, entityId={}, maxWidth={}, maxHeight={}", entityName, entityId,
                         maxWidth, maxHeight);
                 return Response.serverError().build();
             }
         } catch (IOException e) {
-            throw new ContentManagementException(imageData.name(), e.getMessage(), e);
+            throw new ContentManagementException(resizedImage.name(), e.getMessage(), e);
         }
     }
 
@@ -0,0 +1,220 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.documentmanagement.contentrepository;
+
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Stores documents of the file system content repository under the SHA-256 hash of their content (plus the lower case
+ * extension of the uploaded file name, which the file name whitelist is checked against), so that a file attached to
+ * many entities, like the same KYC scan or loan agreement, is written only once.
+ *
+ * Every stored location is reference counted in <code>m_content_blob</code>: storing content increments the count
+ * within the calling transaction, and releasing a location decrements it and deletes the file once the transaction
+ * committed and no reference is left. The file is only deleted while its row is locked, and an upload writes the file
+ * only after its increment locked the row, so an upload racing with the release of the same content either keeps the
+ * file or writes it again. When an upload transaction rolls back, its content is deleted again unless still referenced.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("fineract.content.filesystem.enabled")
+public class ContentAddressedFileStore {
+
+    static final String CONTENT_FOLDER = "content";
+    private static final int MAX_REFERENCE_ATTEMPTS = 3;
+
+    private final FileSystemContentPathSanitizer pathSanitizer;
+    private final FineractProperties fineractProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTransactionTemplate;
+
+    public ContentAddressedFileStore(final FileSystemContentPathSanitizer pathSanitizer, final FineractProperties fineractProperties,
+            final JdbcTemplate jdbcTemplate, final PlatformTransactionManager transactionManager) {
+        this.pathSanitizer = pathSanitizer;
+        this.fineractProperties = fineractProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTransactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(this.fineractProperties.getContent().getFilesystem().getContentAddressed());
+    }
+
+    /**
+     * Returns whether the location was written by this store, independent of whether the store is currently enabled.
+     */
+    public boolean isContentAddressed(final String location) {
+        return location != null && Path.of(location).normalize().startsWith(contentFolder());
+    }
+
+    /**
+     * Writes the content unless a file with the same content is stored already, adds a reference to it and returns its
+     * location.
+     */
+    public String store(final InputStream inputStream, final String fileName) throws IOException {
+        final Path folder = contentFolder();
+        Files.createDirectories(folder);
+        final Path tempFile = Files.createTempFile(folder, "upload", ".tmp");
+        try {
+            final MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(inputStream, digest)) {
+                Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            final String storageKey = HexFormat.of().formatHex(digest.digest()) + extension(fileName);
+            final String location = this.pathSanitizer.sanitize(
+                    folder.resolve(storageKey.substring(0, 2)).resolve(storageKey.substring(2, 4)).resolve(storageKey).toString());
+            final Path target = Path.of(location);
+            addReference(storageKey, Files.size(tempFile));
+            registerRollbackCleanup(storageKey, location);
+            // the increment holds the row lock, so a release of the same content can no longer delete the file
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                // renaming replaces a file with the same content written concurrently, so there is no need to lock
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return location;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Removes a reference to the location; the file is deleted after the current transaction committed when no other
+     * reference is left.
+     */
+    public void release(final String location) {
+        final String storageKey = Path.of(location).getFileName().toString();
+        this.jdbcTemplate.update(
+                "update m_content_blob set reference_count = reference_count - 1 where storage_key = ? and reference_count > 0",
+                storageKey);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    deleteIfUnreferenced(storageKey, location);
+                }
+            });
+        } else {
+            deleteIfUnreferenced(storageKey, location);
+        }
+    }
+
+    private void addReference(final String storageKey, final long size) {
+        // a release of the same content may delete the row between its creation and the increment, in which case the
+        // row is created again
+        for (int attempt = 1; attempt <= MAX_REFERENCE_ATTEMPTS; attempt++) {
+            createBlobIfAbsent(storageKey, size);
+            if (this.jdbcTemplate.update("update m_content_blob set reference_count = reference_count + 1 where storage_key = ?",
+                    storageKey) > 0) {
+                return;
+            }
+        }
+        throw new IllegalStateException("Unable to add a reference to content " + storageKey);
+    }
+
+    private void createBlobIfAbsent(final String storageKey, final long size) {
+        // the row is created in its own transaction, so that a concurrent first upload of the same content failing on
+        // the unique key does not roll back the upload transaction; an unused row is cleaned up when the upload rolls back
+        this.requiresNewTransactionTemplate.executeWithoutResult(status -> {
+            final List<Long> existing = this.jdbcTemplate.queryForList("select id from m_content_blob where storage_key = ?", Long.class,
+                    storageKey);
+            if (existing.isEmpty()) {
+                try {
+                    this.jdbcTemplate.update("insert into m_content_blob (storage_key, size_in_bytes, reference_count) values (?, ?, 0)",
+                            storageKey, size);
+                } catch (DuplicateKeyException e) {
+                    status.setRollbackOnly();
+                }
+            }
+        });
+    }
+
+    private void registerRollbackCleanup(final String storageKey, final String location) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        deleteIfUnreferenced(storageKey, location);
+                    }
+                }
+            });
+        }
+    }
+
+    private void deleteIfUnreferenced(final String storageKey, final String location) {
+        this.requiresNewTransactionTemplate.executeWithoutResult(status -> {
+            // the row lock makes an upload of the same content wait until the file is gone, and then create it again
+            final List<Integer> referenceCounts = this.jdbcTemplate.queryForList(
+                    "select reference_count from m_content_blob where storage_key = ? for update", Integer.class, storageKey);
+            if (referenceCounts.isEmpty() || referenceCounts.get(0) > 0) {
+                return;
+            }
+            this.jdbcTemplate.update("delete from m_content_blob where storage_key = ? and reference_count = 0", storageKey);
+            if (!new File(location).delete()) {
+                log.warn("Unable to delete file {}", location);
+            }
+        });
+    }
+
+    private Path contentFolder() {
+        return Path.of(this.fineractProperties.getContent().getFilesystem().getRootFolder(),
+                ThreadLocalContextUtil.getTenant().getName().replaceAll(" ", "").trim(), CONTENT_FOLDER).normalize();
+    }
+
+    private static String extension(final String fileName) {
+        final String extension = FilenameUtils.getExtension(fileName);
+        return extension == null || extension.isEmpty() ? "" : "." + extension.toLowerCase();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
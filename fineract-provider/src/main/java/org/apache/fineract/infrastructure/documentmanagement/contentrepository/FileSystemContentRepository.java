@@ -48,6 +48,7 @@ public class FileSystemContentRepository implements ContentRepository {
 
     private final FileSystemContentPathSanitizer pathSanitizer;
     private final FineractProperties fineractProperties;
+    private final ContentAddressedFileStore contentAddressedFileStore;
 
     @Override
     public String saveFile(final InputStream uploadedInputStream, final DocumentCommand documentCommand) {
@@ -57,6 +58,9 @@ public class FileSystemContentRepository implements ContentRepository {
         final String fileLocation = generateFileParentDirectory(documentCommand.getParentEntityType(), documentCommand.getParentEntityId())
                 + File.separator + fileName;
 
+        if (this.contentAddressedFileStore.isEnabled()) {
+            return writeFileToContentStore(fileName, uploadedInputStream, fileLocation);
+        }
         return writeFileToFileSystem(fileName, uploadedInputStream, fileLocation);
     }
 
@@ -93,6 +97,10 @@ public class FileSystemContentRepository implements ContentRepository {
 
     private void deleteFileInternal(final String documentPath) {
         String sanitizedPath = pathSanitizer.sanitize(documentPath);
+        if (this.contentAddressedFileStore.isContentAddressed(sanitizedPath)) {
+            this.contentAddressedFileStore.release(sanitizedPath);
+            return;
+        }
 
         final File fileToBeDeleted = new File(sanitizedPath);
         final boolean fileDeleted = fileToBeDeleted.delete();
@@ -107,7 +115,7 @@ public class FileSystemContentRepository implements ContentRepository {
         String sanitizedPath = pathSanitizer.sanitize(documentData.fileLocation());
 
         final File file = new File(sanitizedPath);
-        return new FileData(Files.asByteSource(file), documentData.fileName(), documentData.contentType());
+        return new FileData(file, documentData.fileName(), documentData.contentType(), entityTag(file));
     }
 
     @Override
@@ -118,6 +126,17 @@ public class FileSystemContentRepository implements ContentRepository {
         return new FileData(Files.asByteSource(file), imageData.getEntityDisplayName(), imageData.contentType().getValue());
     }
 
+    /**
+     * Content addressed files never change, so their name is a strong entity tag; other files are tagged weakly by size
+     * and modification time.
+     */
+    private String entityTag(final File file) {
+        if (this.contentAddressedFileStore.isContentAddressed(file.getPath())) {
+            return "\"" + file.getName() + "\"";
+        }
+        return "W/\"" + file.length() + "-" + file.lastModified() + "\"";
+    }
+
     @Override
     public StorageType getStorageType() {
         return StorageType.FILE_SYSTEM;
@@ -161,4 +180,15 @@ public class FileSystemContentRepository implements ContentRepository {
             throw new ContentManagementException(fileName, ioException.getMessage(), ioException);
         }
     }
+
+    private String writeFileToContentStore(final String fileName, final InputStream uploadedInputStream, final String fileLocation) {
+        try (BufferedInputStream bis = new BufferedInputStream(uploadedInputStream)) {
+            // validate the file name and content exactly like for a per entity location
+            pathSanitizer.sanitize(fileLocation, bis);
+            return this.contentAddressedFileStore.store(bis, fileName);
+        } catch (final IOException ioException) {
+            log.warn("Failed to write file!", ioException);
+            throw new ContentManagementException(fileName, ioException.getMessage(), ioException);
+        }
+    }
 }
@@ -19,17 +19,34 @@
 package org.apache.fineract.infrastructure.documentmanagement.data;
 
 import com.google.common.io.ByteSource;
+import com.google.common.io.Files;
+import java.io.File;
 
 public class FileData {
 
     private final String fileName;
     private final String contentType;
     private final ByteSource byteSource;
+    private final File file;
+    private final String entityTag;
 
     public FileData(final ByteSource byteSource, final String fileName, final String contentType) {
         this.fileName = fileName;
         this.contentType = contentType;
         this.byteSource = byteSource;
+        this.file = null;
+        this.entityTag = null;
+    }
+
+    /**
+     * File data backed by a local file, which can be transferred to the response without copying it through the heap.
+     */
+    public FileData(final File file, final String fileName, final String contentType, final String entityTag) {
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.byteSource = Files.asByteSource(file);
+        this.file = file;
+        this.entityTag = entityTag;
     }
 
     public String contentType() {
@@ -43,4 +60,20 @@ public class FileData {
     public ByteSource getByteSource() {
         return this.byteSource;
     }
+
+    /**
+     * Returns the local file backing this data, or <code>null</code> when the content is not stored on the local file
+     * system.
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Returns the HTTP entity tag of the content (quoted, weak tags prefixed with <code>W/</code>), or <code>null</code>
+     * when unknown.
+     */
+    public String getEntityTag() {
+        return this.entityTag;
+    }
 }
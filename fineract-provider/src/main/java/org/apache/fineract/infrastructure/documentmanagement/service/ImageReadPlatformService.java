@@ -24,4 +24,10 @@ public interface ImageReadPlatformService {
 
     FileData retrieveImage(String entityType, Long entityId);
 
+    /**
+     * Returns the image resized to fit the given dimensions, served from the {@link ImageThumbnailCache} when it was
+     * resized before.
+     */
+    FileData retrieveImage(String entityType, Long entityId, Integer maxWidth, Integer maxHeight);
+
 }
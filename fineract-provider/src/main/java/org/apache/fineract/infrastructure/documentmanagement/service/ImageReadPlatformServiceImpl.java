@@ -45,11 +45,14 @@ public class ImageReadPlatformServiceImpl implements ImageReadPlatformService {
     private final ContentRepositoryFactory contentRepositoryFactory;
     private final ClientRepositoryWrapper clientRepositoryWrapper;
     private final StaffRepositoryWrapper staffRepositoryWrapper;
+    private final ImageThumbnailCache imageThumbnailCache;
 
     @Autowired
     public ImageReadPlatformServiceImpl(final JdbcTemplate jdbcTemplate, final ContentRepositoryFactory documentStoreFactory,
-            final ClientRepositoryWrapper clientRepositoryWrapper, StaffRepositoryWrapper staffRepositoryWrapper) {
+            final ClientRepositoryWrapper clientRepositoryWrapper, StaffRepositoryWrapper staffRepositoryWrapper,
+            final ImageThumbnailCache imageThumbnailCache) {
         this.staffRepositoryWrapper = staffRepositoryWrapper;
+        this.imageThumbnailCache = imageThumbnailCache;
         this.jdbcTemplate = jdbcTemplate;
         this.contentRepositoryFactory = documentStoreFactory;
         this.clientRepositoryWrapper = clientRepositoryWrapper;
@@ -76,15 +79,29 @@ public class ImageReadPlatformServiceImpl implements ImageReadPlatformService {
 
         @Override
         public ImageData mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
+            final Long id = JdbcSupport.getLong(rs, "id");
             final String location = rs.getString("location");
             final Integer storageTypeInt = JdbcSupport.getInteger(rs, "storageType");
             StorageType storageType = storageTypeInt != null ? StorageType.fromInt(storageTypeInt) : null;
-            return new ImageData(location, storageType, this.entityDisplayName);
+            return new ImageData(id, location, storageType, this.entityDisplayName);
         }
     }
 
     @Override
     public FileData retrieveImage(String entityType, final Long entityId) {
+        final ImageData imageData = retrieveImageData(entityType, entityId);
+        return this.contentRepositoryFactory.getRepository(imageData.storageType()).fetchImage(imageData);
+    }
+
+    @Override
+    public FileData retrieveImage(String entityType, final Long entityId, final Integer maxWidth, final Integer maxHeight) {
+        final ImageData imageData = retrieveImageData(entityType, entityId);
+        final ContentRepository contentRepository = this.contentRepositoryFactory.getRepository(imageData.storageType());
+        return this.imageThumbnailCache.retrieve(imageData.imageId(), imageData.getEntityDisplayName(), imageData.contentType().getValue(),
+                maxWidth, maxHeight, () -> contentRepository.fetchImage(imageData));
+    }
+
+    private ImageData retrieveImageData(String entityType, final Long entityId) {
         try {
             String displayName;
             if (EntityTypeForImages.CLIENTS.toString().equalsIgnoreCase(entityType)) {
@@ -100,9 +117,7 @@ public class ImageReadPlatformServiceImpl implements ImageReadPlatformService {
 
             final String sql = "select " + imageMapper.schema(entityType);
 
-            final ImageData imageData = this.jdbcTemplate.queryForObject(sql, imageMapper, entityId); // NOSONAR
-            final ContentRepository contentRepository = this.contentRepositoryFactory.getRepository(imageData.storageType());
-            return contentRepository.fetchImage(imageData);
+            return this.jdbcTemplate.queryForObject(sql, imageMapper, entityId); // NOSONAR
         } catch (final EmptyResultDataAccessException e) {
             throw new ImageNotFoundException("clients", entityId, e);
         }
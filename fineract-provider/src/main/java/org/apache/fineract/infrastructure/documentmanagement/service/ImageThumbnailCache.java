@@ -0,0 +1,237 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.documentmanagement.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractContentImageCacheProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.documentmanagement.data.FileData;
+import org.apache.fineract.infrastructure.documentmanagement.data.ImageResizer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps resized images on the local disk, keyed by tenant, image id and requested dimensions, so that list screens
+ * fetching many client photos neither read the stored originals nor resize them again.
+ *
+ * The cache is bounded by <code>fineract.content.image-cache.max-size-in-mb</code> and evicts the least recently served
+ * variants first. Variants of an image are evicted when it is replaced or deleted on this node; the folder is cleared on
+ * startup. As evictions are not propagated to other nodes, the cache is disabled by default and should only be enabled
+ * when a single node serves the images.
+ */
+@Slf4j
+@Component
+public class ImageThumbnailCache {
+
+    private static final long MB = 1024L * 1024L;
+
+    private final FineractProperties fineractProperties;
+    private final ImageResizer imageResizer;
+    private final Map<Path, Long> sizes = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize;
+    // incremented by every eviction, so that a variant resized from an original read before the eviction is not cached
+    private long evictions;
+
+    public ImageThumbnailCache(final FineractProperties fineractProperties, final ImageResizer imageResizer) {
+        this.fineractProperties = fineractProperties;
+        this.imageResizer = imageResizer;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (isEnabled()) {
+            final File[] tenantFolders = cacheFolder().toFile().listFiles(File::isDirectory);
+            if (tenantFolders != null) {
+                for (final File tenantFolder : tenantFolders) {
+                    FileUtils.deleteQuietly(tenantFolder);
+                }
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        final FineractContentImageCacheProperties properties = this.fineractProperties.getContent().getImageCache();
+        return properties != null && Boolean.TRUE.equals(properties.getEnabled()) && properties.getFolder() != null;
+    }
+
+    /**
+     * Returns the image resized to the given dimensions, like {@link ImageResizer#resize(FileData, Integer, Integer)},
+     * loading and resizing the original only when the variant is not cached yet.
+     */
+    public FileData retrieve(final Long imageId, final String name, final String contentType, final Integer maxWidth,
+            final Integer maxHeight, final Supplier<FileData> original) {
+        if (!isEnabled() || imageId == null) {
+            return this.imageResizer.resize(original.get(), maxWidth, maxHeight);
+        }
+        final Path file = imageFolder(imageId).resolve(variant(maxWidth, maxHeight));
+        if (touch(file)) {
+            return cached(imageId, file, name, contentType);
+        }
+
+        final long evictionsBeforeLoad = getEvictions();
+        final FileData resized = this.imageResizer.resize(original.get(), maxWidth, maxHeight);
+        try {
+            Files.createDirectories(file.getParent());
+            final Path tempFile = Files.createTempFile(file.getParent(), "resize", ".tmp");
+            try {
+                try (InputStream in = resized.getByteSource().openStream()) {
+                    Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+            if (add(file, Files.size(file), evictionsBeforeLoad)) {
+                return cached(imageId, file, name, contentType);
+            }
+            // an image was replaced or deleted meanwhile, so the variant may have been resized from the stale original
+            return this.imageResizer.resize(original.get(), maxWidth, maxHeight);
+        } catch (IOException e) {
+            // the resized stream was consumed while writing it, so it has to be produced again
+            log.warn("Unable to cache image {} at {}: {}", imageId, file, e.getMessage());
+            return this.imageResizer.resize(original.get(), maxWidth, maxHeight);
+        }
+    }
+
+    /**
+     * Evicts all cached variants of the image once the current transaction committed, or immediately outside of a
+     * transaction.
+     */
+    public void evict(final Long imageId) {
+        if (!isEnabled() || imageId == null) {
+            return;
+        }
+        final Path folder = imageFolder(imageId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    evict(folder);
+                }
+            });
+        } else {
+            evict(folder);
+        }
+    }
+
+    long getTotalSize() {
+        synchronized (this.sizes) {
+            return this.totalSize;
+        }
+    }
+
+    private long getEvictions() {
+        synchronized (this.sizes) {
+            return this.evictions;
+        }
+    }
+
+    private boolean touch(final Path file) {
+        synchronized (this.sizes) {
+            // looking the entry up moves it to the end of the access ordered map
+            final Long size = this.sizes.get(file);
+            if (size != null && !Files.isRegularFile(file)) {
+                this.sizes.remove(file);
+                this.totalSize -= size;
+                return false;
+            }
+            return size != null;
+        }
+    }
+
+    private boolean add(final Path file, final long size, final long evictionsBeforeLoad) {
+        final long maxSize = maxSize();
+        synchronized (this.sizes) {
+            if (this.evictions != evictionsBeforeLoad) {
+                // the written file may also have replaced a variant cached meanwhile by another request
+                final Long cachedSize = this.sizes.remove(file);
+                this.totalSize -= cachedSize == null ? 0 : cachedSize;
+                FileUtils.deleteQuietly(file.toFile());
+                return false;
+            }
+            final Long previous = this.sizes.put(file, size);
+            this.totalSize += size - (previous == null ? 0 : previous);
+            final Iterator<Map.Entry<Path, Long>> eldest = this.sizes.entrySet().iterator();
+            while (this.totalSize > maxSize && eldest.hasNext()) {
+                final Map.Entry<Path, Long> entry = eldest.next();
+                if (entry.getKey().equals(file)) {
+                    continue;
+                }
+                eldest.remove();
+                this.totalSize -= entry.getValue();
+                FileUtils.deleteQuietly(entry.getKey().toFile());
+            }
+            return true;
+        }
+    }
+
+    private void evict(final Path folder) {
+        synchronized (this.sizes) {
+            this.evictions++;
+            final Iterator<Map.Entry<Path, Long>> entries = this.sizes.entrySet().iterator();
+            while (entries.hasNext()) {
+                final Map.Entry<Path, Long> entry = entries.next();
+                if (entry.getKey().startsWith(folder)) {
+                    entries.remove();
+                    this.totalSize -= entry.getValue();
+                }
+            }
+            FileUtils.deleteQuietly(folder.toFile());
+        }
+    }
+
+    private FileData cached(final Long imageId, final Path file, final String name, final String contentType) {
+        final File cachedFile = file.toFile();
+        // variants are never rewritten in place, so the modification time tells a re-created variant apart
+        final String entityTag = "\"" + imageId + "-" + file.getFileName() + "-" + cachedFile.lastModified() + "\"";
+        return new FileData(cachedFile, name, contentType, entityTag);
+    }
+
+    private long maxSize() {
+        final Long maxSizeInMb = this.fineractProperties.getContent().getImageCache().getMaxSizeInMb();
+        return maxSizeInMb == null ? Long.MAX_VALUE : Math.max(0, maxSizeInMb) * MB;
+    }
+
+    private Path cacheFolder() {
+        return Path.of(this.fineractProperties.getContent().getImageCache().getFolder()).normalize();
+    }
+
+    private Path imageFolder(final Long imageId) {
+        return cacheFolder().resolve(ThreadLocalContextUtil.getTenant().getTenantIdentifier()).resolve(imageId.toString());
+    }
+
+    private static String variant(final Integer maxWidth, final Integer maxHeight) {
+        return (maxWidth == null ? "any" : maxWidth.toString()) + "x" + (maxHeight == null ? "any" : maxHeight.toString());
+    }
+}
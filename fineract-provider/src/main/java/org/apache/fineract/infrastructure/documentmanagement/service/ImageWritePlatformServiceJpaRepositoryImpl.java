@@ -42,15 +42,17 @@ public class ImageWritePlatformServiceJpaRepositoryImpl implements ImageWritePla
     private final ClientRepositoryWrapper clientRepositoryWrapper;
     private final ImageRepository imageRepository;
     private final StaffRepositoryWrapper staffRepositoryWrapper;
+    private final ImageThumbnailCache imageThumbnailCache;
 
     @Autowired
     public ImageWritePlatformServiceJpaRepositoryImpl(final ContentRepositoryFactory documentStoreFactory,
             final ClientRepositoryWrapper clientRepositoryWrapper, final ImageRepository imageRepository,
-            StaffRepositoryWrapper staffRepositoryWrapper) {
+            StaffRepositoryWrapper staffRepositoryWrapper, final ImageThumbnailCache imageThumbnailCache) {
         this.contentRepositoryFactory = documentStoreFactory;
         this.clientRepositoryWrapper = clientRepositoryWrapper;
         this.imageRepository = imageRepository;
         this.staffRepositoryWrapper = staffRepositoryWrapper;
+        this.imageThumbnailCache = imageThumbnailCache;
     }
 
     @Transactional
@@ -100,6 +102,7 @@ public class ImageWritePlatformServiceJpaRepositoryImpl implements ImageWritePla
             final ContentRepository contentRepository = this.contentRepositoryFactory
                     .getRepository(StorageType.fromInt(image.getStorageType()));
             contentRepository.deleteImage(image.getLocation());
+            this.imageThumbnailCache.evict(image.getId());
             this.imageRepository.delete(image);
         }
 
@@ -127,6 +130,7 @@ public class ImageWritePlatformServiceJpaRepositoryImpl implements ImageWritePla
             final ContentRepository contentRepository = this.contentRepositoryFactory
                     .getRepository(StorageType.fromInt(image.getStorageType()));
             contentRepository.deleteImage(image.getLocation());
+            this.imageThumbnailCache.evict(image.getId());
         }
         return owner;
     }
@@ -32,6 +32,8 @@ import org.apache.fineract.infrastructure.event.external.repository.ExternalEven
 import org.apache.fineract.infrastructure.event.external.service.ExternalEventService;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -42,7 +44,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     private final Map<Class, List<BusinessEventListener>> preListeners = new HashMap<>();
     private final Map<Class, List<BusinessEventListener>> postListeners = new HashMap<>();
 
-    private final ThreadLocal<Boolean> eventRecordingEnabled = ThreadLocal.withInitial(() -> false);
+    private final ThreadLocal<Integer> eventRecordingDepth = ThreadLocal.withInitial(() -> 0);
     private final ThreadLocal<List<BusinessEvent<?>>> recordedEvents = ThreadLocal.withInitial(ArrayList::new);
 
     private final ExternalEventService externalEventService;
@@ -93,6 +95,8 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
             if (isExternalEventConfiguredForPosting(businessEvent.getType())) {
                 if (isExternalEventRecordingEnabled()) {
                     recordedEvents.get().add(businessEvent);
+                } else if (isExternalEventDeferralPossible()) {
+                    deferredEvents().add(businessEvent);
                 } else {
                     externalEventService.postEvent(businessEvent);
                 }
@@ -111,13 +115,37 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     }
 
     private boolean isExternalEventRecordingEnabled() {
-        return eventRecordingEnabled.get();
+        return eventRecordingDepth.get() > 0;
     }
 
     private boolean isExternalEventPostingEnabled() {
         return fineractProperties.getEvents().getExternal().isEnabled();
     }
 
+    private boolean isExternalEventDeferralPossible() {
+        return fineractProperties.getEvents().getExternal().isDeferUntilCommit()
+                && TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * Events raised outside of recording are posted right before the transaction commits, all at once, so that the
+     * entity snapshots are serialized only when the transaction is done changing them and the events of the same entity
+     * can share its snapshot. As the payloads then carry the state of the entity at the end of the transaction instead of
+     * its state when the event was raised, this is only done when <code>fineract.events.external.defer-until-commit</code>
+     * is enabled.
+     */
+    private List<BusinessEvent<?>> deferredEvents() {
+        List<BusinessEvent<?>> events = (List<BusinessEvent<?>>) TransactionSynchronizationManager.getResource(this);
+        if (events == null) {
+            events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, events);
+            TransactionSynchronizationManager.registerSynchronization(new DeferredEventsSynchronization(events));
+        }
+        return events;
+    }
+
     private boolean isExternalEventConfiguredForPosting(String eventType) {
         return eventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(eventType).isEnabled();
     }
@@ -128,14 +156,24 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         }
     }
 
+    /**
+     * Recording is reentrant: a unit of work recording its events, like a COB run or a collection sheet, may call code
+     * that records on its own, like the replay of a backdated repayment. Only the outermost stop posts the events
+     * recorded so far.
+     */
     @Override
     public void startExternalEventRecording() {
-        eventRecordingEnabled.set(true);
+        eventRecordingDepth.set(eventRecordingDepth.get() + 1);
     }
 
     @Override
     public void stopExternalEventRecording() {
-        eventRecordingEnabled.set(false);
+        final int depth = eventRecordingDepth.get() - 1;
+        if (depth > 0) {
+            eventRecordingDepth.set(depth);
+            return;
+        }
+        eventRecordingDepth.remove();
         try {
             List<BusinessEvent<?>> recordedBusinessEvents = recordedEvents.get();
             if (isExternalEventPostingEnabled()) {
@@ -158,7 +196,40 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
 
     @Override
     public void resetEventRecording() {
-        eventRecordingEnabled.set(false);
+        eventRecordingDepth.remove();
         recordedEvents.remove();
     }
+
+    private final class DeferredEventsSynchronization implements TransactionSynchronization {
+
+        private final List<BusinessEvent<?>> events;
+
+        private DeferredEventsSynchronization(List<BusinessEvent<?>> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(BusinessEventNotifierServiceImpl.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(BusinessEventNotifierServiceImpl.this, events);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!events.isEmpty()) {
+                List<BusinessEvent<?>> eventsToPost = new ArrayList<>(events);
+                events.clear();
+                externalEventService.postEvents(eventsToPost);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(BusinessEventNotifierServiceImpl.this);
+        }
+    }
 }
@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.jobs;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.fineract.avro.MessageV1;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.apache.fineract.infrastructure.event.external.service.message.MessageFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Appends external events, in the same {@link MessageV1} envelope they were sent in, to deflate compressed Avro data
+ * files in the configured archive directory.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExternalEventArchiver {
+
+    private static final int DEFLATE_LEVEL = 6;
+
+    private final ExternalEventRepository repository;
+    private final MessageFactory messageFactory;
+    private final FineractProperties fineractProperties;
+
+    public boolean isEnabled() {
+        return fineractProperties.getEvents().getExternal().getPurge().getArchive().isEnabled();
+    }
+
+    /**
+     * Appends the events to the archive file of the given name, creating it when it does not exist yet. The file is
+     * synced to disk before returning, so the events can be deleted afterwards.
+     */
+    public void archive(List<Long> eventIds, String archiveName) throws IOException {
+        Path directory = Paths.get(fineractProperties.getEvents().getExternal().getPurge().getArchive().getDirectory());
+        Files.createDirectories(directory);
+        File archiveFile = directory.resolve(archiveName + ".avro").toFile();
+
+        List<ExternalEvent> events = new ArrayList<>(repository.findAllById(eventIds));
+        events.sort(Comparator.comparing(ExternalEvent::getId));
+        try (DataFileWriter<MessageV1> writer = new DataFileWriter<>(new SpecificDatumWriter<>(MessageV1.class))) {
+            if (archiveFile.exists()) {
+                writer.appendTo(archiveFile);
+            } else {
+                writer.setCodec(CodecFactory.deflateCodec(DEFLATE_LEVEL));
+                writer.create(MessageV1.getClassSchema(), archiveFile);
+            }
+            for (ExternalEvent event : events) {
+                writer.append(messageFactory.createMessage(event));
+            }
+            writer.fSync();
+        }
+    }
+}
@@ -19,36 +19,88 @@
 package org.apache.fineract.infrastructure.event.external.jobs;
 
 import java.time.LocalDate;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
 import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+/**
+ * Deletes the sent events older than the purge criteria in batches ordered by id. Every execution deletes (and
+ * optionally archives) one batch in its own transaction and records the last deleted id in the step execution context
+ * as a checkpoint, so that no statement has to lock or log the whole table.
+ */
 @Slf4j
 @AllArgsConstructor
 @Component
 public class PurgeExternalEventsTasklet implements Tasklet {
 
+    static final String LAST_PURGED_ID = "lastPurgedExternalEventId";
+    static final String PURGE_DATE = "externalEventsPurgeDate";
+
     private final ExternalEventRepository repository;
     private final ConfigurationDomainService configurationDomainService;
+    private final FineractProperties fineractProperties;
+    private final ExternalEventArchiver archiver;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
         try {
-            Long numberOfDaysForPurgeCriteria = configurationDomainService.retrieveExternalEventsPurgeDaysCriteria();
-            LocalDate dateForPurgeCriteria = DateUtils.getBusinessLocalDate().minusDays(numberOfDaysForPurgeCriteria);
-            repository.deleteOlderEventsWithSentStatus(ExternalEventStatus.SENT, dateForPurgeCriteria);
+            StepExecution stepExecution = contribution.getStepExecution();
+            ExecutionContext checkpoint = stepExecution.getExecutionContext();
+            FineractProperties.FineractExternalEventsPurgeProperties purgeProperties = fineractProperties.getEvents().getExternal()
+                    .getPurge();
+            long lastPurgedId = checkpoint.getLong(LAST_PURGED_ID, 0L);
+            if (lastPurgedId > 0 && purgeProperties.getPauseMillis() > 0) {
+                Thread.sleep(purgeProperties.getPauseMillis());
+            }
+
+            LocalDate dateForPurgeCriteria = getDateForPurgeCriteria(checkpoint);
+            int batchSize = purgeProperties.getBatchSize();
+            List<Long> eventIds = repository.findIdsOfOlderEventsWithStatus(ExternalEventStatus.SENT, dateForPurgeCriteria, lastPurgedId,
+                    PageRequest.of(0, batchSize));
+            if (eventIds.isEmpty()) {
+                log.info("Purging external events finished, last purged event id: {}", lastPurgedId);
+                return RepeatStatus.FINISHED;
+            }
+            if (archiver.isEnabled()) {
+                String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+                archiver.archive(eventIds, "external-events-" + tenantIdentifier + "-" + stepExecution.getJobExecutionId());
+            }
+            repository.deleteAllByIdInBatch(eventIds);
+
+            long batchLastId = eventIds.get(eventIds.size() - 1);
+            checkpoint.putLong(LAST_PURGED_ID, batchLastId);
+            contribution.incrementWriteCount(eventIds.size());
+            log.debug("Purged {} external events up to id {}", eventIds.size(), batchLastId);
+            return eventIds.size() < batchSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Purging external events was interrupted");
         } catch (Exception e) {
             log.error("Error occurred while purging external events: ", e);
         }
         return RepeatStatus.FINISHED;
     }
 
+    private LocalDate getDateForPurgeCriteria(ExecutionContext checkpoint) {
+        // fixed for the whole run, so the batches are consistent even if the business date changes meanwhile
+        if (!checkpoint.containsKey(PURGE_DATE)) {
+            Long numberOfDaysForPurgeCriteria = configurationDomainService.retrieveExternalEventsPurgeDaysCriteria();
+            checkpoint.putString(PURGE_DATE, DateUtils.getBusinessLocalDate().minusDays(numberOfDaysForPurgeCriteria).toString());
+        }
+        return LocalDate.parse(checkpoint.getString(PURGE_DATE));
+    }
 }
@@ -24,14 +24,12 @@ import org.apache.fineract.infrastructure.event.external.repository.domain.Exter
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 public interface ExternalEventRepository extends JpaRepository<ExternalEvent, Long> {
 
     List<ExternalEvent> findByStatusOrderById(ExternalEventStatus status, Pageable batchSize);
 
-    @Modifying(flushAutomatically = true)
-    @Query("delete from ExternalEvent e where e.status = :status and e.businessDate <= :dateForPurgeCriteria")
-    void deleteOlderEventsWithSentStatus(ExternalEventStatus status, LocalDate dateForPurgeCriteria);
+    @Query("select e.id from ExternalEvent e where e.status = :status and e.businessDate <= :dateForPurgeCriteria and e.id > :afterId order by e.id")
+    List<Long> findIdsOfOlderEventsWithStatus(ExternalEventStatus status, LocalDate dateForPurgeCriteria, Long afterId, Pageable batchSize);
 }
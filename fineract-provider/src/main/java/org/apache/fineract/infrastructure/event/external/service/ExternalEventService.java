@@ -18,9 +18,12 @@
  */
 package org.apache.fineract.infrastructure.event.external.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +37,7 @@ import org.apache.fineract.infrastructure.event.external.service.idempotency.Ext
 import org.apache.fineract.infrastructure.event.external.service.message.BulkMessageItemFactory;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializer;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializerFactory;
+import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.ExternalEventSnapshotCache;
 import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -43,11 +47,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class ExternalEventService {
 
+    public static final String POST_EVENT_TIMER = "fineract.external.event.post";
+
     private final ExternalEventRepository repository;
     private final ExternalEventIdempotencyKeyGenerator idempotencyKeyGenerator;
     private final BusinessEventSerializerFactory serializerFactory;
     private final ByteBufferConverter byteBufferConverter;
     private final BulkMessageItemFactory bulkMessageItemFactory;
+    private final MeterRegistry meterRegistry;
+    private final ExternalEventSnapshotCache snapshotCache;
 
     private EntityManager entityManager;
 
@@ -56,8 +64,32 @@ public class ExternalEventService {
             throw new IllegalArgumentException("event cannot be null");
         }
 
-        try {
+        try (ExternalEventSnapshotCache.Scope ignored = snapshotCache.openScope()) {
+            flushChangesBeforeSerialization();
+            saveEvent(event);
+        }
+    }
+
+    /**
+     * Posts the events one by one with a single flush upfront, so the events share the entity snapshots serialized for
+     * them. Only to be used for events raised in a unit of work that has finished changing the entities.
+     */
+    public void postEvents(List<BusinessEvent<?>> events) {
+        if (events == null || events.contains(null)) {
+            throw new IllegalArgumentException("events cannot be null");
+        }
+
+        try (ExternalEventSnapshotCache.Scope ignored = snapshotCache.openScope()) {
             flushChangesBeforeSerialization();
+            for (BusinessEvent<?> event : events) {
+                saveEvent(event);
+            }
+        }
+    }
+
+    private <T> void saveEvent(BusinessEvent<T> event) {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
             ExternalEvent externalEvent;
             if (event instanceof BulkBusinessEvent) {
                 externalEvent = handleBulkBusinessEvent((BulkBusinessEvent) event);
@@ -67,8 +99,9 @@ public class ExternalEventService {
             repository.save(externalEvent);
         } catch (IOException e) {
             throw new RuntimeException("Error while serializing event " + event.getClass().getSimpleName(), e);
+        } finally {
+            sample.stop(meterRegistry.timer(POST_EVENT_TIMER, "type", Objects.toString(event.getType(), "unknown")));
         }
-
     }
 
     private ExternalEvent handleBulkBusinessEvent(BulkBusinessEvent bulkBusinessEvent) throws IOException {
@@ -18,6 +18,8 @@
  */
 package org.apache.fineract.infrastructure.event.external.service.message;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
@@ -25,6 +27,9 @@ import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
 import org.apache.fineract.avro.MessageV1;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
@@ -48,6 +53,9 @@ public class MessageFactory implements InitializingBean {
 
     private final ByteBufferConverter byteBufferConverter;
     private static final String SOURCE_UUID = UUID.randomUUID().toString();
+    // the single object encoding header of BinaryMessageEncoder: marker bytes followed by the schema fingerprint
+    private static final byte[] MESSAGE_HEADER = createMessageHeader();
+    private static final ThreadLocal<EnvelopeBuffer> ENVELOPE_BUFFERS = ThreadLocal.withInitial(EnvelopeBuffer::new);
 
     public MessageV1 createMessage(MessageId id, MessageSource source, MessageType type, MessageCategory category,
             MessageCreatedAt createdAt, MessageBusinessDate businessDate, MessageIdempotencyKey idempotencyKey,
@@ -79,6 +87,41 @@ public class MessageFactory implements InitializingBean {
         return createMessage(id, source, type, category, createdAt, businessDate, idempotencyKey, dataSchema, data);
     }
 
+    /**
+     * Returns the same bytes as <code>createMessage(event).toByteBuffer()</code>, but writes the {@link MessageV1}
+     * envelope straight around the stored payload: the payload is neither wrapped into a record nor re-encoded, and the
+     * envelope fields are encoded with an encoder and buffer reused by the current thread.
+     */
+    public byte[] createSerializedMessage(ExternalEvent event) throws IOException {
+        EnvelopeBuffer buffer = ENVELOPE_BUFFERS.get();
+        buffer.reset();
+        BinaryEncoder encoder = buffer.encoder();
+        // fields in the order of the MessageV1 schema; data is the last one, so only its length goes into the envelope
+        encoder.writeFixed(MESSAGE_HEADER);
+        encoder.writeInt(event.getId().intValue());
+        encoder.writeString(SOURCE_UUID);
+        encoder.writeString(event.getType());
+        encoder.writeString(event.getCategory());
+        encoder.writeString(getMessageCreatedAt(event.getCreatedAt()));
+        encoder.writeString(getMessageBusinessDate(event.getBusinessDate()));
+        encoder.writeString(getTenantId());
+        encoder.writeString(event.getIdempotencyKey());
+        encoder.writeString(event.getSchema());
+        byte[] payload = event.getData();
+        encoder.writeLong(payload.length);
+        encoder.flush();
+        return buffer.toMessage(payload);
+    }
+
+    private static byte[] createMessageHeader() {
+        byte[] fingerprint = SchemaNormalization.parsingFingerprint("CRC-64-AVRO", MessageV1.getClassSchema());
+        byte[] header = new byte[2 + fingerprint.length];
+        header[0] = (byte) 0xC3;
+        header[1] = (byte) 0x01;
+        System.arraycopy(fingerprint, 0, header, 2, fingerprint.length);
+        return header;
+    }
+
     private String getTenantId() {
         return ThreadLocalContextUtil.getTenant().getTenantIdentifier();
     }
@@ -95,4 +138,21 @@ public class MessageFactory implements InitializingBean {
     public void afterPropertiesSet() throws Exception {
         log.info("Message source set to {}", SOURCE_UUID);
     }
+
+    private static final class EnvelopeBuffer extends ByteArrayOutputStream {
+
+        private BinaryEncoder encoder;
+
+        private BinaryEncoder encoder() {
+            encoder = EncoderFactory.get().directBinaryEncoder(this, encoder);
+            return encoder;
+        }
+
+        private byte[] toMessage(byte[] payload) {
+            byte[] message = new byte[count + payload.length];
+            System.arraycopy(buf, 0, message, 0, count);
+            System.arraycopy(payload, 0, message, count, payload.length);
+            return message;
+        }
+    }
 }
@@ -33,12 +33,25 @@ public abstract class AbstractBusinessEventSerializer implements BusinessEventSe
     @Setter(onMethod = @__({ @Autowired }))
     private ByteBufferConverter byteBufferConverter;
 
+    @Setter(onMethod = @__({ @Autowired(required = false) }))
+    private ExternalEventSnapshotCache snapshotCache;
+
     @Override
     public <T> byte[] serialize(BusinessEvent<T> rawEvent) throws IOException {
-        ByteBufferSerializable avroDto = toAvroDTO(rawEvent);
+        Long snapshotId = getSnapshotId(rawEvent);
+        ByteBufferSerializable avroDto = snapshotCache == null || snapshotId == null ? toAvroDTO(rawEvent)
+                : snapshotCache.getSnapshot(getClass(), snapshotId, () -> toAvroDTO(rawEvent));
         ByteBuffer buffer = avroDto.toByteBuffer();
         return byteBufferConverter.convert(buffer);
     }
 
     protected abstract <T> ByteBufferSerializable toAvroDTO(BusinessEvent<T> rawEvent);
+
+    /**
+     * Returns the id of the entity the DTO is a snapshot of, if the DTO depends on nothing else but the state of that
+     * entity. Events with the same snapshot id can then share the DTO within a {@link ExternalEventSnapshotCache} scope.
+     */
+    protected <T> Long getSnapshotId(BusinessEvent<T> rawEvent) {
+        return null;
+    }
 }
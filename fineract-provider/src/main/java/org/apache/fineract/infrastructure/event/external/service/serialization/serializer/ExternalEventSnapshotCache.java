@@ -0,0 +1,72 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service.serialization.serializer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.fineract.avro.generator.ByteBufferSerializable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shares the Avro DTO of an entity snapshot between the events serialized in the same scope, so that an entity raising
+ * several events (e.g. a repayment raising a handful of loan level events) is read and mapped only once.
+ *
+ * A scope must only cover events that are serialized at the same point in time, because the shared DTO does not see
+ * changes made to the entity after it was built. Outside a scope every call builds a fresh DTO.
+ */
+@Component
+public class ExternalEventSnapshotCache {
+
+    private final ThreadLocal<Map<List<Object>, ByteBufferSerializable>> snapshots = new ThreadLocal<>();
+
+    /**
+     * Opens a scope for the current thread. Scopes do not nest: opening a scope within another one joins the outer
+     * scope and closing it does nothing.
+     */
+    public Scope openScope() {
+        if (this.snapshots.get() != null) {
+            return () -> {};
+        }
+        this.snapshots.set(new HashMap<>());
+        return this.snapshots::remove;
+    }
+
+    public ByteBufferSerializable getSnapshot(Class<?> type, Long id, Supplier<ByteBufferSerializable> snapshotBuilder) {
+        final Map<List<Object>, ByteBufferSerializable> scopeSnapshots = this.snapshots.get();
+        if (scopeSnapshots == null || id == null) {
+            return snapshotBuilder.get();
+        }
+        final List<Object> key = List.of(type, id);
+        ByteBufferSerializable snapshot = scopeSnapshots.get(key);
+        if (snapshot == null) {
+            snapshot = snapshotBuilder.get();
+            scopeSnapshots.put(key, snapshot);
+        }
+        return snapshot;
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
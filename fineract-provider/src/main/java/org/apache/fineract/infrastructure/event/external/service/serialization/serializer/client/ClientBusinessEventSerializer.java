@@ -49,6 +49,11 @@ public class ClientBusinessEventSerializer extends AbstractBusinessEventSerializ
         return mapper.map(data);
     }
 
+    @Override
+    protected <T> Long getSnapshotId(BusinessEvent<T> rawEvent) {
+        return ((ClientBusinessEvent) rawEvent).get().getId();
+    }
+
     @Override
     public Class<? extends GenericContainer> getSupportedSchema() {
         return ClientDataV1.class;
@@ -50,6 +50,11 @@ public class LoanBusinessEventSerializer extends AbstractBusinessEventSerializer
         return mapper.map(data);
     }
 
+    @Override
+    protected <T> Long getSnapshotId(BusinessEvent<T> rawEvent) {
+        return ((LoanBusinessEvent) rawEvent).get().getId();
+    }
+
     @Override
     public Class<? extends GenericContainer> getSupportedSchema() {
         return LoanAccountDataV1.class;
@@ -49,6 +49,11 @@ public class SavingsAccountBusinessEventSerializer extends AbstractBusinessEvent
         return mapper.map(data);
     }
 
+    @Override
+    protected <T> Long getSnapshotId(BusinessEvent<T> rawEvent) {
+        return ((SavingsAccountBusinessEvent) rawEvent).get().getId();
+    }
+
     @Override
     public Class<? extends GenericContainer> getSupportedSchema() {
         return SavingsAccountDataV1.class;
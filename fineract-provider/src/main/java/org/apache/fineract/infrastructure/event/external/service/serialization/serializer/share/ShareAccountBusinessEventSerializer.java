@@ -49,6 +49,11 @@ public class ShareAccountBusinessEventSerializer extends AbstractBusinessEventSe
         return mapper.map(data);
     }
 
+    @Override
+    protected <T> Long getSnapshotId(BusinessEvent<T> rawEvent) {
+        return ((ShareAccountBusinessEvent) rawEvent).get().getId();
+    }
+
     @Override
     public Class<? extends GenericContainer> getSupportedSchema() {
         return ShareAccountDataV1.class;
@@ -24,7 +24,15 @@ import org.springframework.stereotype.Component;
 @Component
 public class ByteBufferConverter {
 
+    /**
+     * Returns the remaining bytes of the buffer. When the buffer is backed by an array holding exactly those bytes, like
+     * the buffers returned by the <code>toByteBuffer()</code> of the Avro records, that array is returned without
+     * copying, so the buffer must not be written to afterwards.
+     */
     public byte[] convert(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
         byte[] bytes = new byte[buffer.remaining()];
         buffer.get(bytes);
         buffer.position(buffer.position() - bytes.length);
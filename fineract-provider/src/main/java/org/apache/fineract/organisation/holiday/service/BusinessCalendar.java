@@ -0,0 +1,121 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.holiday.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.organisation.workingdays.service.WorkingDaysUtil;
+
+/**
+ * Active holidays and working days of one office, indexed by date so that classifying a date neither scans the holiday
+ * list nor evaluates the working days recurrence again.
+ *
+ * Instances are built by {@link BusinessCalendarService} and shared between requests, so the holidays and working
+ * days they hand out must be treated as read-only.
+ */
+public final class BusinessCalendar {
+
+    private static final int MAX_WORKING_DAY_ENTRIES = 20000;
+
+    private final Long officeId;
+    private final List<Holiday> holidays;
+    private final Map<LocalDate, Holiday> holidaysByDate;
+    private final WorkingDays workingDays;
+    private final ConcurrentMap<LocalDate, Boolean> workingDayFlags = new ConcurrentHashMap<>();
+
+    public BusinessCalendar(final Long officeId, final List<Holiday> holidays, final WorkingDays workingDays) {
+        this.officeId = officeId;
+        this.holidays = List.copyOf(holidays);
+        this.workingDays = workingDays;
+
+        final Map<LocalDate, Holiday> index = new HashMap<>();
+        for (final Holiday holiday : this.holidays) {
+            // like HolidayUtil#getApplicableHoliday, the last holiday covering a date wins
+            for (LocalDate date = holiday.getFromDate(); !date.isAfter(holiday.getToDate()); date = date.plusDays(1)) {
+                index.put(date, holiday);
+            }
+        }
+        this.holidaysByDate = index;
+    }
+
+    public Long getOfficeId() {
+        return this.officeId;
+    }
+
+    public WorkingDays getWorkingDays() {
+        return this.workingDays;
+    }
+
+    /**
+     * Returns the holidays ending on or after the given date, the same selection as
+     * {@link org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper#findByOfficeIdAndGreaterThanDate}.
+     */
+    public List<Holiday> getHolidaysFrom(final LocalDate date) {
+        final List<Holiday> result = new ArrayList<>();
+        for (final Holiday holiday : this.holidays) {
+            if (!holiday.getToDate().isBefore(date)) {
+                result.add(holiday);
+            }
+        }
+        return result;
+    }
+
+    public Holiday getHoliday(final LocalDate date) {
+        return this.holidaysByDate.get(date);
+    }
+
+    /**
+     * Returns the holiday covering the date, considering only the holidays ending on or after
+     * <code>holidaysFromDate</code>.
+     */
+    public Holiday getHoliday(final LocalDate date, final LocalDate holidaysFromDate) {
+        final Holiday holiday = this.holidaysByDate.get(date);
+        if (holiday == null || (holidaysFromDate != null && holiday.getToDate().isBefore(holidaysFromDate))) {
+            return null;
+        }
+        return holiday;
+    }
+
+    public boolean isHoliday(final LocalDate date) {
+        return this.holidaysByDate.containsKey(date);
+    }
+
+    public boolean isWorkingDay(final LocalDate date) {
+        final Boolean cached = this.workingDayFlags.get(date);
+        if (cached != null) {
+            return cached;
+        }
+        final boolean workingDay = WorkingDaysUtil.isWorkingDay(this.workingDays, date);
+        if (this.workingDayFlags.size() < MAX_WORKING_DAY_ENTRIES) {
+            this.workingDayFlags.put(date, workingDay);
+        }
+        return workingDay;
+    }
+
+    public boolean isNonWorkingDay(final LocalDate date) {
+        return !isWorkingDay(date);
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.fineract.organisation.workingdays.data.WorkingDayValidator;
 import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
 import org.apache.fineract.organisation.workingdays.domain.WorkingDaysRepositoryWrapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -49,6 +50,7 @@ public class WorkingDaysWritePlatformServiceJpaRepositoryImpl implements Working
 
     @Transactional
     @Override
+    @CacheEvict(value = { "businessCalendars", "loanScheduleQuotes" }, allEntries = true)
     public CommandProcessingResult updateWorkingDays(JsonCommand command) {
         String recurrence = "";
         RRule rrule = null;
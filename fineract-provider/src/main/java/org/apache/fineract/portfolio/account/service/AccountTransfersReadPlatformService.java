@@ -21,6 +21,7 @@ package org.apache.fineract.portfolio.account.service;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.Set;
 import org.apache.fineract.infrastructure.core.service.Page;
 import org.apache.fineract.infrastructure.core.service.SearchParameters;
 import org.apache.fineract.portfolio.account.PortfolioAccountType;
@@ -37,6 +38,12 @@ public interface AccountTransfersReadPlatformService {
 
     boolean isAccountTransfer(Long transactionId, PortfolioAccountType accountType);
 
+    /**
+     * Returns those of the given transaction ids that belong to an account transfer, using one query per thousand ids
+     * instead of one {@link #isAccountTransfer(Long, PortfolioAccountType)} query per transaction.
+     */
+    Set<Long> findAccountTransferTransactionIds(Collection<Long> transactionIds, PortfolioAccountType accountType);
+
     Page<AccountTransferData> retrieveByStandingInstruction(Long id, SearchParameters searchParameters);
 
     Collection<Long> fetchPostInterestTransactionIds(Long accountId);
@@ -26,6 +26,10 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -56,6 +60,7 @@ import org.springframework.util.CollectionUtils;
 public class AccountTransfersReadPlatformServiceImpl implements AccountTransfersReadPlatformService {
 
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int ACCOUNT_TRANSFER_LOOKUP_BATCH_SIZE = 1000;
     private final JdbcTemplate jdbcTemplate;
     private final ClientReadPlatformService clientReadPlatformService;
     private final OfficeReadPlatformService officeReadPlatformService;
@@ -281,6 +286,33 @@ public class AccountTransfersReadPlatformServiceImpl implements AccountTransfers
         return count > 0;
     }
 
+    @Override
+    public Set<Long> findAccountTransferTransactionIds(final Collection<Long> transactionIds, final PortfolioAccountType accountType) {
+        final Set<Long> accountTransferTransactionIds = new HashSet<>();
+        final String fromColumn = accountType.isLoanAccount() ? "at.from_loan_transaction_id" : "at.from_savings_transaction_id";
+        final String toColumn = accountType.isLoanAccount() ? "at.to_loan_transaction_id" : "at.to_savings_transaction_id";
+        final List<Long> ids = new ArrayList<>(transactionIds);
+        for (int from = 0; from < ids.size(); from += ACCOUNT_TRANSFER_LOOKUP_BATCH_SIZE) {
+            final int to = Math.min(from + ACCOUNT_TRANSFER_LOOKUP_BATCH_SIZE, ids.size());
+            final Set<Long> batch = new HashSet<>(ids.subList(from, to));
+            final String inClause = batch.stream().map(String::valueOf).collect(Collectors.joining(","));
+            final String sql = "select " + fromColumn + " as fromTransactionId, " + toColumn + " as toTransactionId"
+                    + " from m_account_transfer_transaction at where " + fromColumn + " in (" + inClause + ") or " + toColumn + " in ("
+                    + inClause + ")";
+            this.jdbcTemplate.query(sql, rs -> {
+                final Long fromTransactionId = JdbcSupport.getLong(rs, "fromTransactionId");
+                final Long toTransactionId = JdbcSupport.getLong(rs, "toTransactionId");
+                if (fromTransactionId != null && batch.contains(fromTransactionId)) {
+                    accountTransferTransactionIds.add(fromTransactionId);
+                }
+                if (toTransactionId != null && batch.contains(toTransactionId)) {
+                    accountTransferTransactionIds.add(toTransactionId);
+                }
+            });
+        }
+        return accountTransferTransactionIds;
+    }
+
     @Override
     public Page<AccountTransferData> retrieveByStandingInstruction(final Long id, final SearchParameters searchParameters) {
 
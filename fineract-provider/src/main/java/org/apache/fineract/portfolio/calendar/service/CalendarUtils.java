@@ -18,6 +18,8 @@
  */
 package org.apache.fineract.portfolio.calendar.service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.gson.JsonElement;
 import java.text.ParseException;
 import java.time.LocalDate;
@@ -32,6 +34,8 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.StringTokenizer;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 import net.fortuna.ical4j.model.Date;
 import net.fortuna.ical4j.model.DateList;
 import net.fortuna.ical4j.model.DateTime;
@@ -64,13 +68,27 @@ public final class CalendarUtils {
 
     private static final Logger LOG = LoggerFactory.getLogger(CalendarUtils.class);
 
+    /**
+     * Compiled recurrence rules by RRULE string. Parsing an RRULE is far more expensive than evaluating the resulting
+     * {@link Recur}. A {@link Recur} is mutable, so the shared instances are only read within this class and never handed
+     * out; {@link #getICalRecur(String)} returns a private copy instead.
+     */
+    private static final Cache<String, Recur> COMPILED_RECURS = CacheBuilder.newBuilder().maximumSize(1000).build();
+
+    /**
+     * Expanded recurring dates by rule, seed date and date window; schedule generation of meeting linked loans expands
+     * the same windows for every member of a group.
+     */
+    private static final Cache<RecurringDatesKey, List<LocalDate>> RECURRING_DATES = CacheBuilder.newBuilder().maximumSize(10000)
+            .build();
+
     static {
         System.setProperty("net.fortuna.ical4j.timezone.date.floating", "true");
     }
 
     public static LocalDateTime getNextRecurringDate(final String recurringRule, final LocalDateTime seedDate,
             final LocalDateTime startDate) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = getCompiledRecur(recurringRule);
         if (recur == null) {
             return null;
         }
@@ -80,7 +98,7 @@ public final class CalendarUtils {
     }
 
     public static LocalDate getNextRecurringDate(final String recurringRule, final LocalDate seedDate, final LocalDate startDate) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = getCompiledRecur(recurringRule);
         if (recur == null) {
             return null;
         }
@@ -174,7 +192,7 @@ public final class CalendarUtils {
             final LocalDate periodStartDate, final LocalDate periodEndDate, final int maxCount, boolean isSkippMeetingOnFirstDay,
             final Integer numberOfDays) {
 
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = getCompiledRecur(recurringRule);
 
         return getRecurringDates(recur, seedDate, periodStartDate, periodEndDate, maxCount, isSkippMeetingOnFirstDay, numberOfDays);
     }
@@ -184,6 +202,20 @@ public final class CalendarUtils {
         if (recur == null) {
             return null;
         }
+        final RecurringDatesKey key = new RecurringDatesKey(recur.toString(), seedDate, periodStartDate, periodEndDate, maxCount,
+                isSkippMeetingOnFirstDay, numberOfDays, DateUtils.getDateTimeZoneOfTenant(), ZoneId.systemDefault());
+        final List<LocalDate> cachedDates = RECURRING_DATES.getIfPresent(key);
+        if (cachedDates != null) {
+            return new ArrayList<>(cachedDates);
+        }
+        final Collection<LocalDate> recurringDates = expandRecurringDates(recur, seedDate, periodStartDate, periodEndDate, maxCount,
+                isSkippMeetingOnFirstDay, numberOfDays);
+        RECURRING_DATES.put(key, List.copyOf(recurringDates));
+        return recurringDates;
+    }
+
+    private static Collection<LocalDate> expandRecurringDates(final Recur recur, final LocalDate seedDate, final LocalDate periodStartDate,
+            final LocalDate periodEndDate, final int maxCount, boolean isSkippMeetingOnFirstDay, final Integer numberOfDays) {
         final Date seed = convertToiCal4JCompatibleDate(seedDate.atStartOfDay());
         final DateTime periodStart = new DateTime(java.util.Date.from(periodStartDate.atStartOfDay(ZoneId.systemDefault()).toInstant()));
         final DateTime periodEnd = new DateTime(java.util.Date.from(periodEndDate.atStartOfDay(ZoneId.systemDefault()).toInstant()));
@@ -233,16 +265,14 @@ public final class CalendarUtils {
         return recuringDate;
     }
 
+    /**
+     * Returns a newly parsed {@link Recur} of the rule, which is not shared and may therefore be modified by the caller.
+     */
     public static Recur getICalRecur(final String recurringRule) {
 
         // Construct RRule
         try {
-            final RRule rrule = new RRule(recurringRule);
-            rrule.validate();
-
-            final Recur recur = rrule.getRecur();
-
-            return recur;
+            return parseRecur(recurringRule);
         } catch (final ParseException e) {
             // TODO Auto-generated catch block
             LOG.error("Problem occurred in getICalRecur function", e);
@@ -254,16 +284,47 @@ public final class CalendarUtils {
         return null;
     }
 
+    public static boolean isEveryDayOfWeek(final String recurringRule) {
+        return getCompiledRecur(recurringRule).getDayList().size() == 7;
+    }
+
+    /**
+     * Returns the shared compiled {@link Recur} of the rule, see {@link #COMPILED_RECURS}.
+     */
+    private static Recur getCompiledRecur(final String recurringRule) {
+        try {
+            return compileRecur(recurringRule);
+        } catch (final ParseException | ValidationException e) {
+            LOG.error("Problem occurred in getCompiledRecur function", e);
+        }
+        return null;
+    }
+
+    private static Recur compileRecur(final String recurringRule) throws ParseException, ValidationException {
+        final Recur cachedRecur = recurringRule == null ? null : COMPILED_RECURS.getIfPresent(recurringRule);
+        if (cachedRecur != null) {
+            return cachedRecur;
+        }
+        final Recur recur = parseRecur(recurringRule);
+        if (recur != null) {
+            COMPILED_RECURS.put(recurringRule, recur);
+        }
+        return recur;
+    }
+
+    private static Recur parseRecur(final String recurringRule) throws ParseException, ValidationException {
+        final RRule rrule = new RRule(recurringRule);
+        rrule.validate();
+        return rrule.getRecur();
+    }
+
     public static String getRRuleReadable(final LocalDate startDate, final String recurringRule) {
 
         String humanReadable = "";
 
-        RRule rrule;
         Recur recur = null;
         try {
-            rrule = new RRule(recurringRule);
-            rrule.validate();
-            recur = rrule.getRecur();
+            recur = compileRecur(recurringRule);
         } catch (final ValidationException e) {
             throw new PlatformDataIntegrityException("error.msg.invalid.recurring.rule",
                     "The Recurring Rule value: " + recurringRule + " is not valid.", "recurrence", recurringRule, e);
@@ -373,7 +434,7 @@ public final class CalendarUtils {
     }
 
     public static boolean isValidRedurringDate(final String recurringRule, final LocalDate seedDate, final LocalDate date) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = getCompiledRecur(recurringRule);
         if (recur == null) {
             return false;
         }
@@ -385,7 +446,7 @@ public final class CalendarUtils {
     public static boolean isValidRedurringDate(final String recurringRule, final LocalDate seedDate, final LocalDate date,
             boolean isSkipRepaymentonFirstDayOfMonth, final Integer numberOfDays) {
 
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = getCompiledRecur(recurringRule);
         if (recur == null) {
             return false;
         }
@@ -466,7 +527,7 @@ public final class CalendarUtils {
     }
 
     public static PeriodFrequencyType getMeetingPeriodFrequencyType(final String recurringRule) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = getCompiledRecur(recurringRule);
         return getMeetingPeriodFrequencyType(recur);
     }
 
@@ -499,17 +560,17 @@ public final class CalendarUtils {
     }
 
     public static int getInterval(final String recurringRule) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = getCompiledRecur(recurringRule);
         return recur.getInterval();
     }
 
     public static CalendarFrequencyType getFrequency(final String recurringRule) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = getCompiledRecur(recurringRule);
         return CalendarFrequencyType.fromString(recur.getFrequency().name());
     }
 
     public static CalendarWeekDaysType getRepeatsOnDay(final String recurringRule) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = getCompiledRecur(recurringRule);
         final WeekDayList weekDays = recur.getDayList();
         if (weekDays.isEmpty()) {
             return CalendarWeekDaysType.INVALID;
@@ -520,7 +581,7 @@ public final class CalendarUtils {
     }
 
     public static NthDayType getRepeatsOnNthDayOfMonth(final String recurringRule) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = getCompiledRecur(recurringRule);
         NumberList monthDays = null;
         if (recur.getDayList().isEmpty()) {
             monthDays = recur.getMonthDayList();
@@ -540,7 +601,7 @@ public final class CalendarUtils {
     public static LocalDate getFirstRepaymentMeetingDate(final Calendar calendar, final LocalDate disbursementDate,
             final Integer loanRepaymentInterval, final String frequency, boolean isSkipRepaymentOnFirstDayOfMonth,
             final Integer numberOfDays) {
-        final Recur recur = CalendarUtils.getICalRecur(calendar.getRecurrence());
+        final Recur recur = getCompiledRecur(calendar.getRecurrence());
         if (recur == null) {
             return null;
         }
@@ -583,7 +644,7 @@ public final class CalendarUtils {
     public static LocalDate getNewRepaymentMeetingDate(final String recurringRule, final LocalDate seedDate,
             final LocalDate oldRepaymentDate, final Integer loanRepaymentInterval, final String frequency, final WorkingDays workingDays,
             final boolean isSkipRepaymentOnFirstDayOfMonth, final Integer numberOfDays) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = getCompiledRecur(recurringRule);
         if (recur == null) {
             return null;
         }
@@ -600,7 +661,7 @@ public final class CalendarUtils {
             final Integer loanRepaymentInterval, final String frequency, final WorkingDays workingDays,
             boolean isSkipRepaymentOnFirstDayOfMonth, final Integer numberOfDays) {
 
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = getCompiledRecur(recurringRule);
         if (recur == null) {
             return null;
         }
@@ -644,8 +705,8 @@ public final class CalendarUtils {
     }
 
     public static boolean isFrequencySame(final String oldRRule, final String newRRule) {
-        final Recur oldRecur = getICalRecur(oldRRule);
-        final Recur newRecur = getICalRecur(newRRule);
+        final Recur oldRecur = getCompiledRecur(oldRRule);
+        final Recur newRecur = getCompiledRecur(newRRule);
 
         if (oldRecur == null || oldRecur.getFrequency() == null || newRecur == null || newRecur.getFrequency() == null) {
             return false;
@@ -654,8 +715,8 @@ public final class CalendarUtils {
     }
 
     public static boolean isIntervalSame(final String oldRRule, final String newRRule) {
-        final Recur oldRecur = getICalRecur(oldRRule);
-        final Recur newRecur = getICalRecur(newRRule);
+        final Recur oldRecur = getCompiledRecur(oldRRule);
+        final Recur newRecur = getCompiledRecur(newRRule);
 
         if (oldRecur == null || oldRecur.getFrequency() == null || newRecur == null || newRecur.getFrequency() == null) {
             return false;
@@ -715,7 +776,7 @@ public final class CalendarUtils {
     public static LocalDate getRecentEligibleMeetingDate(final String recurringRule, final LocalDate seedDate,
             final boolean isSkipMeetingOnFirstDay, final Integer numberOfDays) {
         LocalDate currentDate = DateUtils.getLocalDateOfTenant();
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = getCompiledRecur(recurringRule);
         if (recur == null) {
             return null;
         }
@@ -738,7 +799,7 @@ public final class CalendarUtils {
     }
 
     public static LocalDate getNextScheduleDate(final Calendar calendar, final LocalDate startDate) {
-        final Recur recur = CalendarUtils.getICalRecur(calendar.getRecurrence());
+        final Recur recur = getCompiledRecur(calendar.getRecurrence());
         if (recur == null) {
             return null;
         }
@@ -776,7 +837,7 @@ public final class CalendarUtils {
     }
 
     public static Integer getMonthOnDay(String recurringRule) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = getCompiledRecur(recurringRule);
         NumberList monthDayList = null;
         Integer monthOnDay = null;
         if (getMeetingPeriodFrequencyType(recur).isMonthly()) {
@@ -810,7 +871,7 @@ public final class CalendarUtils {
             final Integer loanRepaymentInterval, final String frequency, final WorkingDays workingDays,
             boolean isSkipRepaymentOnFirstDayOfMonth, final Integer numberOfDays, boolean isCalledFirstTime, boolean applyWorkingDays) {
 
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = getCompiledRecur(recurringRule);
         if (recur == null) {
             return null;
         }
@@ -908,4 +969,19 @@ public final class CalendarUtils {
                 .setPosList(recur.getSetPosList()).weekStartDay(recur.getWeekStartDay());
         return recurBuilder;
     }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class RecurringDatesKey {
+
+        private final String recurringRule;
+        private final LocalDate seedDate;
+        private final LocalDate periodStartDate;
+        private final LocalDate periodEndDate;
+        private final int maxCount;
+        private final boolean skipMeetingOnFirstDay;
+        private final Integer numberOfDays;
+        private final ZoneId tenantZoneId;
+        private final ZoneId systemZoneId;
+    }
 }
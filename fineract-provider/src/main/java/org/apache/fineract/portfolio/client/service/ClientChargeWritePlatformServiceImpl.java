@@ -38,9 +38,9 @@ import org.apache.fineract.infrastructure.core.data.DataValidatorBuilder;
 import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.apache.fineract.infrastructure.core.exception.PlatformDataIntegrityException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
-import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.apache.fineract.organisation.holiday.service.BusinessCalendar;
+import org.apache.fineract.organisation.holiday.service.BusinessCalendarService;
 import org.apache.fineract.organisation.monetary.domain.Money;
-import org.apache.fineract.organisation.workingdays.domain.WorkingDaysRepositoryWrapper;
 import org.apache.fineract.portfolio.charge.domain.Charge;
 import org.apache.fineract.portfolio.charge.domain.ChargeRepositoryWrapper;
 import org.apache.fineract.portfolio.charge.exception.ChargeCannotBeAppliedToException;
@@ -69,8 +69,7 @@ public class ClientChargeWritePlatformServiceImpl implements ClientChargeWritePl
     private final ClientRepositoryWrapper clientRepository;
     private final ClientChargeDataValidator clientChargeDataValidator;
     private final ConfigurationDomainService configurationDomainService;
-    private final HolidayRepositoryWrapper holidayRepository;
-    private final WorkingDaysRepositoryWrapper workingDaysRepository;
+    private final BusinessCalendarService businessCalendarService;
     private final ClientChargeRepositoryWrapper clientChargeRepository;
     private final ClientTransactionRepository clientTransactionRepository;
     private final PaymentDetailWritePlatformService paymentDetailWritePlatformService;
@@ -393,8 +392,9 @@ public class ClientChargeWritePlatformServiceImpl implements ClientChargeWritePl
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors)
                 .resource(ClientApiConstants.CLIENT_CHARGES_RESOURCE_NAME);
         if (date != null) {
+            final BusinessCalendar businessCalendar = this.businessCalendarService.getBusinessCalendar(officeId);
             // transaction date should not be on a holiday or non working day
-            if (!this.configurationDomainService.allowTransactionsOnHolidayEnabled() && this.holidayRepository.isHoliday(officeId, date)) {
+            if (!this.configurationDomainService.allowTransactionsOnHolidayEnabled() && businessCalendar.isHoliday(date)) {
                 baseDataValidator.reset().parameter(jsonPropertyName).value(date.format(fmt))
                         .failWithCodeNoParameterAddedToErrorCode(errorMessageFragmentForActivityOnHoliday);
                 if (!dataValidationErrors.isEmpty()) {
@@ -403,7 +403,7 @@ public class ClientChargeWritePlatformServiceImpl implements ClientChargeWritePl
             }
 
             if (!this.configurationDomainService.allowTransactionsOnNonWorkingDayEnabled()
-                    && !this.workingDaysRepository.isWorkingDay(date)) {
+                    && !businessCalendar.isWorkingDay(date)) {
                 baseDataValidator.reset().parameter(jsonPropertyName).value(date.format(fmt))
                         .failWithCodeNoParameterAddedToErrorCode(errorMessageFragmentForActivityOnNonWorkingDay);
                 if (!dataValidationErrors.isEmpty()) {
@@ -23,10 +23,13 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.accounting.journalentry.service.JournalEntrySink;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.portfolio.collectionsheet.command.CollectionSheetBulkDisbursalCommand;
 import org.apache.fineract.portfolio.collectionsheet.command.CollectionSheetBulkRepaymentCommand;
 import org.apache.fineract.portfolio.collectionsheet.data.CollectionSheetTransactionDataValidator;
@@ -44,6 +47,7 @@ import org.apache.fineract.portfolio.savings.service.DepositAccountWritePlatform
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 public class CollectionSheetWritePlatformServiceJpaRepositoryImpl implements CollectionSheetWritePlatformService {
 
@@ -56,6 +60,8 @@ public class CollectionSheetWritePlatformServiceJpaRepositoryImpl implements Col
     private final DepositAccountWritePlatformService accountWritePlatformService;
     private final PaymentDetailAssembler paymentDetailAssembler;
     private final PaymentDetailWritePlatformService paymentDetailWritePlatformService;
+    private final BusinessEventNotifierService businessEventNotifierService;
+    private final JournalEntrySink journalEntrySink;
 
     @Autowired
     public CollectionSheetWritePlatformServiceJpaRepositoryImpl(final LoanWritePlatformService loanWritePlatformService,
@@ -64,7 +70,8 @@ public class CollectionSheetWritePlatformServiceJpaRepositoryImpl implements Col
             final CollectionSheetTransactionDataValidator transactionDataValidator,
             final MeetingWritePlatformService meetingWritePlatformService, final DepositAccountAssembler accountAssembler,
             final DepositAccountWritePlatformService accountWritePlatformService, final PaymentDetailAssembler paymentDetailAssembler,
-            final PaymentDetailWritePlatformService paymentDetailWritePlatformService) {
+            final PaymentDetailWritePlatformService paymentDetailWritePlatformService,
+            final BusinessEventNotifierService businessEventNotifierService, final JournalEntrySink journalEntrySink) {
         this.loanWritePlatformService = loanWritePlatformService;
         this.bulkRepaymentCommandFromApiJsonDeserializer = bulkRepaymentCommandFromApiJsonDeserializer;
         this.bulkDisbursalCommandFromApiJsonDeserializer = bulkDisbursalCommandFromApiJsonDeserializer;
@@ -74,6 +81,8 @@ public class CollectionSheetWritePlatformServiceJpaRepositoryImpl implements Col
         this.accountWritePlatformService = accountWritePlatformService;
         this.paymentDetailAssembler = paymentDetailAssembler;
         this.paymentDetailWritePlatformService = paymentDetailWritePlatformService;
+        this.businessEventNotifierService = businessEventNotifierService;
+        this.journalEntrySink = journalEntrySink;
     }
 
     @Override
@@ -91,11 +100,7 @@ public class CollectionSheetWritePlatformServiceJpaRepositoryImpl implements Col
         }
 
         final PaymentDetail paymentDetail = this.paymentDetailWritePlatformService.createAndPersistPaymentDetail(command, changes);
-        changes.putAll(updateBulkRepayments(command, paymentDetail));
-
-        changes.putAll(updateBulkDisbursals(command));
-
-        changes.putAll(updateBulkMandatorySavingsDuePayments(command, paymentDetail));
+        changes.putAll(postCollectionSheet(command, paymentDetail));
 
         this.meetingWritePlatformService.updateCollectionSheetAttendance(command);
 
@@ -122,11 +127,7 @@ public class CollectionSheetWritePlatformServiceJpaRepositoryImpl implements Col
 
         final PaymentDetail paymentDetail = null;
 
-        changes.putAll(updateBulkRepayments(command, paymentDetail));
-
-        changes.putAll(updateBulkDisbursals(command));
-
-        changes.putAll(updateBulkMandatorySavingsDuePayments(command, paymentDetail));
+        changes.putAll(postCollectionSheet(command, paymentDetail));
 
         return new CommandProcessingResultBuilder() //
                 .withCommandId(command.commandId()) //
@@ -135,6 +136,29 @@ public class CollectionSheetWritePlatformServiceJpaRepositoryImpl implements Col
                 .with(changes).with(changes).build();
     }
 
+    /**
+     * Posts the repayments, disbursals and savings deposits of the sheet as one unit of work: the journal entry legs of
+     * all postings are written with a single batch insert and the external events they raise are sent as one bulk
+     * event.
+     */
+    private Map<String, Object> postCollectionSheet(final JsonCommand command, final PaymentDetail paymentDetail) {
+        this.businessEventNotifierService.startExternalEventRecording();
+        try {
+            final Map<String, Object> changes = this.journalEntrySink.deferFlushes(() -> {
+                final Map<String, Object> postings = new HashMap<>();
+                postings.putAll(updateBulkRepayments(command, paymentDetail));
+                postings.putAll(updateBulkDisbursals(command));
+                postings.putAll(updateBulkMandatorySavingsDuePayments(command, paymentDetail));
+                return postings;
+            });
+            this.businessEventNotifierService.stopExternalEventRecording();
+            return changes;
+        } catch (RuntimeException e) {
+            this.businessEventNotifierService.resetEventRecording();
+            throw e;
+        }
+    }
+
     private Map<String, Object> updateBulkRepayments(final JsonCommand command, final PaymentDetail paymentDetail) {
         final Map<String, Object> changes = new HashMap<>();
         final CollectionSheetBulkRepaymentCommand bulkRepaymentCommand = this.bulkRepaymentCommandFromApiJsonDeserializer
@@ -162,7 +186,8 @@ public class CollectionSheetWritePlatformServiceJpaRepositoryImpl implements Col
                         .mandatorySavingsAccountDeposit(savingsAccountTransactionDTO);
                 depositTransactionIds.add(savingsAccountTransaction.getId());
             } catch (Exception e) {
-                // TODO: handle exception
+                log.warn("Mandatory savings deposit to savings account {} was skipped", savingsAccountTransactionDTO.getSavingsAccountId(),
+                        e);
             }
         }
         changes.put("SavingsTransactions", depositTransactionIds);
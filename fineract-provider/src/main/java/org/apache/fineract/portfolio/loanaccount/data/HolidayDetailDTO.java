@@ -18,9 +18,13 @@
  */
 package org.apache.fineract.portfolio.loanaccount.data;
 
+import java.time.LocalDate;
 import java.util.List;
 import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.service.BusinessCalendar;
+import org.apache.fineract.organisation.holiday.service.HolidayUtil;
 import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.organisation.workingdays.service.WorkingDaysUtil;
 
 public class HolidayDetailDTO {
 
@@ -29,6 +33,8 @@ public class HolidayDetailDTO {
     final WorkingDays workingDays;
     final boolean allowTransactionsOnHoliday;
     final boolean allowTransactionsOnNonWorkingDay;
+    final BusinessCalendar businessCalendar;
+    final LocalDate holidaysFromDate;
 
     public HolidayDetailDTO(final boolean isHolidayEnabled, final List<Holiday> holidays, final WorkingDays workingDays) {
         this.isHolidayEnabled = isHolidayEnabled;
@@ -36,6 +42,8 @@ public class HolidayDetailDTO {
         this.workingDays = workingDays;
         this.allowTransactionsOnHoliday = false;
         this.allowTransactionsOnNonWorkingDay = false;
+        this.businessCalendar = null;
+        this.holidaysFromDate = null;
     }
 
     public HolidayDetailDTO(final boolean isHolidayEnabled, final List<Holiday> holidays, final WorkingDays workingDays,
@@ -45,6 +53,23 @@ public class HolidayDetailDTO {
         this.workingDays = workingDays;
         this.allowTransactionsOnHoliday = allowTransactionsOnHoliday;
         this.allowTransactionsOnNonWorkingDay = allowTransactionsOnNonWorkingDay;
+        this.businessCalendar = null;
+        this.holidaysFromDate = null;
+    }
+
+    /**
+     * Uses the holidays of the calendar ending on or after <code>holidaysFromDate</code>; dates are classified with the
+     * calendar's date index instead of scanning the holiday list.
+     */
+    public HolidayDetailDTO(final boolean isHolidayEnabled, final BusinessCalendar businessCalendar, final LocalDate holidaysFromDate,
+            final boolean allowTransactionsOnHoliday, final boolean allowTransactionsOnNonWorkingDay) {
+        this.isHolidayEnabled = isHolidayEnabled;
+        this.holidays = businessCalendar.getHolidaysFrom(holidaysFromDate);
+        this.workingDays = businessCalendar.getWorkingDays();
+        this.allowTransactionsOnHoliday = allowTransactionsOnHoliday;
+        this.allowTransactionsOnNonWorkingDay = allowTransactionsOnNonWorkingDay;
+        this.businessCalendar = businessCalendar;
+        this.holidaysFromDate = holidaysFromDate;
     }
 
     public boolean isHolidayEnabled() {
@@ -66,4 +91,18 @@ public class HolidayDetailDTO {
     public boolean isAllowTransactionsOnNonWorkingDay() {
         return this.allowTransactionsOnNonWorkingDay;
     }
+
+    public Holiday getApplicableHoliday(final LocalDate date) {
+        if (this.businessCalendar != null) {
+            return this.businessCalendar.getHoliday(date, this.holidaysFromDate);
+        }
+        return HolidayUtil.getApplicableHoliday(date, this.holidays);
+    }
+
+    public boolean isNonWorkingDay(final LocalDate date) {
+        if (this.businessCalendar != null) {
+            return this.businessCalendar.isNonWorkingDay(date);
+        }
+        return WorkingDaysUtil.isNonWorkingDay(this.workingDays, date);
+    }
 }
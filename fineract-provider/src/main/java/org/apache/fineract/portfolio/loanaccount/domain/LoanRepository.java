@@ -80,6 +80,14 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
 
     String FIND_ID_BY_EXTERNAL_ID = "SELECT loan.id FROM Loan loan WHERE loan.externalId = :externalId";
 
+    String FIND_BY_IDS_WITH_REPAYMENT_SCHEDULE = "select distinct loan from Loan loan left join fetch loan.repaymentScheduleInstallments "
+            + "where loan.id in :ids";
+
+    String FIND_BY_IDS_WITH_TRANSACTIONS = "select distinct loan from Loan loan left join fetch loan.loanTransactions "
+            + "where loan.id in :ids";
+
+    String FIND_BY_IDS_WITH_CHARGES = "select distinct loan from Loan loan left join fetch loan.charges where loan.id in :ids";
+
     @Query(FIND_GROUP_LOANS_DISBURSED_AFTER)
     List<Loan> getGroupLoansDisbursedAfter(@Param("disbursementDate") LocalDate disbursementDate, @Param("groupId") Long groupId,
             @Param("loanType") Integer loanType);
@@ -179,4 +187,12 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
     @Query(FIND_ALL_NON_CLOSED_ONE_DAY_BEHIND)
     List<Long> findAllNonClosedLoanIdsOneDayBehind(@Param("last_closed_business_date") LocalDate businessDate);
 
+    @Query(FIND_BY_IDS_WITH_REPAYMENT_SCHEDULE)
+    List<Loan> findAllByIdWithRepaymentSchedule(@Param("ids") Collection<Long> ids);
+
+    @Query(FIND_BY_IDS_WITH_TRANSACTIONS)
+    List<Loan> findAllByIdWithTransactions(@Param("ids") Collection<Long> ids);
+
+    @Query(FIND_BY_IDS_WITH_CHARGES)
+    List<Loan> findAllByIdWithCharges(@Param("ids") Collection<Long> ids);
 }
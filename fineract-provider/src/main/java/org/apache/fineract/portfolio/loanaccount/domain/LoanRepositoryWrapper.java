@@ -59,6 +59,22 @@ public class LoanRepositoryWrapper {
         return loan;
     }
 
+    /**
+     * Loads the loans together with their repayment schedule, transactions and charges using one query per collection,
+     * so that commands posting to many loans do not initialize these collections loan by loan.
+     */
+    @Transactional(readOnly = true)
+    public List<Loan> findAllWithCollections(final Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final List<Loan> loans = this.repository.findAllByIdWithRepaymentSchedule(ids);
+        // the loans are already managed, these queries only initialize their collections
+        this.repository.findAllByIdWithTransactions(ids);
+        this.repository.findAllByIdWithCharges(ids);
+        return loans;
+    }
+
     // Root Entities are enough
     public Collection<Loan> findActiveLoansByLoanIdAndGroupId(Long clientId, Long groupId) {
         final Collection<Integer> loanStatuses = new ArrayList<>(Arrays.asList(LoanStatus.SUBMITTED_AND_PENDING_APPROVAL.getValue(),
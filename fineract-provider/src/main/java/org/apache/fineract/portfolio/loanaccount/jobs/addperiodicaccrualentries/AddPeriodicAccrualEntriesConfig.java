@@ -19,7 +19,9 @@
 package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
 
 import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
 import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualPlatformService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
@@ -38,6 +40,10 @@ public class AddPeriodicAccrualEntriesConfig {
     private StepBuilderFactory steps;
     @Autowired
     private LoanAccrualPlatformService loanAccrualPlatformService;
+    @Autowired
+    private LoanReadPlatformService loanReadPlatformService;
+    @Autowired
+    private PropertyService propertyService;
 
     @Bean
     protected Step addPeriodicAccrualEntriesStep() {
@@ -52,6 +58,6 @@ public class AddPeriodicAccrualEntriesConfig {
 
     @Bean
     public AddPeriodicAccrualEntriesTasklet addPeriodicAccrualEntriesTasklet() {
-        return new AddPeriodicAccrualEntriesTasklet(loanAccrualPlatformService);
+        return new AddPeriodicAccrualEntriesTasklet(loanAccrualPlatformService, loanReadPlatformService, propertyService);
     }
 }
@@ -18,35 +18,95 @@
  */
 package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
 
+import com.google.common.collect.Lists;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.fineract.infrastructure.core.exception.MultiException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
 import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualPlatformService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
 
+/**
+ * Accrues one keyset page of loans per tasklet iteration. The last processed loan id and the ids of the loans that
+ * failed are kept in the step execution context, which Spring Batch commits after every iteration, so a restarted step
+ * continues after the last committed page instead of starting over. Once all pages are done the failed loans are tried
+ * once more, and the step fails if any of them still fails; restarting it retries only those loans.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class AddPeriodicAccrualEntriesTasklet implements Tasklet {
 
+    private static final String TILL_DATE = "tillDate";
+    private static final String LAST_LOAN_ID = "lastLoanId";
+    private static final String FAILED_LOAN_IDS = "failedLoanIds";
+
     private final LoanAccrualPlatformService loanAccrualPlatformService;
+    private final LoanReadPlatformService loanReadPlatformService;
+    private final PropertyService propertyService;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
-        try {
-            addPeriodicAccruals(DateUtils.getBusinessLocalDate());
-        } catch (MultiException e) {
-            throw new JobExecutionException(e);
+        final ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        if (!executionContext.containsKey(TILL_DATE)) {
+            executionContext.putString(TILL_DATE, DateUtils.getBusinessLocalDate().toString());
+        }
+        final LocalDate tillDate = LocalDate.parse(executionContext.getString(TILL_DATE));
+        final long lastLoanId = executionContext.getLong(LAST_LOAN_ID, 0L);
+        final int pageSize = propertyService.getPartitionSize(JobName.ADD_PERIODIC_ACCRUAL_ENTRIES.name());
+        final List<Long> failedLoanIds = getFailedLoanIds(executionContext);
+
+        final List<Long> loanIds = loanReadPlatformService.retrieveLoanIdsForPeriodicAccrual(tillDate, lastLoanId, pageSize);
+        if (loanIds.isEmpty()) {
+            if (!failedLoanIds.isEmpty()) {
+                retryFailedLoans(executionContext, tillDate, failedLoanIds, pageSize);
+            }
+            return RepeatStatus.FINISHED;
+        }
+
+        failedLoanIds.addAll(loanAccrualPlatformService.addPeriodicAccrualsForLoans(tillDate, loanIds));
+        putFailedLoanIds(executionContext, failedLoanIds);
+        executionContext.putLong(LAST_LOAN_ID, loanIds.get(loanIds.size() - 1));
+        log.debug("Periodic accruals added up to loan {}", loanIds.get(loanIds.size() - 1));
+        return RepeatStatus.CONTINUABLE;
+    }
+
+    private void retryFailedLoans(final ExecutionContext executionContext, final LocalDate tillDate, final List<Long> failedLoanIds,
+            final int pageSize) throws JobExecutionException {
+        log.info("Retrying periodic accruals of {} failed loan(s)", failedLoanIds.size());
+        final List<Long> stillFailedLoanIds = new ArrayList<>();
+        for (final List<Long> page : Lists.partition(failedLoanIds, pageSize)) {
+            stillFailedLoanIds.addAll(loanAccrualPlatformService.addPeriodicAccrualsForLoans(tillDate, page));
+        }
+        putFailedLoanIds(executionContext, stillFailedLoanIds);
+        if (!stillFailedLoanIds.isEmpty()) {
+            throw new JobExecutionException(List.of(new IllegalStateException(
+                    "Periodic accrual failed for " + stillFailedLoanIds.size() + " loan(s), see the log for details")));
+        }
+    }
+
+    private static List<Long> getFailedLoanIds(final ExecutionContext executionContext) {
+        final List<Long> failedLoanIds = new ArrayList<>();
+        final String value = executionContext.getString(FAILED_LOAN_IDS, "");
+        if (!value.isEmpty()) {
+            for (final String loanId : value.split(",")) {
+                failedLoanIds.add(Long.valueOf(loanId));
+            }
         }
-        return RepeatStatus.FINISHED;
+        return failedLoanIds;
     }
 
-    private void addPeriodicAccruals(final LocalDate tilldate) throws MultiException {
-        loanAccrualPlatformService.addPeriodicAccruals(tilldate);
+    private static void putFailedLoanIds(final ExecutionContext executionContext, final List<Long> failedLoanIds) {
+        executionContext.putString(FAILED_LOAN_IDS, failedLoanIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
     }
 }
@@ -26,6 +26,12 @@ public interface LoanScheduleCalculationPlatformService {
 
     LoanScheduleModel calculateLoanSchedule(JsonQuery query, Boolean validateParams);
 
+    /**
+     * Calculates the schedule preview of the loan application terms in the query. Previews are cached for the tenant in
+     * the <code>loanScheduleQuotes</code> cache, keyed by {@link LoanScheduleQuoteKey}.
+     */
+    LoanScheduleData calculateLoanScheduleQuote(JsonQuery query);
+
     void updateFutureSchedule(LoanScheduleData loanScheduleData, Long loanId);
 
     LoanScheduleData generateLoanScheduleForVariableInstallmentRequest(Long loanId, String json);
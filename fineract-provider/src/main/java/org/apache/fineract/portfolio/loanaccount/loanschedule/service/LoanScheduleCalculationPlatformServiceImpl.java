@@ -56,6 +56,7 @@ import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRepository;
 import org.apache.fineract.portfolio.loanproduct.exception.LoanProductNotFoundException;
 import org.apache.fineract.portfolio.loanproduct.serialization.LoanProductDataValidator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -99,6 +100,12 @@ public class LoanScheduleCalculationPlatformServiceImpl implements LoanScheduleC
         this.loanUtilService = loanUtilService;
     }
 
+    @Override
+    @Cacheable(value = "loanScheduleQuotes", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat(T(org.apache.fineract.portfolio.loanaccount.loanschedule.service.LoanScheduleQuoteKey).of(#query))")
+    public LoanScheduleData calculateLoanScheduleQuote(final JsonQuery query) {
+        return calculateLoanSchedule(query, true).toData();
+    }
+
     @Override
     public LoanScheduleModel calculateLoanSchedule(final JsonQuery query, Boolean validateParams) {
 
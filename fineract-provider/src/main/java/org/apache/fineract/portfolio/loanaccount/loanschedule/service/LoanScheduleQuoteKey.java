@@ -0,0 +1,67 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.loanschedule.service;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.fineract.infrastructure.core.api.JsonQuery;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+
+/**
+ * Builds the <code>loanScheduleQuotes</code> cache key of a schedule preview: the business date and a SHA-256 hash of
+ * the loan application terms with their JSON members sorted, so that the same terms sent in a different member order
+ * share one cache entry.
+ */
+public final class LoanScheduleQuoteKey {
+
+    private LoanScheduleQuoteKey() {}
+
+    public static String of(final JsonQuery query) {
+        final String terms = canonicalize(query.parsedJson()).toString();
+        return DateUtils.getBusinessLocalDate() + ":" + Hashing.sha256().hashString(terms, StandardCharsets.UTF_8);
+    }
+
+    static JsonElement canonicalize(final JsonElement element) {
+        if (element == null || element.isJsonNull()) {
+            return element;
+        }
+        if (element.isJsonObject()) {
+            final Map<String, JsonElement> members = new TreeMap<>();
+            for (final Map.Entry<String, JsonElement> member : element.getAsJsonObject().entrySet()) {
+                members.put(member.getKey(), canonicalize(member.getValue()));
+            }
+            final JsonObject sorted = new JsonObject();
+            members.forEach(sorted::add);
+            return sorted;
+        }
+        if (element.isJsonArray()) {
+            final JsonArray array = new JsonArray();
+            for (final JsonElement item : element.getAsJsonArray()) {
+                array.add(canonicalize(item));
+            }
+            return array;
+        }
+        return element;
+    }
+}
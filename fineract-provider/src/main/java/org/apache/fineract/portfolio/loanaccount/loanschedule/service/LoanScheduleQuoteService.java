@@ -0,0 +1,32 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.loanschedule.service;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.core.api.JsonQuery;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanScheduleData;
+
+public interface LoanScheduleQuoteService {
+
+    /**
+     * Calculates the schedule previews of many loan application term variants, returned in the order of the queries.
+     * Variants are calculated in parallel and share the <code>loanScheduleQuotes</code> cache with single previews.
+     */
+    List<LoanScheduleData> calculateLoanScheduleQuotes(List<JsonQuery> queries);
+}
@@ -0,0 +1,66 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.loanschedule.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.api.JsonQuery;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
+import org.apache.fineract.infrastructure.core.service.ContextPropagatingExecutor;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanScheduleData;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class LoanScheduleQuoteServiceImpl implements LoanScheduleQuoteService {
+
+    private final LoanScheduleCalculationPlatformService calculationPlatformService;
+    private final FineractProperties fineractProperties;
+
+    @Override
+    public List<LoanScheduleData> calculateLoanScheduleQuotes(final List<JsonQuery> queries) {
+        final FineractProperties.FineractLoanScheduleQuoteProperties properties = this.fineractProperties.getLoanScheduleQuote();
+        final int maxQuotes = properties == null ? 0 : properties.getMaxQuotes();
+        if (maxQuotes > 0 && queries.size() > maxQuotes) {
+            throw new GeneralPlatformDomainRuleException("error.msg.loan.schedule.quotes.limit.exceeded",
+                    "At most " + maxQuotes + " loan schedule quotes can be calculated in one request", maxQuotes);
+        }
+        final int threadCount = properties == null ? 1 : properties.getThreadCount();
+        if (threadCount <= 1 || queries.size() <= 1) {
+            final List<LoanScheduleData> quotes = new ArrayList<>(queries.size());
+            for (final JsonQuery query : queries) {
+                quotes.add(this.calculationPlatformService.calculateLoanScheduleQuote(query));
+            }
+            return quotes;
+        }
+        return calculateInParallel(queries, threadCount);
+    }
+
+    private List<LoanScheduleData> calculateInParallel(final List<JsonQuery> queries, final int threadCount) {
+        final List<Supplier<LoanScheduleData>> tasks = new ArrayList<>(queries.size());
+        for (final JsonQuery query : queries) {
+            tasks.add(() -> this.calculationPlatformService.calculateLoanScheduleQuote(query));
+        }
+        // the first failing variant is reported the same way a single preview reports it
+        return ContextPropagatingExecutor.invokeAll("loan-schedule-quote", threadCount, tasks);
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.fineract.portfolio.loanaccount.service;
 
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
 import org.apache.fineract.infrastructure.core.exception.MultiException;
 import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleAccrualData;
 
@@ -29,4 +30,10 @@ public interface LoanAccrualPlatformService {
 
     void addPeriodicAccruals(LocalDate tilldate, Collection<LoanScheduleAccrualData> loanScheduleAccrualDatas) throws MultiException;
 
+    /**
+     * Adds the periodic accruals of the given loans, each in its own transaction, and returns the ids of the loans that
+     * failed; their errors are logged.
+     */
+    List<Long> addPeriodicAccrualsForLoans(LocalDate tilldate, List<Long> loanIds);
+
 }
@@ -18,58 +18,160 @@
  */
 package org.apache.fineract.portfolio.loanaccount.service;
 
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW;
+
+import com.google.common.collect.Lists;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.service.ContextPropagatingExecutor;
 import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
 import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleAccrualData;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class LoanAccrualPlatformServiceImpl implements LoanAccrualPlatformService {
 
+    private static final String JOB_NAME = JobName.ADD_PERIODIC_ACCRUAL_ENTRIES.name();
+    private static final TransactionDefinition REQUIRES_NEW = new DefaultTransactionDefinition(PROPAGATION_REQUIRES_NEW);
+
     private final LoanReadPlatformService loanReadPlatformService;
     private final LoanAccrualWritePlatformService loanAccrualWritePlatformService;
+    private final PropertyService propertyService;
+    private final PlatformTransactionManager transactionManager;
+    private ContextPropagatingExecutor executor;
+
+    @PreDestroy
+    public synchronized void shutdownExecutor() {
+        if (this.executor != null) {
+            this.executor.close();
+        }
+    }
 
     @Override
     public void addPeriodicAccruals(final LocalDate tillDate) throws JobExecutionException {
-        Collection<LoanScheduleAccrualData> loanScheduleAccrualDataList = this.loanReadPlatformService
-                .retrievePeriodicAccrualData(tillDate);
-        addPeriodicAccruals(tillDate, loanScheduleAccrualDataList);
+        final int pageSize = this.propertyService.getPartitionSize(JOB_NAME);
+        List<Throwable> errors = new ArrayList<>();
+        List<Long> loanIds = this.loanReadPlatformService.retrieveLoanIdsForPeriodicAccrual(tillDate, 0L, pageSize);
+        while (!loanIds.isEmpty()) {
+            errors.addAll(addPeriodicAccrualsForPage(tillDate, loanIds).values());
+            final Long lastLoanId = loanIds.get(loanIds.size() - 1);
+            loanIds = this.loanReadPlatformService.retrieveLoanIdsForPeriodicAccrual(tillDate, lastLoanId, pageSize);
+        }
+        if (!errors.isEmpty()) {
+            throw new JobExecutionException(errors);
+        }
     }
 
     @Override
     public void addPeriodicAccruals(final LocalDate tillDate, Collection<LoanScheduleAccrualData> loanScheduleAccrualDataList)
             throws JobExecutionException {
-        Map<Long, Collection<LoanScheduleAccrualData>> loanDataMap = new HashMap<>();
-        for (final LoanScheduleAccrualData accrualData : loanScheduleAccrualDataList) {
-            if (loanDataMap.containsKey(accrualData.getLoanId())) {
-                loanDataMap.get(accrualData.getLoanId()).add(accrualData);
-            } else {
-                Collection<LoanScheduleAccrualData> accrualDataList = new ArrayList<>();
-                accrualDataList.add(accrualData);
-                loanDataMap.put(accrualData.getLoanId(), accrualDataList);
-            }
+        // called within the transaction of a loan operation, so the accruals join it instead of committing on their own
+        final Map<Long, Collection<LoanScheduleAccrualData>> loanDataMap = groupByLoan(loanScheduleAccrualDataList);
+        Map<Long, Throwable> failures = addPeriodicAccrualsForEntries(tillDate, new ArrayList<>(loanDataMap.entrySet()), false);
+        if (!failures.isEmpty()) {
+            throw new JobExecutionException(new ArrayList<>(failures.values()));
         }
+    }
 
-        List<Throwable> errors = new ArrayList<>();
-        for (Map.Entry<Long, Collection<LoanScheduleAccrualData>> mapEntry : loanDataMap.entrySet()) {
+    /**
+     * Adds the periodic accruals of one page of loans. The page is split into chunks of loans that are accrued in
+     * parallel when the job is configured with more than one thread; every loan is written in its own transaction, so a
+     * failing loan neither rolls back the others nor the transaction of the caller.
+     */
+    @Override
+    public List<Long> addPeriodicAccrualsForLoans(final LocalDate tillDate, final List<Long> loanIds) {
+        return new ArrayList<>(addPeriodicAccrualsForPage(tillDate, loanIds).keySet());
+    }
+
+    private Map<Long, Throwable> addPeriodicAccrualsForPage(final LocalDate tillDate, final List<Long> loanIds) {
+        final Map<Long, Collection<LoanScheduleAccrualData>> loanDataMap = groupByLoan(
+                this.loanReadPlatformService.retrievePeriodicAccrualData(tillDate, loanIds));
+        final List<Map.Entry<Long, Collection<LoanScheduleAccrualData>>> entries = new ArrayList<>(loanDataMap.entrySet());
+        final int threadCount = this.propertyService.getThreadCount(JOB_NAME);
+        final int chunkSize = this.propertyService.getChunkSize(JOB_NAME);
+
+        if (threadCount <= 1 || entries.size() <= chunkSize) {
+            return addPeriodicAccrualsForEntries(tillDate, entries, true);
+        }
+        return addPeriodicAccrualsInParallel(tillDate, entries, threadCount, chunkSize);
+    }
+
+    private Map<Long, Throwable> addPeriodicAccrualsInParallel(final LocalDate tillDate,
+            final List<Map.Entry<Long, Collection<LoanScheduleAccrualData>>> entries, final int threadCount, final int chunkSize) {
+        final List<Supplier<Map<Long, Throwable>>> tasks = new ArrayList<>();
+        for (final List<Map.Entry<Long, Collection<LoanScheduleAccrualData>>> chunk : Lists.partition(entries, chunkSize)) {
+            tasks.add(() -> addPeriodicAccrualsForEntries(tillDate, chunk, true));
+        }
+        final Map<Long, Throwable> failures = new LinkedHashMap<>();
+        for (final Map<Long, Throwable> chunkFailures : getExecutor(threadCount).invokeAll(tasks)) {
+            failures.putAll(chunkFailures);
+        }
+        return failures;
+    }
+
+    /**
+     * The executor is shared by all pages (and all runs) of the job instead of being created for every page.
+     */
+    private synchronized ContextPropagatingExecutor getExecutor(final int threadCount) {
+        if (this.executor == null) {
+            this.executor = ContextPropagatingExecutor.create("periodic-accrual", threadCount);
+        }
+        return this.executor;
+    }
+
+    private Map<Long, Throwable> addPeriodicAccrualsForEntries(final LocalDate tillDate,
+            final List<Map.Entry<Long, Collection<LoanScheduleAccrualData>>> entries, final boolean transactionPerLoan) {
+        final Map<Long, Throwable> failures = new LinkedHashMap<>();
+        for (Map.Entry<Long, Collection<LoanScheduleAccrualData>> mapEntry : entries) {
             try {
-                this.loanAccrualWritePlatformService.addPeriodicAccruals(tillDate, mapEntry.getKey(), mapEntry.getValue());
+                if (transactionPerLoan) {
+                    addPeriodicAccrualsInNewTransaction(tillDate, mapEntry.getKey(), mapEntry.getValue());
+                } else {
+                    this.loanAccrualWritePlatformService.addPeriodicAccruals(tillDate, mapEntry.getKey(), mapEntry.getValue());
+                }
             } catch (Exception e) {
                 log.error("Failed to add accrual transaction for loan {}", mapEntry.getKey(), e);
-                errors.add(e);
+                failures.put(mapEntry.getKey(), e);
             }
         }
-        if (!errors.isEmpty()) {
-            throw new JobExecutionException(errors);
+        return failures;
+    }
+
+    private void addPeriodicAccrualsInNewTransaction(final LocalDate tillDate, final Long loanId,
+            final Collection<LoanScheduleAccrualData> loanScheduleAccrualDataList) throws Exception {
+        final TransactionStatus status = this.transactionManager.getTransaction(REQUIRES_NEW);
+        try {
+            this.loanAccrualWritePlatformService.addPeriodicAccruals(tillDate, loanId, loanScheduleAccrualDataList);
+            this.transactionManager.commit(status);
+        } finally {
+            if (!status.isCompleted()) {
+                this.transactionManager.rollback(status);
+            }
+        }
+    }
+
+    private Map<Long, Collection<LoanScheduleAccrualData>> groupByLoan(
+            final Collection<LoanScheduleAccrualData> loanScheduleAccrualDataList) {
+        Map<Long, Collection<LoanScheduleAccrualData>> loanDataMap = new LinkedHashMap<>();
+        for (final LoanScheduleAccrualData accrualData : loanScheduleAccrualDataList) {
+            loanDataMap.computeIfAbsent(accrualData.getLoanId(), loanId -> new ArrayList<>()).add(accrualData);
         }
+        return loanDataMap;
     }
 }
@@ -256,10 +256,14 @@ public class LoanAccrualWritePlatformServiceImpl implements LoanAccrualWritePlat
 
         Map<LoanChargeData, BigDecimal> applicableCharges = scheduleAccrualData.getApplicableCharges();
         String chargesPaidSql = "INSERT INTO m_loan_charge_paid_by (loan_transaction_id, loan_charge_id, amount,installment_number) VALUES (?,?,?,?)";
+        List<Object[]> chargesPaidParams = new ArrayList<>(applicableCharges.size());
         for (Map.Entry<LoanChargeData, BigDecimal> entry : applicableCharges.entrySet()) {
             LoanChargeData chargeData = entry.getKey();
-            this.jdbcTemplate.update(chargesPaidSql, transactionId, chargeData.getId(), entry.getValue(),
-                    scheduleAccrualData.getInstallmentNumber());
+            chargesPaidParams.add(new Object[] { transactionId, chargeData.getId(), entry.getValue(),
+                    scheduleAccrualData.getInstallmentNumber() });
+        }
+        if (!chargesPaidParams.isEmpty()) {
+            this.jdbcTemplate.batchUpdate(chargesPaidSql, chargesPaidParams);
         }
 
         Map<String, Object> transactionMap = toMapData(transactionId, amount, interestPortion, feePortion, penaltyPortion,
@@ -1747,28 +1747,60 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService {
 
     @Override
     public Collection<LoanScheduleAccrualData> retrievePeriodicAccrualData(final LocalDate tillDate) {
+        return retrievePeriodicAccrualData(tillDate, null);
+    }
 
+    @Override
+    public Collection<LoanScheduleAccrualData> retrievePeriodicAccrualData(final LocalDate tillDate, final Collection<Long> loanIds) {
+        if (loanIds != null && loanIds.isEmpty()) {
+            return new ArrayList<>();
+        }
         LoanSchedulePeriodicAccrualMapper mapper = new LoanSchedulePeriodicAccrualMapper();
-        LocalDate organisationStartDate = this.configurationDomainService.retrieveOrganisationStartDate();
         final StringBuilder sqlBuilder = new StringBuilder(400);
-        sqlBuilder.append("select ").append(mapper.schema()).append(
+        final Map<String, Object> paramMap = new HashMap<>(5);
+        sqlBuilder.append("select ").append(mapper.schema()).append(periodicAccrualFilter(tillDate, paramMap));
+        if (loanIds != null) {
+            sqlBuilder.append(" and loan.id in (:loanIds) ");
+            paramMap.put("loanIds", loanIds);
+        }
+        sqlBuilder.append(" order by loan.id,ls.duedate ");
+
+        return this.namedParameterJdbcTemplate.query(sqlBuilder.toString(), paramMap, mapper);
+    }
+
+    @Override
+    public List<Long> retrieveLoanIdsForPeriodicAccrual(final LocalDate tillDate, final Long afterLoanId, final int limit) {
+        final StringBuilder sqlBuilder = new StringBuilder(400);
+        final Map<String, Object> paramMap = new HashMap<>(5);
+        sqlBuilder.append("select distinct loan.id from m_loan_repayment_schedule ls ")
+                .append(" left join m_loan loan on loan.id=ls.loan_id ")
+                .append(" left join m_product_loan mpl on mpl.id = loan.product_id")
+                .append(" left join m_loan_recalculation_details as recaldet on loan.id = recaldet.loan_id ")
+                .append(periodicAccrualFilter(tillDate, paramMap)).append(" and loan.id > :afterLoanId ")
+                .append(" order by loan.id ").append(sqlGenerator.limit(limit));
+        paramMap.put("afterLoanId", afterLoanId == null ? 0L : afterLoanId);
+
+        return this.namedParameterJdbcTemplate.queryForList(sqlBuilder.toString(), paramMap, Long.class);
+    }
+
+    private String periodicAccrualFilter(final LocalDate tillDate, final Map<String, Object> paramMap) {
+        final LocalDate organisationStartDate = this.configurationDomainService.retrieveOrganisationStartDate();
+        final StringBuilder sqlBuilder = new StringBuilder(400);
+        sqlBuilder.append(
                 " where (recaldet.is_compounding_to_be_posted_as_transaction is null or recaldet.is_compounding_to_be_posted_as_transaction = false) ")
                 .append(" and (((ls.fee_charges_amount <> COALESCE(ls.accrual_fee_charges_derived, 0))")
                 .append(" or (ls.penalty_charges_amount <> COALESCE(ls.accrual_penalty_charges_derived, 0))")
                 .append(" or (ls.interest_amount <> COALESCE(ls.accrual_interest_derived, 0)))")
                 .append(" and loan.loan_status_id=:active and mpl.accounting_type=:type and (loan.closedon_date <= :tillDate or loan.closedon_date is null)")
                 .append(" and loan.is_npa=false and (ls.duedate <= :tillDate or (ls.duedate > :tillDate and ls.fromdate < :tillDate))) ");
-        Map<String, Object> paramMap = new HashMap<>(4);
         if (organisationStartDate != null) {
             sqlBuilder.append(" and ls.duedate > :organisationStartDate ");
             paramMap.put("organisationStartDate", organisationStartDate);
         }
-        sqlBuilder.append(" order by loan.id,ls.duedate ");
         paramMap.put("active", LoanStatus.ACTIVE.getValue());
         paramMap.put("type", AccountingRuleType.ACCRUAL_PERIODIC.getValue());
         paramMap.put("tillDate", tillDate);
-
-        return this.namedParameterJdbcTemplate.query(sqlBuilder.toString(), paramMap, mapper);
+        return sqlBuilder.toString();
     }
 
     private static final class LoanSchedulePeriodicAccrualMapper implements RowMapper<LoanScheduleAccrualData> {
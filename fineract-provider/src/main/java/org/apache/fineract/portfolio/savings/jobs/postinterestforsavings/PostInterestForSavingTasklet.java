@@ -22,17 +22,15 @@ import static org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusT
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -53,167 +51,101 @@ public class PostInterestForSavingTasklet implements Tasklet {
 
     private final SavingsAccountReadPlatformService savingAccountReadPlatformService;
     private final ConfigurationDomainService configurationDomainService;
-    private final Queue<List<SavingsAccountData>> queue = new ArrayDeque<>();
     private final ApplicationContext applicationContext;
-    private final int queueSize = 1;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
         final int threadPoolSize = Integer.parseInt((String) chunkContext.getStepContext().getJobParameters().get("thread-pool-size"));
         final int batchSize = Integer.parseInt((String) chunkContext.getStepContext().getJobParameters().get("batch-size"));
-        final int pageSize = batchSize * threadPoolSize;
-        Long maxSavingsIdInList = 0L;
-        final ExecutorService executorService = Executors.newFixedThreadPool(threadPoolSize);
         final boolean backdatedTxnsAllowedTill = this.configurationDomainService.retrievePivotDateConfig();
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadPoolSize);
 
         long start = System.currentTimeMillis();
-
-        log.debug("Reading Savings Account Data!");
-        List<SavingsAccountData> savingsAccounts = savingAccountReadPlatformService
-                .retrieveAllSavingsDataForInterestPosting(backdatedTxnsAllowedTill, pageSize, ACTIVE.getValue(), maxSavingsIdInList);
-
-        if (savingsAccounts != null && savingsAccounts.size() > 0) {
-            savingsAccounts = Collections.synchronizedList(savingsAccounts);
-            long finish = System.currentTimeMillis();
-            log.debug("Done fetching Data within {} milliseconds", finish - start);
-            queue.add(savingsAccounts);
-
-            if (!CollectionUtils.isEmpty(queue)) {
-                do {
-                    int totalFilteredRecords = savingsAccounts.size();
-                    log.debug("Starting Interest posting - total records - {}", totalFilteredRecords);
-                    List<SavingsAccountData> queueElement = queue.element();
-                    maxSavingsIdInList = queueElement.get(queueElement.size() - 1).getId();
-                    postInterest(queue.remove(), threadPoolSize, executorService, backdatedTxnsAllowedTill, pageSize, maxSavingsIdInList);
-                } while (!CollectionUtils.isEmpty(queue));
-            }
+        try {
+            final InterestPostingDispatcher dispatcher = new InterestPostingDispatcher(executorService, threadPoolSize, batchSize,
+                    backdatedTxnsAllowedTill);
+            log.debug("Streaming Savings Account Data!");
+            savingAccountReadPlatformService.streamAllSavingsDataForInterestPosting(backdatedTxnsAllowedTill, ACTIVE.getValue(),
+                    dispatcher);
+            dispatcher.finish();
+            log.debug("Posted interest on {} savings accounts within {} milliseconds", dispatcher.getAccountCount(),
+                    System.currentTimeMillis() - start);
+        } finally {
             executorService.shutdownNow();
         }
         return RepeatStatus.FINISHED;
     }
 
-    private void postInterest(List<SavingsAccountData> savingsAccounts, int threadPoolSize, ExecutorService executorService,
-            final boolean backdatedTxnsAllowedTill, final int pageSize, Long maxSavingsIdInList) {
-        List<Callable<Void>> posters = new ArrayList<>();
-        int fromIndex = 0;
-        int size = savingsAccounts.size();
-        int batchSize = (int) Math.ceil((double) size / threadPoolSize);
-
-        if (batchSize == 0) {
-            return;
+    /**
+     * Collects the streamed accounts into batches of <code>batch-size</code> and posts each batch on the thread pool.
+     * At most one batch per thread is in flight: once they are all busy the reader waits for the oldest batch, so the
+     * accounts held in memory stay bounded by <code>thread-pool-size</code> x <code>batch-size</code>.
+     */
+    private final class InterestPostingDispatcher implements Consumer<SavingsAccountData> {
+
+        private final ExecutorService executorService;
+        private final int maxInFlight;
+        private final int batchSize;
+        private final boolean backdatedTxnsAllowedTill;
+        private final FineractContext context = ThreadLocalContextUtil.getContext();
+        private final Deque<Future<Void>> inFlight = new ArrayDeque<>();
+        private List<SavingsAccountData> batch;
+        private long accountCount;
+
+        InterestPostingDispatcher(final ExecutorService executorService, final int maxInFlight, final int batchSize,
+                final boolean backdatedTxnsAllowedTill) {
+            this.executorService = executorService;
+            this.maxInFlight = maxInFlight;
+            this.batchSize = batchSize;
+            this.backdatedTxnsAllowedTill = backdatedTxnsAllowedTill;
+            this.batch = new ArrayList<>(batchSize);
         }
 
-        int toIndex = (batchSize > size - 1) ? size : batchSize;
-        while (toIndex < size && savingsAccounts.get(toIndex - 1).getId().equals(savingsAccounts.get(toIndex).getId())) {
-            toIndex++;
-        }
-        boolean lastBatch = false;
-        int loopCount = size / batchSize + 1;
-
-        FineractContext context = ThreadLocalContextUtil.getContext();
-
-        Callable<Void> fetchData = () -> {
-            ThreadLocalContextUtil.init(context);
-            Long maxId = maxSavingsIdInList;
-            if (!queue.isEmpty()) {
-                maxId = Math.max(maxSavingsIdInList, queue.element().get(queue.element().size() - 1).getId());
-            }
-
-            while (queue.size() <= queueSize) {
-                log.debug("Fetching while threads are running!");
-                List<SavingsAccountData> savingsAccountDataList = Collections.synchronizedList(this.savingAccountReadPlatformService
-                        .retrieveAllSavingsDataForInterestPosting(backdatedTxnsAllowedTill, pageSize, ACTIVE.getValue(), maxId));
-                if (savingsAccountDataList.isEmpty()) {
-                    break;
-                }
-                maxId = savingsAccountDataList.get(savingsAccountDataList.size() - 1).getId();
-                queue.add(savingsAccountDataList);
-            }
-            return null;
-        };
-        posters.add(fetchData);
-
-        for (long i = 0; i < loopCount; i++) {
-            List<SavingsAccountData> subList = safeSubList(savingsAccounts, fromIndex, toIndex);
-            SavingsSchedularInterestPoster savingsSchedularInterestPoster = applicationContext
-                    .getBean(SavingsSchedularInterestPoster.class);
-            savingsSchedularInterestPoster.setSavingAccounts(subList);
-            savingsSchedularInterestPoster.setBackdatedTxnsAllowedTill(backdatedTxnsAllowedTill);
-            savingsSchedularInterestPoster.setContext(ThreadLocalContextUtil.getContext());
-
-            posters.add(savingsSchedularInterestPoster);
-
-            if (lastBatch) {
-                break;
-            }
-            if (toIndex + batchSize > size - 1) {
-                lastBatch = true;
-            }
-            fromIndex = fromIndex + (toIndex - fromIndex);
-            toIndex = (toIndex + batchSize > size - 1) ? size : toIndex + batchSize;
-            while (toIndex < size && savingsAccounts.get(toIndex - 1).getId().equals(savingsAccounts.get(toIndex).getId())) {
-                toIndex++;
+        @Override
+        public void accept(final SavingsAccountData savingsAccountData) {
+            this.batch.add(savingsAccountData);
+            this.accountCount++;
+            if (this.batch.size() >= this.batchSize) {
+                dispatch();
             }
         }
 
-        try {
-            List<Future<Void>> responses = executorService.invokeAll(posters);
-            Long maxId = maxSavingsIdInList;
-            if (!queue.isEmpty()) {
-                maxId = Math.max(maxSavingsIdInList, queue.element().get(queue.element().size() - 1).getId());
-            }
-
-            while (queue.size() <= queueSize) {
-                log.debug("Fetching while threads are running!..:: this is not supposed to run........");
-                savingsAccounts = Collections.synchronizedList(this.savingAccountReadPlatformService
-                        .retrieveAllSavingsDataForInterestPosting(backdatedTxnsAllowedTill, pageSize, ACTIVE.getValue(), maxId));
-                if (savingsAccounts.isEmpty()) {
-                    break;
-                }
-                maxId = savingsAccounts.get(savingsAccounts.size() - 1).getId();
-                log.debug("Add to the Queue");
-                queue.add(savingsAccounts);
+        void finish() {
+            dispatch();
+            while (!this.inFlight.isEmpty()) {
+                awaitCompletion(this.inFlight.removeFirst());
             }
-
-            checkCompletion(responses);
-            log.debug("Queue size {}", queue.size());
-        } catch (InterruptedException e1) {
-            log.error("Interrupted while postInterest", e1);
         }
-    }
 
-    private <T> List<T> safeSubList(List<T> list, int fromIndex, int toIndex) {
-        int size = list.size();
-        if (fromIndex >= size || toIndex <= 0 || fromIndex >= toIndex) {
-            return Collections.emptyList();
+        long getAccountCount() {
+            return this.accountCount;
         }
 
-        fromIndex = Math.max(0, fromIndex);
-        toIndex = Math.min(size, toIndex);
-
-        return list.subList(fromIndex, toIndex);
-    }
-
-    private void checkCompletion(List<Future<Void>> responses) {
-        try {
-            for (Future<Void> f : responses) {
-                f.get();
+        private void dispatch() {
+            if (this.batch.isEmpty()) {
+                return;
             }
-            boolean allThreadsExecuted;
-            int noOfThreadsExecuted = 0;
-            for (Future<Void> future : responses) {
-                if (future.isDone()) {
-                    noOfThreadsExecuted++;
-                }
+            while (this.inFlight.size() >= this.maxInFlight) {
+                awaitCompletion(this.inFlight.removeFirst());
             }
-            allThreadsExecuted = noOfThreadsExecuted == responses.size();
-            if (!allThreadsExecuted) {
-                log.error("All threads could not execute.");
+            final SavingsSchedularInterestPoster savingsSchedularInterestPoster = applicationContext
+                    .getBean(SavingsSchedularInterestPoster.class);
+            savingsSchedularInterestPoster.setSavingAccounts(this.batch);
+            savingsSchedularInterestPoster.setBackdatedTxnsAllowedTill(this.backdatedTxnsAllowedTill);
+            savingsSchedularInterestPoster.setContext(this.context);
+            this.inFlight.addLast(this.executorService.submit(savingsSchedularInterestPoster));
+            this.batch = new ArrayList<>(this.batchSize);
+        }
+
+        private void awaitCompletion(final Future<Void> future) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while posting interest", e);
+            } catch (ExecutionException e) {
+                log.error("Execution exception while interest posting entries", e);
             }
-        } catch (InterruptedException e1) {
-            log.error("Interrupted while interest posting entries", e1);
-        } catch (ExecutionException e2) {
-            log.error("Execution exception while interest posting entries", e2);
         }
     }
 }
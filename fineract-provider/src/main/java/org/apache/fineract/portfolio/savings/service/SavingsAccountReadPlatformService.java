@@ -21,6 +21,7 @@ package org.apache.fineract.portfolio.savings.service;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import org.apache.fineract.infrastructure.core.service.Page;
 import org.apache.fineract.infrastructure.core.service.SearchParameters;
 import org.apache.fineract.portfolio.savings.DepositAccountType;
@@ -64,8 +65,13 @@ public interface SavingsAccountReadPlatformService {
 
     List<Long> getAccountsIdsByStatusPaged(Integer status, int pageSize, Long maxSavingsIdInList);
 
-    List<SavingsAccountData> retrieveAllSavingsDataForInterestPosting(boolean backdatedTxnsAllowedTill, int pageSize, Integer status,
-            Long maxSavingsId);
+    /**
+     * Reads the accounts due for interest posting on a forward-only cursor, ordered by id, and hands each one to the
+     * consumer fully assembled before the next is read, so memory is bounded by the largest account rather than by the
+     * number of accounts. With <code>backdatedTxnsAllowedTill</code> only the transactions from the last interest posting
+     * onwards are loaded, the opening balance coming from the account summary.
+     */
+    void streamAllSavingsDataForInterestPosting(boolean backdatedTxnsAllowedTill, Integer status, Consumer<SavingsAccountData> consumer);
 
     List<SavingsAccountTransactionData> retrieveAllTransactionData(List<String> refNo);
 }
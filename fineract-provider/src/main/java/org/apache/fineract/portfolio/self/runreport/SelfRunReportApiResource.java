@@ -30,9 +30,10 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
-import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import org.apache.fineract.infrastructure.dataqueries.api.RunreportsApiResource;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
@@ -72,11 +73,11 @@ public class SelfRunReportApiResource {
             + "self/runreports/Client%20Details?R_officeId=1&exportCSV=true")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = SelfRunReportApiResourceSwagger.GetRunReportResponse.class))) })
-    public Response runReport(@PathParam("reportName") @Parameter(description = "reportName") final String reportName,
-            @Context final UriInfo uriInfo) {
+    public void runReport(@PathParam("reportName") @Parameter(description = "reportName") final String reportName,
+            @Context final UriInfo uriInfo, @Suspended final AsyncResponse asyncResponse) {
         this.context.authenticatedUser();
         final boolean isSelfServiceUserReport = true;
-        return this.runreportsApiResource.runReport(reportName, uriInfo, isSelfServiceUserReport);
+        this.runreportsApiResource.runReport(reportName, uriInfo, isSelfServiceUserReport, false, asyncResponse);
     }
 
 }
@@ -64,6 +64,10 @@ public class ShareAccountDividendDetails extends AbstractPersistableCustom {
         this.savingsTransactionId = savingsTransactionId;
     }
 
+    public boolean isInitiated() {
+        return ShareAccountDividendStatusType.INITIATED.getValue().equals(this.status);
+    }
+
     public BigDecimal getAmount() {
         return this.amount;
     }
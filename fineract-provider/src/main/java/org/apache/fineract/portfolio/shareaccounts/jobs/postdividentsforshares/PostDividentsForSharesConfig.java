@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.portfolio.shareaccounts.jobs.postdividentsforshares;
 
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.portfolio.shareaccounts.service.ShareAccountDividendReadPlatformService;
 import org.apache.fineract.portfolio.shareaccounts.service.ShareAccountSchedularService;
@@ -42,6 +43,8 @@ public class PostDividentsForSharesConfig {
     private ShareAccountDividendReadPlatformService shareAccountDividendReadPlatformService;
     @Autowired
     private ShareAccountSchedularService shareAccountSchedularService;
+    @Autowired
+    private FineractProperties fineractProperties;
 
     @Bean
     protected Step postDividentsForSharesStep() {
@@ -56,6 +59,7 @@ public class PostDividentsForSharesConfig {
 
     @Bean
     public PostDividentsForSharesTasklet postDividentsForSharesTasklet() {
-        return new PostDividentsForSharesTasklet(shareAccountDividendReadPlatformService, shareAccountSchedularService);
+        return new PostDividentsForSharesTasklet(shareAccountDividendReadPlatformService, shareAccountSchedularService,
+                fineractProperties);
     }
 }
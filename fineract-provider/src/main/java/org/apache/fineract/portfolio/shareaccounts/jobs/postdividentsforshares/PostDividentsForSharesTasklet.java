@@ -18,14 +18,18 @@
  */
 package org.apache.fineract.portfolio.shareaccounts.jobs.postdividentsforshares;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.data.ApiParameterError;
 import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
+import org.apache.fineract.infrastructure.core.service.ContextPropagatingExecutor;
 import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
 import org.apache.fineract.portfolio.shareaccounts.service.ShareAccountDividendReadPlatformService;
 import org.apache.fineract.portfolio.shareaccounts.service.ShareAccountSchedularService;
@@ -34,27 +38,75 @@ import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
 
+/**
+ * Posts the initiated dividends of approved payouts to the savings accounts of the share accounts.
+ *
+ * The dividend details are read in chunks of <code>fineract.share-dividend-posting.chunk-size</code> and grouped by
+ * savings account. Every account is posted by one worker in its own transaction, up to
+ * <code>fineract.share-dividend-posting.thread-count</code> accounts at a time. When posting the dividends of an
+ * account together fails, they are posted one by one so that only the failing dividends are left initiated and picked
+ * up again by the next run.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class PostDividentsForSharesTasklet implements Tasklet {
 
     private final ShareAccountDividendReadPlatformService shareAccountDividendReadPlatformService;
     private final ShareAccountSchedularService shareAccountSchedularService;
+    private final FineractProperties fineractProperties;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
-        List<Throwable> exceptions = new ArrayList<>();
-        List<Map<String, Object>> dividendDetails = shareAccountDividendReadPlatformService.retriveDividendDetailsForPostDividents();
-        for (Map<String, Object> dividendMap : dividendDetails) {
-            Long id;
-            Long savingsId;
-            if (dividendMap.get("id") instanceof BigInteger) {
-                id = ((BigInteger) dividendMap.get("id")).longValue();
-                savingsId = ((BigInteger) dividendMap.get("savingsAccountId")).longValue();
-            } else {
-                id = (Long) dividendMap.get("id");
-                savingsId = (Long) dividendMap.get("savingsAccountId");
+        final List<Throwable> exceptions = Collections.synchronizedList(new ArrayList<>());
+        final int chunkSize = getChunkSize();
+        Long afterId = 0L;
+        List<Map<String, Object>> dividendDetails;
+        try (ContextPropagatingExecutor executor = ContextPropagatingExecutor.create("post-dividends", getThreadCount())) {
+            do {
+                dividendDetails = shareAccountDividendReadPlatformService.retriveDividendDetailsForPostDividents(afterId, chunkSize);
+                final Map<Long, List<Long>> dividendsBySavingsAccount = new LinkedHashMap<>();
+                for (Map<String, Object> dividendMap : dividendDetails) {
+                    final Long id = ((Number) dividendMap.get("id")).longValue();
+                    final Long savingsId = ((Number) dividendMap.get("savingsAccountId")).longValue();
+                    dividendsBySavingsAccount.computeIfAbsent(savingsId, k -> new ArrayList<>()).add(id);
+                    afterId = id;
+                }
+                postDividends(executor, dividendsBySavingsAccount, exceptions);
+            } while (dividendDetails.size() == chunkSize);
+        }
+
+        if (!exceptions.isEmpty()) {
+            throw new JobExecutionException(exceptions);
+        }
+        return RepeatStatus.FINISHED;
+    }
+
+    private void postDividends(final ContextPropagatingExecutor executor, final Map<Long, List<Long>> dividendsBySavingsAccount,
+            final List<Throwable> exceptions) {
+        if (dividendsBySavingsAccount.isEmpty()) {
+            return;
+        }
+        final List<Supplier<Void>> tasks = new ArrayList<>(dividendsBySavingsAccount.size());
+        for (final Map.Entry<Long, List<Long>> entry : dividendsBySavingsAccount.entrySet()) {
+            tasks.add(() -> {
+                postDividendsOfSavingsAccount(entry.getKey(), entry.getValue(), exceptions);
+                return null;
+            });
+        }
+        executor.invokeAll(tasks);
+    }
+
+    private void postDividendsOfSavingsAccount(final Long savingsId, final List<Long> dividendDetailIds,
+            final List<Throwable> exceptions) {
+        if (dividendDetailIds.size() > 1) {
+            try {
+                shareAccountSchedularService.postDividends(savingsId, dividendDetailIds);
+                return;
+            } catch (final Exception e) {
+                log.warn("Post Dividends to savings failed for savings Id: {}, posting its dividends one by one", savingsId, e);
             }
+        }
+        for (final Long id : dividendDetailIds) {
             try {
                 shareAccountSchedularService.postDividend(id, savingsId);
             } catch (final PlatformApiDataValidationException e) {
@@ -70,10 +122,15 @@ public class PostDividentsForSharesTasklet implements Tasklet {
                 exceptions.add(e);
             }
         }
+    }
 
-        if (!exceptions.isEmpty()) {
-            throw new JobExecutionException(exceptions);
-        }
-        return RepeatStatus.FINISHED;
+    private int getChunkSize() {
+        final FineractProperties.FineractShareDividendPostingProperties properties = this.fineractProperties.getShareDividendPosting();
+        return properties == null || properties.getChunkSize() <= 0 ? 500 : properties.getChunkSize();
+    }
+
+    private int getThreadCount() {
+        final FineractProperties.FineractShareDividendPostingProperties properties = this.fineractProperties.getShareDividendPosting();
+        return properties == null ? 1 : Math.max(1, properties.getThreadCount());
     }
 }
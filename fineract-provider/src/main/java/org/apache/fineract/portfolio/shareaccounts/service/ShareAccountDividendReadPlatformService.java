@@ -26,7 +26,11 @@ import org.apache.fineract.portfolio.shareaccounts.data.ShareAccountDividendData
 
 public interface ShareAccountDividendReadPlatformService {
 
-    List<Map<String, Object>> retriveDividendDetailsForPostDividents();
+    /**
+     * Returns at most <code>limit</code> dividend details still waiting to be posted with an id greater than
+     * <code>afterId</code>, ordered by id, so that the details can be read chunk by chunk.
+     */
+    List<Map<String, Object>> retriveDividendDetailsForPostDividents(Long afterId, int limit);
 
     Page<ShareAccountDividendData> retriveAll(Long payoutDetailId, SearchParameters searchParameters);
 
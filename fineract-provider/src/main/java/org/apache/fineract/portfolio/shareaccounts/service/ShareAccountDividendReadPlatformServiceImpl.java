@@ -58,7 +58,7 @@ public class ShareAccountDividendReadPlatformServiceImpl implements ShareAccount
     }
 
     @Override
-    public List<Map<String, Object>> retriveDividendDetailsForPostDividents() {
+    public List<Map<String, Object>> retriveDividendDetailsForPostDividents(final Long afterId, final int limit) {
         StringBuilder sb = new StringBuilder();
         sb.append("select ");
         sb.append(" sadd.id as id, ");
@@ -66,9 +66,11 @@ public class ShareAccountDividendReadPlatformServiceImpl implements ShareAccount
         sb.append(" from m_share_account_dividend_details sadd");
         sb.append(" inner join m_share_product_dividend_pay_out spdpo on spdpo.id = sadd.dividend_pay_out_id ");
         sb.append(" inner join m_share_account sa on sa.id = sadd.account_id ");
-        sb.append(" where spdpo.status = ? and sadd.status = ?");
+        sb.append(" where spdpo.status = ? and sadd.status = ? and sadd.id > ?");
+        sb.append(" order by sadd.id ");
+        sb.append(sqlGenerator.limit(limit));
         return this.jdbcTemplate.queryForList(sb.toString(), ShareProductDividendStatusType.APPROVED.getValue(),
-                ShareAccountDividendStatusType.INITIATED.getValue());
+                ShareAccountDividendStatusType.INITIATED.getValue(), afterId);
     }
 
     @Override
@@ -18,8 +18,17 @@
  */
 package org.apache.fineract.portfolio.shareaccounts.service;
 
+import java.util.List;
+
 public interface ShareAccountSchedularService {
 
     void postDividend(Long dividendDetailId, Long savingsId);
 
+    /**
+     * Posts the dividends of one savings account in a single transaction, assembling the account once and writing the
+     * journal entries of all payouts with one batch insert. Dividends which are no longer waiting to be posted are
+     * skipped.
+     */
+    void postDividends(Long savingsId, List<Long> dividendDetailIds);
+
 }
@@ -18,6 +18,10 @@
  */
 package org.apache.fineract.portfolio.shareaccounts.service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fineract.accounting.journalentry.service.JournalEntrySink;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountAssembler;
@@ -36,13 +40,16 @@ public class ShareAccountSchedularServiceImpl implements ShareAccountSchedularSe
     private final ShareAccountDividendRepository shareAccountDividendRepository;
     private final SavingsAccountDomainService savingsAccountDomainService;
     private final SavingsAccountAssembler savingsAccountAssembler;
+    private final JournalEntrySink journalEntrySink;
 
     @Autowired
     public ShareAccountSchedularServiceImpl(final ShareAccountDividendRepository shareAccountDividendRepository,
-            final SavingsAccountDomainService savingsAccountDomainService, final SavingsAccountAssembler savingsAccountAssembler) {
+            final SavingsAccountDomainService savingsAccountDomainService, final SavingsAccountAssembler savingsAccountAssembler,
+            final JournalEntrySink journalEntrySink) {
         this.shareAccountDividendRepository = shareAccountDividendRepository;
         this.savingsAccountDomainService = savingsAccountDomainService;
         this.savingsAccountAssembler = savingsAccountAssembler;
+        this.journalEntrySink = journalEntrySink;
     }
 
     @Override
@@ -51,6 +58,9 @@ public class ShareAccountSchedularServiceImpl implements ShareAccountSchedularSe
 
         ShareAccountDividendDetails shareAccountDividendDetails = this.shareAccountDividendRepository.findById(dividendDetailId)
                 .orElseThrow();
+        if (!shareAccountDividendDetails.isInitiated()) {
+            return;
+        }
         final SavingsAccount savingsAccount = this.savingsAccountAssembler.assembleFrom(savingsId, false);
         SavingsAccountTransaction savingsAccountTransaction = this.savingsAccountDomainService.handleDividendPayout(savingsAccount,
                 DateUtils.getBusinessLocalDate(), shareAccountDividendDetails.getAmount(), false);
@@ -58,4 +68,28 @@ public class ShareAccountSchedularServiceImpl implements ShareAccountSchedularSe
         this.shareAccountDividendRepository.saveAndFlush(shareAccountDividendDetails);
     }
 
+    @Override
+    @Transactional
+    public void postDividends(final Long savingsId, final List<Long> dividendDetailIds) {
+        final List<ShareAccountDividendDetails> pending = new ArrayList<>(dividendDetailIds.size());
+        for (final ShareAccountDividendDetails details : this.shareAccountDividendRepository.findAllById(dividendDetailIds)) {
+            if (details.isInitiated()) {
+                pending.add(details);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        final SavingsAccount savingsAccount = this.savingsAccountAssembler.assembleFrom(savingsId, false);
+        final LocalDate transactionDate = DateUtils.getBusinessLocalDate();
+        this.journalEntrySink.deferFlushes(() -> {
+            for (final ShareAccountDividendDetails details : pending) {
+                final SavingsAccountTransaction savingsAccountTransaction = this.savingsAccountDomainService
+                        .handleDividendPayout(savingsAccount, transactionDate, details.getAmount(), false);
+                details.update(ShareAccountDividendStatusType.POSTED.getValue(), savingsAccountTransaction.getId());
+            }
+            return null;
+        });
+        this.shareAccountDividendRepository.saveAllAndFlush(pending);
+    }
 }
@@ -0,0 +1,83 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.fineract.accounting.common.AccountingConstants.CashAccountsForLoan;
+import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.PortfolioProductType;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMapping;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountingProcessorHelperTest {
+
+    private static final Long LOAN_PRODUCT_ID = 1L;
+    private static final int LOAN_PORTFOLIO = CashAccountsForLoan.LOAN_PORTFOLIO.getValue();
+
+    @Mock
+    private ProductToGLAccountMappingRepository accountMappingRepository;
+
+    @InjectMocks
+    private AccountingProcessorHelper underTest;
+
+    private final GLAccount glAccount = mock(GLAccount.class);
+
+    @BeforeEach
+    public void setUp() {
+        ProductToGLAccountMapping mapping = mock(ProductToGLAccountMapping.class);
+        when(mapping.getGlAccount()).thenReturn(glAccount);
+        when(accountMappingRepository.findCoreProductToFinAccountMapping(LOAN_PRODUCT_ID, PortfolioProductType.LOAN.getValue(),
+                LOAN_PORTFOLIO)).thenReturn(mapping);
+    }
+
+    @Test
+    public void givenCachedMappingsWhenResolvingSameAccountRepeatedlyThenMappingIsQueriedOnce() {
+        // when
+        underTest.withLoanAccountMappingsCached(() -> {
+            for (int i = 0; i < 10; i++) {
+                assertSame(glAccount, underTest.getLinkedGLAccountForLoanProduct(LOAN_PRODUCT_ID, LOAN_PORTFOLIO, null));
+            }
+        });
+        // then
+        verify(accountMappingRepository, times(1)).findCoreProductToFinAccountMapping(LOAN_PRODUCT_ID, PortfolioProductType.LOAN.getValue(),
+                LOAN_PORTFOLIO);
+    }
+
+    @Test
+    public void givenNoCachingWhenResolvingSameAccountRepeatedlyThenMappingIsQueriedEachTime() {
+        // when
+        underTest.getLinkedGLAccountForLoanProduct(LOAN_PRODUCT_ID, LOAN_PORTFOLIO, null);
+        underTest.getLinkedGLAccountForLoanProduct(LOAN_PRODUCT_ID, LOAN_PORTFOLIO, null);
+        // then
+        verify(accountMappingRepository, times(2)).findCoreProductToFinAccountMapping(LOAN_PRODUCT_ID, PortfolioProductType.LOAN.getValue(),
+                LOAN_PORTFOLIO);
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryRepository;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.PortfolioProductType;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class JournalEntrySinkTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private JournalEntryRepository journalEntryRepository;
+    @Mock
+    private AuditorAware<Long> auditorAware;
+
+    private JournalEntrySink underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        underTest = new JournalEntrySink(jdbcTemplate, journalEntryRepository, auditorAware);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(underTest);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void givenNoTransactionWhenAddThenEntryIsSavedImmediately() {
+        // given
+        JournalEntry debit = leg("L1", JournalEntryType.DEBIT, "10");
+        // when
+        underTest.add(debit);
+        // then
+        verify(journalEntryRepository).saveAndFlush(debit);
+    }
+
+    @Test
+    public void givenBalancedLegsWhenFlushThenSingleBatchIsWritten() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of(1L));
+        underTest.add(leg("L1", JournalEntryType.DEBIT, "100"));
+        underTest.add(leg("L1", JournalEntryType.CREDIT, "80"));
+        underTest.add(leg("L1", JournalEntryType.CREDIT, "20.000000"));
+        underTest.add(leg("L2", JournalEntryType.DEBIT, "5"));
+        underTest.add(leg("L2", JournalEntryType.CREDIT, "5"));
+        // when
+        underTest.flush();
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> params = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), params.capture());
+        assertEquals(5, params.getValue().size());
+        // the unmaintained transaction_date column is not mapped by JournalEntry, so it is left empty like through JPA
+        assertFalse(sql.getValue().contains("transaction_date"));
+        assertEquals(sql.getValue().chars().filter(c -> c == '?').count(), params.getValue().get(0).length);
+        verify(journalEntryRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    public void givenUnbalancedLegsWhenFlushThenTheyAreWrittenAnyway() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of(1L));
+        underTest.add(leg("S1", JournalEntryType.DEBIT, "100"));
+        underTest.add(leg("S1", JournalEntryType.CREDIT, "99.99"));
+        // when
+        underTest.flush();
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> params = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), params.capture());
+        assertEquals(2, params.getValue().size());
+    }
+
+    @Test
+    public void givenDeferredFlushesWhenWorkFlushesRepeatedlyThenLegsAreWrittenOnceAfterwards() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of(1L));
+        // when
+        String result = underTest.deferFlushes(() -> {
+            underTest.add(leg("L1", JournalEntryType.DEBIT, "10"));
+            underTest.add(leg("L1", JournalEntryType.CREDIT, "10"));
+            underTest.flush();
+            underTest.add(leg("S1", JournalEntryType.DEBIT, "7"));
+            underTest.add(leg("S1", JournalEntryType.CREDIT, "7"));
+            underTest.flush();
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), any(List.class));
+            return "posted";
+        });
+        // then
+        assertEquals("posted", result);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> params = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), params.capture());
+        assertEquals(4, params.getValue().size());
+    }
+
+    private JournalEntry leg(String transactionId, JournalEntryType type, String amount) {
+        GLAccount account = mock(GLAccount.class);
+        Office office = mock(Office.class);
+        return JournalEntry.createNew(office, null, account, "USD", transactionId, false, LocalDate.now(ZoneId.systemDefault()), type,
+                new BigDecimal(amount), null, PortfolioProductType.LOAN.getValue(), 1L, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.provisioning.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.glaccount.domain.GLAccountRepository;
+import org.apache.fineract.accounting.provisioning.data.LoanProductProvisioningEntryData;
+import org.apache.fineract.accounting.provisioning.domain.LoanProductProvisioningEntry;
+import org.apache.fineract.accounting.provisioning.domain.ProvisioningEntry;
+import org.apache.fineract.accounting.provisioning.domain.ProvisioningEntryRepository;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
+import org.apache.fineract.organisation.provisioning.domain.ProvisioningCategory;
+import org.apache.fineract.organisation.provisioning.domain.ProvisioningCategoryRepository;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProduct;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProvisioningEntriesWritePlatformServiceJpaRepositoryImplTest {
+
+    @Mock
+    private ProvisioningEntriesReadPlatformService provisioningEntriesReadPlatformService;
+    @Mock
+    private LoanProductRepository loanProductRepository;
+    @Mock
+    private GLAccountRepository glAccountRepository;
+    @Mock
+    private OfficeRepositoryWrapper officeRepositoryWrapper;
+    @Mock
+    private ProvisioningCategoryRepository provisioningCategoryRepository;
+    @Mock
+    private PlatformSecurityContext platformSecurityContext;
+    @Mock
+    private ProvisioningEntryRepository provisioningEntryRepository;
+
+    @InjectMocks
+    private ProvisioningEntriesWritePlatformServiceJpaRepositoryImpl underTest;
+
+    private MockedStatic<MoneyHelper> moneyHelper;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        moneyHelper = Mockito.mockStatic(MoneyHelper.class);
+        moneyHelper.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        moneyHelper.close();
+    }
+
+    @Test
+    public void givenAggregatedRowsWhenCreatingProvisioningEntryThenReferencesAreLookedUpOnce() {
+        // given
+        LocalDate date = LocalDate.of(2022, 9, 30);
+        LoanProduct loanProduct = mock(LoanProduct.class);
+        given(loanProduct.getPrincipalAmount()).willReturn(Money.zero(new MonetaryCurrency("USD", 2, null)));
+        given(loanProductRepository.findById(1L)).willReturn(Optional.of(loanProduct));
+        given(officeRepositoryWrapper.findOneWithNotFoundDetection(1L)).willReturn(mock(Office.class));
+        given(provisioningCategoryRepository.findById(1L)).willReturn(Optional.of(mock(ProvisioningCategory.class)));
+        given(glAccountRepository.findById(anyLong())).willAnswer(invocation -> Optional.of(mock(GLAccount.class)));
+        given(provisioningEntriesReadPlatformService.retrieveLoanProductsProvisioningData(date))
+                .willReturn(List.of(row(5L, "1000.00"), row(10L, "500.00")));
+        // when
+        ProvisioningEntry entry = underTest.createProvisioningEntry(date, false);
+        // then
+        verify(loanProductRepository, times(1)).findById(1L);
+        verify(officeRepositoryWrapper, times(1)).findOneWithNotFoundDetection(1L);
+        verify(provisioningCategoryRepository, times(1)).findById(1L);
+        verify(glAccountRepository, times(2)).findById(anyLong());
+        ArgumentCaptor<ProvisioningEntry> captor = ArgumentCaptor.forClass(ProvisioningEntry.class);
+        verify(provisioningEntryRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue()).isSameAs(entry);
+        List<BigDecimal> reservedAmounts = new ArrayList<>();
+        for (LoanProductProvisioningEntry provisioningEntry : entry.getLoanProductProvisioningEntries()) {
+            reservedAmounts.add(provisioningEntry.getReservedAmount());
+        }
+        assertThat(reservedAmounts).usingComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .containsExactlyInAnyOrder(new BigDecimal("10.00"), new BigDecimal("5.00"));
+    }
+
+    private LoanProductProvisioningEntryData row(Long overdueInDays, String balance) {
+        return new LoanProductProvisioningEntryData().setOfficeId(1L).setProductId(1L).setCurrencyCode("USD").setCategoryId(1L)
+                .setCriteriaId(1L).setOverdueInDays(overdueInDays).setPercentage(BigDecimal.ONE).setBalance(new BigDecimal(balance))
+                .setLiablityAccount(10L).setExpenseAccount(20L);
+    }
+}
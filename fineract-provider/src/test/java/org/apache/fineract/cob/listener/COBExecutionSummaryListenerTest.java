@@ -0,0 +1,90 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fineract.cob.domain.COBExecutionSummary;
+import org.apache.fineract.cob.domain.COBExecutionSummaryRepository;
+import org.apache.fineract.cob.loan.LoanCOBConstant;
+import org.apache.fineract.cob.service.COBExecutionMetrics;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+@ExtendWith(MockitoExtension.class)
+public class COBExecutionSummaryListenerTest {
+
+    @Mock
+    private COBExecutionSummaryRepository cobExecutionSummaryRepository;
+
+    @Captor
+    private ArgumentCaptor<COBExecutionSummary> summaryCaptor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private COBExecutionSummaryListener underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        meterRegistry = new SimpleMeterRegistry();
+        underTest = new COBExecutionSummaryListener(new COBExecutionMetrics(meterRegistry), cobExecutionSummaryRepository,
+                LoanCOBConstant.JOB_NAME);
+    }
+
+    @Test
+    public void givenLoansAlreadyLockedInSeveralPartitionsWhenPartitionsFinishThenEachCountsOnlyItsOwnSkippedLoans() {
+        // given
+        JobExecution jobExecution = new JobExecution(1L);
+        jobExecution.getExecutionContext().put(LoanCOBConstant.ALREADY_LOCKED_BY_INLINE_COB_OR_PROCESSED_LOAN_IDS,
+                new ArrayList<>(List.of(1L, 2L, 3L)));
+        StepExecution firstPartition = partition(jobExecution, 10L, List.of(1L, 2L, 5L));
+        StepExecution secondPartition = partition(jobExecution, 11L, List.of(3L, 4L));
+        // when
+        underTest.beforeStep(firstPartition);
+        underTest.afterStep(firstPartition);
+        underTest.beforeStep(secondPartition);
+        underTest.afterStep(secondPartition);
+        // then
+        verify(cobExecutionSummaryRepository, times(2)).save(summaryCaptor.capture());
+        assertEquals(2L, summaryCaptor.getAllValues().get(0).getSkippedCount());
+        assertEquals(1L, summaryCaptor.getAllValues().get(1).getSkippedCount());
+        assertEquals(3.0, meterRegistry.get(COBExecutionMetrics.ITEM_COUNTER).tags("outcome", COBExecutionMetrics.OUTCOME_SKIPPED)
+                .counter().count());
+    }
+
+    private static StepExecution partition(JobExecution jobExecution, Long id, List<Long> loanIds) {
+        StepExecution stepExecution = new StepExecution("Loan COB worker", jobExecution, id);
+        stepExecution.getExecutionContext().put(LoanCOBConstant.LOAN_IDS, new ArrayList<>(loanIds));
+        return stepExecution;
+    }
+}
@@ -108,4 +108,15 @@ public class CheckLoanRepaymentDueBusinessStepTest {
         assertEquals(processedLoan, loanForProcessing);
 
     }
+
+    @Test
+    public void givenConfiguredDueDaysWhenApplicabilityFilterThenOnlyLoansWithInstallmentDueAfterConfiguredDaysAreSelected() {
+        // given
+        when(configurationDomainService.retrieveRepaymentDueDays()).thenReturn(3L);
+        LocalDate businessDate = LocalDate.of(2022, 11, 30);
+        // when
+        LoanCOBApplicabilityFilter filter = underTest.getApplicabilityFilter(businessDate);
+        // then
+        assertEquals(Map.of("dueDate", LocalDate.of(2022, 12, 3)), filter.getParameters());
+    }
 }
@@ -37,7 +37,9 @@ public class LoanItemProcessorStepDefinitions implements En {
 
     private COBBusinessStepService cobBusinessStepService = mock(COBBusinessStepService.class);
 
-    private LoanItemProcessor loanItemProcessor = new LoanItemProcessor(cobBusinessStepService);
+    private LoanCOBApplicabilityService loanCOBApplicabilityService = mock(LoanCOBApplicabilityService.class);
+
+    private LoanItemProcessor loanItemProcessor = new LoanItemProcessor(cobBusinessStepService, loanCOBApplicabilityService);
 
     private Loan loan = mock(Loan.class);
 
@@ -0,0 +1,99 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.apache.fineract.cob.COBBusinessStepService;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+@ExtendWith(MockitoExtension.class)
+public class LoanItemProcessorTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2023, 1, 10);
+
+    @Mock
+    private COBBusinessStepService cobBusinessStepService;
+    @Mock
+    private LoanCOBApplicabilityService loanCOBApplicabilityService;
+    @Mock
+    private Loan loan;
+
+    private final TreeMap<Long, String> businessStepMap = new TreeMap<>(Map.of(1L, "stepA", 2L, "stepB"));
+    private LoanItemProcessor underTest;
+
+    @BeforeEach
+    public void setUp() {
+        underTest = new LoanItemProcessor(cobBusinessStepService, loanCOBApplicabilityService);
+        when(loan.getId()).thenReturn(1L);
+    }
+
+    @Test
+    public void givenStepFilteredOutForLoanWhenProcessedThenOnlyApplicableStepsAreRun() throws Exception {
+        // given
+        beforeStep(Map.of("stepB", Set.of(2L)));
+        when(cobBusinessStepService.run(new TreeMap<>(Map.of(1L, "stepA")), loan)).thenReturn(loan);
+        // when
+        Loan processedLoan = underTest.process(loan);
+        // then
+        assertEquals(loan, processedLoan);
+        verify(loan).setLastClosedBusinessDate(BUSINESS_DATE);
+    }
+
+    @Test
+    public void givenNoStepAppliesToLoanWhenProcessedThenOnlyBusinessDateIsClosed() throws Exception {
+        // given
+        beforeStep(Map.of("stepA", Set.of(2L), "stepB", Set.of(2L)));
+        // when
+        Loan processedLoan = underTest.process(loan);
+        // then
+        assertEquals(loan, processedLoan);
+        verify(cobBusinessStepService, never()).run(any(), any());
+        verify(loan).setLastClosedBusinessDate(BUSINESS_DATE);
+    }
+
+    private void beforeStep(Map<String, Set<Long>> applicableLoanIds) {
+        JobExecution jobExecution = new JobExecution(1L);
+        jobExecution.getExecutionContext().put(LoanCOBConstant.BUSINESS_DATE_PARAMETER_NAME, BUSINESS_DATE.toString());
+        StepExecution stepExecution = new StepExecution("test", jobExecution);
+        stepExecution.getExecutionContext().put(LoanCOBConstant.BUSINESS_STEP_MAP, businessStepMap);
+        stepExecution.getExecutionContext().put(LoanCOBConstant.LOAN_IDS, new ArrayList<>(List.of(1L, 2L)));
+        when(loanCOBApplicabilityService.findApplicableLoanIds(eq(businessStepMap), eq(List.of(1L, 2L)), eq(BUSINESS_DATE.plusDays(1)),
+                eq(2))).thenReturn(applicableLoanIds);
+        underTest.beforeStep(stepExecution);
+    }
+}
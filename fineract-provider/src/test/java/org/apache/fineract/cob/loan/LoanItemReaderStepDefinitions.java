@@ -21,6 +21,7 @@ package org.apache.fineract.cob.loan;
 import static org.junit.Assert.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 
@@ -28,7 +29,6 @@ import com.google.common.base.Splitter;
 import io.cucumber.java8.En;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import org.apache.fineract.cob.exceptions.LoanReadException;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
@@ -40,7 +40,7 @@ public class LoanItemReaderStepDefinitions implements En {
 
     private LoanRepository loanRepository = mock(LoanRepository.class);
 
-    private LoanItemReader loanItemReader = new LoanItemReader(loanRepository);
+    private LoanItemReader loanItemReader = new LoanItemReader(loanRepository, 10);
 
     private Loan loan = mock(Loan.class);
 
@@ -73,9 +73,11 @@ public class LoanItemReaderStepDefinitions implements En {
             stepExecution.setExecutionContext(stepExecutionContext);
             loanItemReader.beforeStep(stepExecution);
 
-            lenient().when(this.loanRepository.findById(0L)).thenReturn(Optional.empty());
-            lenient().when(this.loanRepository.findById(1L)).thenReturn(Optional.of(loan));
-            lenient().when(this.loanRepository.findById(-1L)).thenThrow(new RuntimeException("fail"));
+            lenient().when(this.loan.getId()).thenReturn(1L);
+            lenient().when(this.loanRepository.findAllByIdWithRepaymentSchedule(argThat(ids -> ids != null && ids.contains(1L))))
+                    .thenReturn(List.of(loan));
+            lenient().when(this.loanRepository.findAllByIdWithRepaymentSchedule(argThat(ids -> ids != null && ids.contains(-1L))))
+                    .thenThrow(new RuntimeException("fail"));
 
         });
 
@@ -0,0 +1,94 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class COBExecutionMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private COBExecutionMetrics underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        meterRegistry = new SimpleMeterRegistry();
+        underTest = new COBExecutionMetrics(meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        underTest.finishPartition();
+    }
+
+    @Test
+    public void givenStartedPartitionWhenBusinessStepsAreRecordedThenTheyAreCollectedPerStepAndPublished() {
+        // given
+        underTest.startPartition("LOAN_COB");
+        // when
+        underTest.recordBusinessStep("stepA", 3_000_000L, false);
+        underTest.recordBusinessStep("stepA", 5_000_000L, true);
+        underTest.recordBusinessStep("stepB", 1_000_000L, false);
+        COBPartitionStatistics statistics = underTest.finishPartition();
+        // then
+        COBPartitionStatistics.BusinessStepStatistics stepA = statistics.getBusinessSteps().get("stepA");
+        assertEquals(2, stepA.getExecutionCount());
+        assertEquals(1, stepA.getFailureCount());
+        assertEquals(8_000_000L, stepA.getTotalNanos());
+        assertEquals(5_000_000L, stepA.getMaxNanos());
+        assertEquals(1, statistics.getBusinessSteps().get("stepB").getExecutionCount());
+        assertEquals(1, meterRegistry.get(COBExecutionMetrics.BUSINESS_STEP_TIMER).tags("step", "stepA", "outcome", "failure").timer()
+                .count());
+        assertNull(underTest.finishPartition());
+    }
+
+    @Test
+    public void givenMoreItemsThanSampleSizeWhenItemsAreFinishedThenOnlyTheSlowestAreKept() {
+        // given
+        COBPartitionStatistics statistics = new COBPartitionStatistics("LOAN_COB", 2);
+        // when
+        statistics.startItem(0L);
+        statistics.finishItem(1L, 10L);
+        statistics.startItem(0L);
+        statistics.finishItem(2L, 30L);
+        statistics.startItem(0L);
+        statistics.finishItem(3L, 20L);
+        // then
+        List<COBPartitionStatistics.ItemTime> slowestItems = statistics.getSlowestItems();
+        assertEquals(2, slowestItems.size());
+        assertEquals(2L, slowestItems.get(0).getItemId());
+        assertEquals(3L, slowestItems.get(1).getItemId());
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import org.apache.fineract.cob.domain.COBExecutionSummaryRepository;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class COBExecutionSummaryServiceImplTest {
+
+    @Mock
+    private COBExecutionSummaryRepository cobExecutionSummaryRepository;
+    private COBExecutionSummaryServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        underTest = new COBExecutionSummaryServiceImpl(cobExecutionSummaryRepository);
+    }
+
+    @Test
+    public void givenNonPositiveLimitWhenRetrievingSummariesThenValidationErrorIsThrown() {
+        // when
+        PlatformApiDataValidationException result = assertThrows(PlatformApiDataValidationException.class,
+                () -> underTest.retrieveSummaries("LOAN_COB", null, null, 0));
+        // then
+        assertEquals("limit", result.getErrors().get(0).getParameterName());
+        verifyNoInteractions(cobExecutionSummaryRepository);
+    }
+
+    @Test
+    public void givenTooLargeLimitWhenRetrievingSummariesThenItIsCapped() {
+        // when
+        List<?> result = underTest.retrieveSummaries("LOAN_COB", null, null, Integer.MAX_VALUE);
+        // then
+        assertEquals(0, result.size());
+        verify(cobExecutionSummaryRepository).findAllByJobNameOrderByIdDesc("LOAN_COB",
+                PageRequest.of(0, COBExecutionSummaryServiceImpl.MAX_LIMIT));
+    }
+}
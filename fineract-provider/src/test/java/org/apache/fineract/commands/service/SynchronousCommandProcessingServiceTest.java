@@ -21,6 +21,7 @@ package org.apache.fineract.commands.service;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
 import org.apache.fineract.commands.domain.CommandProcessingResultType;
@@ -71,6 +72,10 @@ public class SynchronousCommandProcessingServiceTest {
     @Spy
     private FineractRequestContextHolder fineractRequestContextHolder;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Spy
+    private CommandProcessingMetrics commandProcessingMetrics = new CommandProcessingMetrics(meterRegistry);
+
     @InjectMocks
     private SynchronousCommandProcessingService underTest;
 
@@ -116,6 +121,9 @@ public class SynchronousCommandProcessingServiceTest {
         verify(commandSourceService).saveResult(commandSource);
 
         Assertions.assertEquals(commandProcessingResult, actualCommandProcessingResult);
+        Assertions.assertEquals(1L, meterRegistry.get(CommandProcessingMetrics.COMMAND_TIMER)
+                .tag("outcome", CommandProcessingMetrics.OUTCOME_SUCCESS).timer().count());
+        Assertions.assertEquals(1L, meterRegistry.get(CommandProcessingMetrics.STAGE_TIMER).tag("stage", "handler").timer().count());
     }
 
     @Test
@@ -0,0 +1,96 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ImportRowExecutorTest {
+
+    private final FineractProperties fineractProperties = new FineractProperties();
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        fineractProperties.setBulkImport(new FineractProperties.FineractBulkImportProperties());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void givenParallelImportWhenRowsShareKeyThenTheyAreImportedInOrderAndFailuresStayOnTheirRow() {
+        // given
+        fineractProperties.getBulkImport().setThreadCount(4);
+        ImportRowExecutor underTest = new ImportRowExecutor(fineractProperties);
+        List<String> rows = List.of("a1", "b1", "a2", "c1", "b2", "a3", "x1");
+        Map<Character, Queue<String>> imported = new ConcurrentHashMap<>();
+        RuntimeException failure = new IllegalArgumentException("b2");
+        // when
+        List<RuntimeException> result = underTest.importRows(rows, row -> row.charAt(0) == 'x' ? null : row.charAt(0), row -> {
+            assertEquals("default", ThreadLocalContextUtil.getTenant().getTenantIdentifier());
+            if (row.equals("b2")) {
+                throw failure;
+            }
+            imported.computeIfAbsent(row.charAt(0), key -> new ConcurrentLinkedQueue<>()).add(row);
+        });
+        // then
+        assertEquals(rows.size(), result.size());
+        assertSame(failure, result.get(4));
+        assertNull(result.get(0));
+        assertNull(result.get(6));
+        assertEquals(List.of("a1", "a2", "a3"), List.copyOf(imported.get('a')));
+        assertEquals(List.of("b1"), List.copyOf(imported.get('b')));
+        assertEquals(List.of("x1"), List.copyOf(imported.get('x')));
+    }
+
+    @Test
+    public void givenSingleThreadWhenImportingThenRowsAreImportedInSheetOrder() {
+        // given
+        fineractProperties.getBulkImport().setThreadCount(1);
+        ImportRowExecutor underTest = new ImportRowExecutor(fineractProperties);
+        Queue<Integer> imported = new ConcurrentLinkedQueue<>();
+        // when
+        List<RuntimeException> result = underTest.importRows(List.of(1, 2, 3), row -> null, imported::add);
+        // then
+        assertEquals(List.of(1, 2, 3), List.copyOf(imported));
+        assertEquals(3, result.size());
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.jcache.JCacheCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+public class DistributedCacheManagerTest {
+
+    @Mock
+    private JCacheCacheManager localCacheManager;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Captor
+    private ArgumentCaptor<Consumer<CacheInvalidationMessage>> listenerCaptor;
+
+    @Captor
+    private ArgumentCaptor<CacheInvalidationMessage> messageCaptor;
+
+    private final Cache offices = new ConcurrentMapCache("offices");
+
+    private DistributedCacheManager underTest;
+
+    @BeforeEach
+    public void setUp() {
+        final FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setNodeId("1");
+        when(localCacheManager.getCache("offices")).thenReturn(offices);
+        when(localCacheManager.getCacheNames()).thenReturn(List.of("offices"));
+        underTest = new DistributedCacheManager(localCacheManager, invalidationBus, fineractProperties);
+        underTest.activate();
+        verify(invalidationBus).start(listenerCaptor.capture());
+    }
+
+    @Test
+    public void testLocalEvictionIsPublished() {
+        final Cache cache = underTest.getCache("offices");
+        cache.put("default|1", "Head Office");
+
+        cache.evict("default|1");
+
+        assertNull(offices.get("default|1"));
+        verify(invalidationBus).publish(messageCaptor.capture());
+        assertEquals("offices", messageCaptor.getValue().getCacheName());
+        assertEquals("java.lang.String:default|1", messageCaptor.getValue().getCacheKey());
+    }
+
+    @Test
+    public void testRemoteInvalidationEvictsLocalEntry() {
+        offices.put("default|1", "Head Office");
+        offices.put("default|2", "Branch");
+
+        listenerCaptor.getValue().accept(new CacheInvalidationMessage("2-remote", "offices", "java.lang.String:default|1"));
+
+        assertNull(offices.get("default|1"));
+        assertNotNull(offices.get("default|2"));
+
+        listenerCaptor.getValue().accept(new CacheInvalidationMessage("2-remote", "offices", null));
+
+        assertNull(offices.get("default|2"));
+        verify(invalidationBus, never()).publish(any());
+    }
+
+    @Test
+    public void testNonStringKeyInvalidationEvictsOnlyMatchingEntry() {
+        final Cache cache = underTest.getCache("offices");
+        cache.evict(1L);
+        verify(invalidationBus).publish(messageCaptor.capture());
+        offices.put(1L, "Head Office");
+        offices.put(2L, "Branch");
+        offices.put("1", "Head Office");
+
+        listenerCaptor.getValue().accept(new CacheInvalidationMessage("2-remote", "offices", messageCaptor.getValue().getCacheKey()));
+
+        assertEquals("java.lang.Long:1", messageCaptor.getValue().getCacheKey());
+        assertNull(offices.get(1L));
+        assertNotNull(offices.get(2L));
+        assertNotNull(offices.get("1"));
+    }
+
+    @Test
+    public void testLongKeyInvalidationIsPublishedHashedAndEvictsMatchingEntry() {
+        final String longKey = "default|" + "x".repeat(DistributedCacheManager.MAX_KEY_LENGTH);
+        final Cache cache = underTest.getCache("offices");
+        cache.evict(longKey);
+        verify(invalidationBus).publish(messageCaptor.capture());
+        offices.put(longKey, "Head Office");
+        offices.put("default|2", "Branch");
+
+        listenerCaptor.getValue().accept(new CacheInvalidationMessage("2-remote", "offices", messageCaptor.getValue().getCacheKey()));
+
+        assertTrue(messageCaptor.getValue().getCacheKey().length() <= DistributedCacheManager.MAX_KEY_LENGTH);
+        assertNull(offices.get(longKey));
+        assertNotNull(offices.get("default|2"));
+    }
+
+    @Test
+    public void testOwnInvalidationIsIgnored() {
+        final Cache cache = underTest.getCache("offices");
+        cache.clear();
+        verify(invalidationBus).publish(messageCaptor.capture());
+        cache.put("default|1", "Head Office");
+
+        listenerCaptor.getValue().accept(messageCaptor.getValue());
+
+        assertNotNull(offices.get("default|1"));
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@ExtendWith(MockitoExtension.class)
+public class JdbcPollingCacheInvalidationBusTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> committedIds = new ArrayList<>();
+    private final List<Long> polledFromIds = new ArrayList<>();
+    private final List<String> deliveredKeys = new ArrayList<>();
+
+    private JdbcPollingCacheInvalidationBus underTest;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        when(jdbcTemplate.queryForObject("SELECT MAX(id) FROM m_cache_invalidation", Long.class)).thenReturn(null);
+        doAnswer(invocation -> {
+            final RowCallbackHandler handler = invocation.getArgument(1);
+            final long fromId = invocation.getArgument(2);
+            polledFromIds.add(fromId);
+            for (Long id : committedIds.stream().filter(id -> id > fromId).sorted().collect(Collectors.toList())) {
+                handler.processRow(row(id));
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object.class));
+
+        // the scheduled polls are not reached during the test, the test polls explicitly
+        underTest = new JdbcPollingCacheInvalidationBus(jdbcTemplate, 3_600_000L, 60L);
+        underTest.start(message -> deliveredKeys.add(message.getCacheKey()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        underTest.stop();
+    }
+
+    @Test
+    public void givenLowerIdCommittedLateWhenPolledAgainThenItIsDeliveredOnce() {
+        // given
+        committedIds.addAll(List.of(1L, 3L));
+        underTest.poll();
+        // when
+        committedIds.add(2L);
+        underTest.poll();
+        underTest.poll();
+        // then
+        assertEquals(List.of(0L, 1L, 3L), polledFromIds);
+        assertEquals(List.of("key-1", "key-3", "key-2"), deliveredKeys);
+    }
+
+    @Test
+    public void givenNoGapsWhenPolledThenOnlyNewIdsAreRead() {
+        // given
+        committedIds.addAll(List.of(1L, 2L));
+        underTest.poll();
+        // when
+        committedIds.add(3L);
+        underTest.poll();
+        // then
+        assertEquals(List.of(0L, 2L), polledFromIds);
+        assertEquals(List.of("key-1", "key-2", "key-3"), deliveredKeys);
+    }
+
+    private static ResultSet row(final long id) throws Exception {
+        final ResultSet resultSet = mock(ResultSet.class);
+        lenient().when(resultSet.getLong("id")).thenReturn(id);
+        lenient().when(resultSet.getString("node_id")).thenReturn("2-remote");
+        lenient().when(resultSet.getString("cache_name")).thenReturn("offices");
+        lenient().when(resultSet.getString("cache_key")).thenReturn("key-" + id);
+        return resultSet;
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.campaigns.sms.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.campaigns.sms.domain.SmsCampaign;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractSmsCampaignProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.dataqueries.service.ReadReportingService;
+import org.apache.fineract.infrastructure.sms.domain.SmsMessageStatusType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class SmsCampaignMessageGeneratorTest {
+
+    @Mock
+    private ReadReportingService readReportingService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private SmsCampaign smsCampaign;
+    private SmsCampaignMessageGenerator underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        FineractSmsCampaignProperties smsCampaignProperties = new FineractSmsCampaignProperties();
+        smsCampaignProperties.setBatchSize(2);
+        smsCampaignProperties.setThreadCount(2);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setSmsCampaign(smsCampaignProperties);
+        underTest = new SmsCampaignMessageGenerator(readReportingService, jdbcTemplate, namedParameterJdbcTemplate, fineractProperties);
+    }
+
+    @Test
+    public void givenSameTemplateWhenCompilingTwiceThenCompiledTemplateIsReused() {
+        assertSame(underTest.compile("Hello {{firstName}}", "Reminder"), underTest.compile("Hello {{firstName}}", "Reminder"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenReportRowsWhenEnqueueMessagesThenRowsWithMobileNumberAreInsertedInBatches() {
+        // given
+        Map<String, String> queryParams = Map.of("reportName", "Active Clients");
+        when(smsCampaign.getMessage()).thenReturn("Hello {{firstName}}, due on {{dueDate}}");
+        when(smsCampaign.getCampaignName()).thenReturn("Reminder");
+        when(smsCampaign.getId()).thenReturn(5L);
+        doAnswer(invocation -> {
+            Consumer<Map<String, Object>> rowHandler = invocation.getArgument(3);
+            rowHandler.accept(row(1, "Jane", "0711"));
+            rowHandler.accept(row(2, "Mary", "0722"));
+            rowHandler.accept(row(3, "John", null));
+            rowHandler.accept(row(4, "Anne", "0744"));
+            return 4L;
+        }).when(readReportingService).streamResultSetForSmsEmailCampaign(eq("Active Clients"), eq("report"), eq(queryParams), any());
+        // when
+        long enqueued = underTest.enqueueMessages(smsCampaign, queryParams);
+        // then
+        assertEquals(3L, enqueued);
+        ArgumentCaptor<List<Object[]>> params = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(any(String.class), params.capture());
+        LocalDate businessDate = DateUtils.getBusinessLocalDate();
+        assertEquals(2, params.getAllValues().get(0).size());
+        assertArrayEquals(new Object[] { 1L, 5L, SmsMessageStatusType.PENDING.getValue(), "0711", "Hello Jane, due on 5-10-2022",
+                businessDate, false }, params.getAllValues().get(0).get(0));
+        assertArrayEquals(new Object[] { 2L, 5L, SmsMessageStatusType.PENDING.getValue(), "0722", "Hello Mary, due on 5-10-2022",
+                businessDate, false }, params.getAllValues().get(0).get(1));
+        assertEquals(1, params.getAllValues().get(1).size());
+        assertArrayEquals(new Object[] { 4L, 5L, SmsMessageStatusType.PENDING.getValue(), "0744", "Hello Anne, due on 5-10-2022",
+                businessDate, false }, params.getAllValues().get(1).get(0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenNotificationCampaignWhenEnqueueMessagesThenOnlyClientsWithDeviceRegistrationAreInserted() {
+        // given
+        Map<String, String> queryParams = Map.of("reportName", "Active Clients");
+        when(smsCampaign.getMessage()).thenReturn("Hello {{firstName}}");
+        when(smsCampaign.getCampaignName()).thenReturn("Notification");
+        when(smsCampaign.isNotification()).thenReturn(true);
+        when(namedParameterJdbcTemplate.queryForList(any(String.class), any(Map.class), eq(Long.class))).thenReturn(List.of(2L));
+        doAnswer(invocation -> {
+            Consumer<Map<String, Object>> rowHandler = invocation.getArgument(3);
+            rowHandler.accept(row(1, "Jane", "0711"));
+            rowHandler.accept(row(2, "John", null));
+            return 2L;
+        }).when(readReportingService).streamResultSetForSmsEmailCampaign(eq("Active Clients"), eq("report"), eq(queryParams), any());
+        // when
+        long enqueued = underTest.enqueueMessages(smsCampaign, queryParams);
+        // then
+        assertEquals(1L, enqueued);
+        ArgumentCaptor<List<Object[]>> params = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(any(String.class), params.capture());
+        assertEquals(1, params.getValue().size());
+        assertEquals(2L, params.getValue().get(0)[0]);
+        assertEquals("Hello John", params.getValue().get(0)[4]);
+    }
+
+    private Map<String, Object> row(Integer id, String firstName, String mobileNo) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("firstName", firstName);
+        row.put("mobileNo", mobileNo);
+        row.put("dueDate", new ArrayList<>(List.of(2022, 10, 5)));
+        return row;
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.TimeoutHandler;
+import javax.ws.rs.core.Response;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.exception.AsyncRequestJobNotFoundException;
+import org.apache.fineract.infrastructure.core.exception.PlatformServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class AsyncRequestExecutorTest {
+
+    private FineractProperties.FineractAsyncRequestPoolProperties pool;
+    private FineractProperties.FineractAsyncRequestProperties asyncRequest;
+    private AsyncRequestExecutor underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+
+        pool = new FineractProperties.FineractAsyncRequestPoolProperties();
+        pool.setThreadCount(1);
+        pool.setQueueCapacity(1);
+        asyncRequest = new FineractProperties.FineractAsyncRequestProperties();
+        asyncRequest.setEnabled(true);
+        asyncRequest.setReports(pool);
+        asyncRequest.setExports(pool);
+        asyncRequest.setMaxJobs(10);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setAsyncRequest(asyncRequest);
+
+        underTest = new AsyncRequestExecutor(fineractProperties);
+        underTest.initializeExecutors();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        underTest.shutdownExecutors();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void givenRequestContextWhenCallingThenWorkRunsOnExportExecutorWithTenant() {
+        // when
+        String result = underTest.call(AsyncRequestType.EXPORT,
+                () -> Thread.currentThread().getName() + "|" + ThreadLocalContextUtil.getTenant().getTenantIdentifier());
+        // then
+        assertTrue(result.startsWith("async-export-"));
+        assertTrue(result.endsWith("|default"));
+    }
+
+    @Test
+    public void givenBusyExecutorWhenSubmittingMoreJobsThanQueueThenJobIsRejected() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        String runningJob = underTest.submitJob(AsyncRequestType.REPORT, 1L, () -> {
+            started.countDown();
+            await(release);
+            return Response.ok("first").build();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        String queuedJob = underTest.submitJob(AsyncRequestType.REPORT, 1L, () -> Response.ok("second").build());
+        // then
+        assertThrows(PlatformServiceUnavailableException.class,
+                () -> underTest.submitJob(AsyncRequestType.REPORT, 1L, () -> Response.ok("third").build()));
+        assertEquals(null, underTest.getJobResult(runningJob, 1L));
+        assertThrows(AsyncRequestJobNotFoundException.class, () -> underTest.getJobResult(runningJob, 2L));
+
+        // when
+        release.countDown();
+        // then
+        assertEquals("first", awaitResult(runningJob).getEntity());
+        assertEquals("second", awaitResult(queuedJob).getEntity());
+        assertThrows(AsyncRequestJobNotFoundException.class, () -> underTest.getJobResult(runningJob, 1L));
+    }
+
+    @Test
+    public void givenJobOutputLargerThanSpaceLeftWhenPolledThenJobIsRejectedAndSpaceIsReleased() throws InterruptedException {
+        // given
+        asyncRequest.setMaxJobsSizeInMb(1L);
+        String largeJob = underTest.submitJob(AsyncRequestType.REPORT, 1L, () -> Response.ok(new byte[2 * 1024 * 1024]).build());
+        // then
+        assertThrows(PlatformServiceUnavailableException.class, () -> awaitResult(largeJob));
+        String smallJob = underTest.submitJob(AsyncRequestType.REPORT, 1L, () -> Response.ok("small").build());
+        assertEquals("small", awaitResult(smallJob).getEntity());
+    }
+
+    @Test
+    public void givenRunningRequestWhenResponseTimesOutThenWorkIsInterrupted() throws InterruptedException {
+        // given
+        pool.setTimeoutSeconds(60);
+        AsyncResponse asyncResponse = mock(AsyncResponse.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        underTest.resume(AsyncRequestType.REPORT, asyncResponse, () -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return Response.ok("late").build();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        ArgumentCaptor<TimeoutHandler> timeoutHandler = ArgumentCaptor.forClass(TimeoutHandler.class);
+        verify(asyncResponse).setTimeoutHandler(timeoutHandler.capture());
+        // when
+        timeoutHandler.getValue().handleTimeout(asyncResponse);
+        // then
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        verify(asyncResponse).resume(any(PlatformServiceUnavailableException.class));
+    }
+
+    private Response awaitResult(String jobId) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            Response result = underTest.getJobResult(jobId, 1L);
+            if (result != null) {
+                return result;
+            }
+            Thread.sleep(10);
+        }
+        Response result = underTest.getJobResult(jobId, 1L);
+        assertNotNull(result);
+        return result;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+public class ContextPropagatingExecutorTest {
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        MDC.put("correlationId", "abc");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        MDC.clear();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void givenTasksWhenInvokedThenTheyRunWithTheContextOfTheCallerAndResultsKeepTheirOrder() {
+        // given
+        List<Supplier<String>> firstBatch = List.of(() -> task("a"), () -> task("b"), () -> task("c"));
+        List<Supplier<String>> secondBatch = List.of(() -> task("d"));
+        // when
+        List<String> firstResult;
+        List<String> secondResult;
+        try (ContextPropagatingExecutor underTest = ContextPropagatingExecutor.create("test", 2)) {
+            firstResult = underTest.invokeAll(firstBatch);
+            secondResult = underTest.invokeAll(secondBatch);
+        }
+        // then
+        assertEquals(List.of("default-abc-a", "default-abc-b", "default-abc-c"), firstResult);
+        assertEquals(List.of("default-abc-d"), secondResult);
+    }
+
+    @Test
+    public void givenFailingTaskWhenInvokedThenItsExceptionIsRethrown() {
+        // given
+        IllegalArgumentException failure = new IllegalArgumentException("failed");
+        List<Supplier<String>> tasks = List.of(() -> task("a"), () -> {
+            throw failure;
+        });
+        // when
+        RuntimeException result = assertThrows(RuntimeException.class, () -> ContextPropagatingExecutor.invokeAll("test", 2, tasks));
+        // then
+        assertSame(failure, result);
+    }
+
+    private static String task(final String value) {
+        return ThreadLocalContextUtil.getTenant().getTenantIdentifier() + "-" + MDC.get("correlationId") + "-" + value;
+    }
+}
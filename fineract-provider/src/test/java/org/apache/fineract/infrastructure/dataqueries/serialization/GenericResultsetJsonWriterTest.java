@@ -0,0 +1,87 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
+import org.junit.jupiter.api.Test;
+
+public class GenericResultsetJsonWriterTest {
+
+    @Test
+    public void testWriteResultsetData() throws Exception {
+        final List<ResultsetColumnHeaderData> columnHeaders = List.of(ResultsetColumnHeaderData.basic("id", "BIGINT"),
+                ResultsetColumnHeaderData.basic("name", "VARCHAR"), ResultsetColumnHeaderData.basic("amount", "DECIMAL"),
+                ResultsetColumnHeaderData.basic("opened", "DATE"), ResultsetColumnHeaderData.basic("modified", "DATETIME"));
+        final List<ResultsetRowData> rows = List.of(
+                ResultsetRowData.create(Arrays.asList(1L, "say \"hi\"", new BigDecimal("10.50"), LocalDate.of(2022, 10, 5),
+                        LocalDateTime.of(2022, 10, 5, 13, 14, 15))),
+                ResultsetRowData.create(Arrays.asList(2L, null, null, null, null)));
+
+        final StringWriter writer = new StringWriter();
+        try (GenericResultsetJsonWriter jsonWriter = new GenericResultsetJsonWriter(writer)) {
+            jsonWriter.writeResultsetData(new GenericResultsetData(columnHeaders, rows));
+        }
+
+        assertEquals("[{\"id\":1,\"name\":\"say \\\"hi\\\"\",\"amount\":10.50,\"opened\":[2022,10,5],\"modified\":[2022,10,5,13,14,15,0]},"
+                + "{\"id\":2,\"name\":null,\"amount\":null,\"opened\":null,\"modified\":null}]", writer.toString());
+    }
+
+    @Test
+    public void testWriteResultSet() throws Exception {
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(3);
+        when(metaData.getColumnLabel(1)).thenReturn("id");
+        when(metaData.getColumnTypeName(1)).thenReturn("INT");
+        when(metaData.getColumnLabel(2)).thenReturn("name");
+        when(metaData.getColumnTypeName(2)).thenReturn("VARCHAR");
+        when(metaData.getColumnLabel(3)).thenReturn("opened");
+        when(metaData.getColumnTypeName(3)).thenReturn("DATE");
+
+        final ResultSet rs = mock(ResultSet.class);
+        when(rs.getMetaData()).thenReturn(metaData);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getLong(1)).thenReturn(7L);
+        when(rs.getObject(2)).thenReturn("Jane");
+        when(rs.getDate(3)).thenReturn(Date.valueOf(LocalDate.of(2023, 1, 31)));
+
+        final StringWriter writer = new StringWriter();
+        final long rowCount;
+        try (GenericResultsetJsonWriter jsonWriter = new GenericResultsetJsonWriter(writer)) {
+            rowCount = jsonWriter.writeResultSet(rs);
+        }
+
+        assertEquals(1L, rowCount);
+        assertEquals("[{\"id\":7,\"name\":\"Jane\",\"opened\":[2023,1,31]}]", writer.toString());
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class GenericResultsetRowMapperTest {
+
+    @Test
+    public void testMapRowMatchesJsonReadBack() throws Exception {
+        final StringWriter writer = new StringWriter();
+        try (GenericResultsetJsonWriter jsonWriter = new GenericResultsetJsonWriter(writer)) {
+            jsonWriter.writeResultSet(resultSet());
+        }
+        final List<HashMap<String, Object>> expected = new ObjectMapper().readValue(writer.toString(), new TypeReference<>() {});
+
+        final ResultSet rs = resultSet();
+        rs.next();
+        final Map<String, Object> row = new GenericResultsetRowMapper().mapRow(rs, 0);
+
+        assertEquals(expected.get(0), row);
+        assertEquals(Map.of("id", 7, "name", "Jane", "opened", List.of(2023, 1, 31), "amount", 10.5, "fee", 3), row);
+    }
+
+    private ResultSet resultSet() throws Exception {
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(5);
+        when(metaData.getColumnLabel(1)).thenReturn("id");
+        when(metaData.getColumnTypeName(1)).thenReturn("INT");
+        when(metaData.getColumnLabel(2)).thenReturn("name");
+        when(metaData.getColumnTypeName(2)).thenReturn("VARCHAR");
+        when(metaData.getColumnLabel(3)).thenReturn("opened");
+        when(metaData.getColumnTypeName(3)).thenReturn("DATE");
+        when(metaData.getColumnLabel(4)).thenReturn("amount");
+        when(metaData.getColumnTypeName(4)).thenReturn("DECIMAL");
+        when(metaData.getColumnLabel(5)).thenReturn("fee");
+        when(metaData.getColumnTypeName(5)).thenReturn("DECIMAL");
+
+        final ResultSet rs = mock(ResultSet.class);
+        when(rs.getMetaData()).thenReturn(metaData);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getLong(1)).thenReturn(7L);
+        when(rs.getObject(2)).thenReturn("Jane");
+        when(rs.getDate(3)).thenReturn(Date.valueOf(LocalDate.of(2023, 1, 31)));
+        when(rs.getBigDecimal(4)).thenReturn(new BigDecimal("10.50"));
+        when(rs.getBigDecimal(5)).thenReturn(new BigDecimal("3"));
+        return rs;
+    }
+}
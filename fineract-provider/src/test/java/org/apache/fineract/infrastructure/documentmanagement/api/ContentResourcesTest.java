@@ -0,0 +1,141 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.documentmanagement.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import org.apache.fineract.infrastructure.documentmanagement.api.ContentResources.ByteRange;
+import org.apache.fineract.infrastructure.documentmanagement.data.FileData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ContentResourcesTest {
+
+    private static final String ENTITY_TAG = "\"0123abcd.pdf\"";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testParseRange() {
+        assertNull(ContentResources.parseRange(null, 100));
+        assertNull(ContentResources.parseRange("bytes=0-1,5-6", 100));
+        assertNull(ContentResources.parseRange("bytes=abc", 100));
+        assertNull(ContentResources.parseRange("bytes=10-5", 100));
+        assertRange(10, 19, ContentResources.parseRange("bytes=10-19", 100));
+        assertRange(90, 99, ContentResources.parseRange("bytes=90-", 100));
+        assertRange(90, 99, ContentResources.parseRange("bytes=-10", 100));
+        assertRange(0, 99, ContentResources.parseRange("bytes=-500", 100));
+        assertRange(50, 99, ContentResources.parseRange("bytes=50-500", 100));
+        assertSame(ByteRange.UNSATISFIABLE, ContentResources.parseRange("bytes=100-", 100));
+        assertSame(ByteRange.UNSATISFIABLE, ContentResources.parseRange("bytes=-10", 0));
+        assertSame(ByteRange.UNSATISFIABLE, ContentResources.parseRange("bytes=0-", 0));
+    }
+
+    @Test
+    public void testRangeRequestIsAnsweredWithPartialContent() throws Exception {
+        FileData fileData = fileData("0123456789");
+        HttpHeaders httpHeaders = mock(HttpHeaders.class);
+        when(httpHeaders.getHeaderString("Range")).thenReturn("bytes=2-5");
+
+        Response response = ContentResources.fileDataToResponse(fileData, "attachment", httpHeaders);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 2-5/10", response.getHeaderString("Content-Range"));
+        assertEquals("4", response.getHeaderString("Content-Length"));
+        assertEquals(ENTITY_TAG, response.getHeaderString(HttpHeaders.ETAG));
+        assertEquals("2345", write(response));
+    }
+
+    @Test
+    public void testRangeIsIgnoredForStaleIfRange() throws Exception {
+        FileData fileData = fileData("0123456789");
+        HttpHeaders httpHeaders = mock(HttpHeaders.class);
+        when(httpHeaders.getHeaderString("Range")).thenReturn("bytes=2-5");
+        when(httpHeaders.getHeaderString("If-Range")).thenReturn("\"other.pdf\"");
+
+        Response response = ContentResources.fileDataToResponse(fileData, "attachment", httpHeaders);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("bytes", response.getHeaderString("Accept-Ranges"));
+        assertEquals("0123456789", write(response));
+    }
+
+    @Test
+    public void testMatchingIfNoneMatchIsAnsweredWithNotModified() throws Exception {
+        FileData fileData = fileData("0123456789");
+        HttpHeaders httpHeaders = mock(HttpHeaders.class);
+        when(httpHeaders.getHeaderString(HttpHeaders.IF_NONE_MATCH)).thenReturn("\"x\", " + ENTITY_TAG);
+
+        Response response = ContentResources.fileDataToResponse(fileData, "attachment", httpHeaders);
+
+        assertEquals(304, response.getStatus());
+        assertNull(response.getEntity());
+    }
+
+    @Test
+    public void testUnsatisfiableRange() throws Exception {
+        FileData fileData = fileData("0123456789");
+        HttpHeaders httpHeaders = mock(HttpHeaders.class);
+        when(httpHeaders.getHeaderString("Range")).thenReturn("bytes=20-");
+
+        Response response = ContentResources.fileDataToResponse(fileData, "attachment", httpHeaders);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeaderString("Content-Range"));
+    }
+
+    @Test
+    public void testMissingFileIsAnsweredWithNotFound() {
+        FileData fileData = new FileData(tempDir.resolve("missing.pdf").toFile(), "agreement.pdf", "application/pdf", ENTITY_TAG);
+
+        Response response = ContentResources.fileDataToResponse(fileData, "attachment", (HttpHeaders) null);
+
+        assertEquals(404, response.getStatus());
+        assertNull(response.getEntity());
+    }
+
+    private FileData fileData(String content) throws Exception {
+        File file = Files.writeString(tempDir.resolve("0123abcd.pdf"), content, UTF_8).toFile();
+        return new FileData(file, "agreement.pdf", "application/pdf", ENTITY_TAG);
+    }
+
+    private static String write(Response response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(out);
+        return out.toString(UTF_8);
+    }
+
+    private static void assertRange(long first, long last, ByteRange range) {
+        assertEquals(first, range.getFirst());
+        assertEquals(last, range.getLast());
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.documentmanagement.contentrepository;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractContentFilesystemProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractContentProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class ContentAddressedFileStoreTest {
+
+    private static final String KEY = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08.pdf";
+
+    @Mock
+    private FileSystemContentPathSanitizer pathSanitizer;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @TempDir
+    private Path rootFolder;
+    private ContentAddressedFileStore underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        FineractContentFilesystemProperties filesystemProperties = new FineractContentFilesystemProperties();
+        filesystemProperties.setRootFolder(rootFolder.toString());
+        filesystemProperties.setContentAddressed(true);
+        FineractContentProperties contentProperties = new FineractContentProperties();
+        contentProperties.setFilesystem(filesystemProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setContent(contentProperties);
+        underTest = new ContentAddressedFileStore(pathSanitizer, fineractProperties, jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    public void givenSameContentWhenStoredTwiceThenItIsWrittenOnceAndReferencedTwice() throws Exception {
+        // given
+        when(pathSanitizer.sanitize(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), anyString())).thenReturn(List.of(), List.of(1L), List.of());
+        when(jdbcTemplate.update(anyString(), anyString())).thenReturn(1);
+        // when
+        String first = underTest.store(new ByteArrayInputStream("test".getBytes(UTF_8)), "KYC.PDF");
+        String second = underTest.store(new ByteArrayInputStream("test".getBytes(UTF_8)), "copy.pdf");
+        String other = underTest.store(new ByteArrayInputStream("other".getBytes(UTF_8)), "other.pdf");
+        // then
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        assertTrue(underTest.isContentAddressed(first));
+        assertFalse(underTest.isContentAddressed(rootFolder.resolve("Default").resolve("documents").resolve("x.pdf").toString()));
+        assertEquals(rootFolder.resolve("Default").resolve("content").resolve("9f").resolve("86").resolve(KEY).toString(), first);
+        assertEquals("test", Files.readString(Path.of(first), UTF_8));
+        verify(jdbcTemplate, times(1)).update("insert into m_content_blob (storage_key, size_in_bytes, reference_count) values (?, ?, 0)",
+                KEY, 4L);
+        verify(jdbcTemplate, times(2)).update("update m_content_blob set reference_count = reference_count + 1 where storage_key = ?", KEY);
+    }
+
+    @Test
+    public void givenLastReferenceWhenReleasedThenFileIsDeleted() throws Exception {
+        // given
+        when(pathSanitizer.sanitize(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jdbcTemplate.update(anyString(), anyString())).thenReturn(1);
+        String location = underTest.store(new ByteArrayInputStream("test".getBytes(UTF_8)), "kyc.pdf");
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), anyString())).thenReturn(List.of(0));
+        // when
+        underTest.release(location);
+        // then
+        verify(jdbcTemplate).queryForList("select reference_count from m_content_blob where storage_key = ? for update", Integer.class,
+                KEY);
+        verify(jdbcTemplate).update("delete from m_content_blob where storage_key = ? and reference_count = 0", KEY);
+        assertFalse(Files.exists(Path.of(location)));
+    }
+
+    @Test
+    public void givenRowDeletedByConcurrentReleaseWhenStoredThenRowAndFileAreCreatedAgain() throws Exception {
+        // given
+        when(pathSanitizer.sanitize(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), anyString())).thenReturn(List.of(1L), List.of());
+        when(jdbcTemplate.update(anyString(), anyString())).thenReturn(0, 1);
+        // when
+        String location = underTest.store(new ByteArrayInputStream("test".getBytes(UTF_8)), "kyc.pdf");
+        // then
+        verify(jdbcTemplate).update("insert into m_content_blob (storage_key, size_in_bytes, reference_count) values (?, ?, 0)", KEY, 4L);
+        verify(jdbcTemplate, times(2)).update("update m_content_blob set reference_count = reference_count + 1 where storage_key = ?", KEY);
+        assertEquals("test", Files.readString(Path.of(location), UTF_8));
+    }
+
+    @Test
+    public void givenUploadRolledBackWhenCompletedThenUnreferencedContentIsDeleted() throws Exception {
+        // given
+        when(pathSanitizer.sanitize(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), anyString())).thenReturn(List.of());
+        when(jdbcTemplate.update(anyString(), anyString())).thenReturn(1);
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), anyString())).thenReturn(List.of(0));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            String location = underTest.store(new ByteArrayInputStream("test".getBytes(UTF_8)), "kyc.pdf");
+            assertTrue(Files.exists(Path.of(location)));
+            // when
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+            // then
+            verify(jdbcTemplate).update("delete from m_content_blob where storage_key = ? and reference_count = 0", KEY);
+            assertFalse(Files.exists(Path.of(location)));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
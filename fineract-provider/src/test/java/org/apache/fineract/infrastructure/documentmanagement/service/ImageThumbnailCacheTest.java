@@ -0,0 +1,138 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.documentmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.io.ByteSource;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.imageio.ImageIO;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractContentImageCacheProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractContentProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.documentmanagement.data.FileData;
+import org.apache.fineract.infrastructure.documentmanagement.data.ImageResizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ImageThumbnailCacheTest {
+
+    @TempDir
+    private Path cacheFolder;
+    private FineractContentImageCacheProperties cacheProperties;
+    private ImageThumbnailCache underTest;
+    private final AtomicInteger loads = new AtomicInteger();
+    private byte[] image;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        cacheProperties = new FineractContentImageCacheProperties();
+        cacheProperties.setEnabled(true);
+        cacheProperties.setFolder(cacheFolder.toString());
+        cacheProperties.setMaxSizeInMb(1L);
+        FineractContentProperties contentProperties = new FineractContentProperties();
+        contentProperties.setImageCache(cacheProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setContent(contentProperties);
+        underTest = new ImageThumbnailCache(fineractProperties, new ImageResizer());
+        underTest.init();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB), "png", out);
+        image = out.toByteArray();
+    }
+
+    @Test
+    public void givenCachedVariantWhenRetrievedAgainThenOriginalIsNotLoaded() throws Exception {
+        // when
+        FileData first = underTest.retrieve(1L, "John Doe", "image/png", 50, 50, original());
+        FileData second = underTest.retrieve(1L, "John Doe", "image/png", 50, 50, original());
+        // then
+        assertEquals(1, loads.get());
+        assertEquals(first.getEntityTag(), second.getEntityTag());
+        assertEquals("John Doe", second.name());
+        assertEquals(50, ImageIO.read(second.getFile()).getWidth());
+        assertEquals(25, ImageIO.read(second.getFile()).getHeight());
+    }
+
+    @Test
+    public void givenEvictedImageWhenRetrievedThenItIsResizedAgain() {
+        // given
+        FileData cached = underTest.retrieve(1L, "John Doe", "image/png", 50, 50, original());
+        underTest.retrieve(2L, "Jane Doe", "image/png", 50, 50, original());
+        // when
+        underTest.evict(1L);
+        // then
+        assertFalse(cached.getFile().exists());
+        underTest.retrieve(1L, "John Doe", "image/png", 50, 50, original());
+        underTest.retrieve(2L, "Jane Doe", "image/png", 50, 50, original());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void givenFullCacheWhenVariantIsAddedThenLeastRecentlyServedVariantIsEvicted() {
+        // given
+        cacheProperties.setMaxSizeInMb(0L);
+        FileData small = underTest.retrieve(1L, "John Doe", "image/png", 50, 50, original());
+        // when
+        FileData large = underTest.retrieve(1L, "John Doe", "image/png", 100, 100, original());
+        // then
+        assertNotEquals(small.getEntityTag(), large.getEntityTag());
+        assertFalse(small.getFile().exists());
+        assertTrue(large.getFile().exists());
+        assertEquals(large.getFile().length(), underTest.getTotalSize());
+    }
+
+    @Test
+    public void givenImageEvictedWhileOriginalIsLoadedWhenRetrievedThenVariantIsNotCached() {
+        // given
+        Supplier<FileData> replacedWhileLoading = () -> {
+            FileData stale = original().get();
+            underTest.evict(1L);
+            return stale;
+        };
+        // when
+        FileData resized = underTest.retrieve(1L, "John Doe", "image/png", 50, 50, replacedWhileLoading);
+        // then
+        assertEquals(2, loads.get());
+        assertNull(resized.getFile());
+        assertEquals(0, underTest.getTotalSize());
+        underTest.retrieve(1L, "John Doe", "image/png", 50, 50, original());
+        assertEquals(3, loads.get());
+    }
+
+    private Supplier<FileData> original() {
+        return () -> {
+            loads.incrementAndGet();
+            return new FileData(ByteSource.wrap(image), "John Doe", "image/png");
+        };
+    }
+}
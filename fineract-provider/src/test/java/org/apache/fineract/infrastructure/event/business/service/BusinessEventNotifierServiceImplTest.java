@@ -26,14 +26,23 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
 
+import java.util.List;
+import java.util.Optional;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanAdjustTransactionBusinessEvent;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventConfigurationRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventConfiguration;
 import org.apache.fineract.infrastructure.event.external.service.ExternalEventService;
+import org.apache.fineract.portfolio.loanaccount.domain.ChangedTransactionDetail;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionRepository;
+import org.apache.fineract.portfolio.loanaccount.service.ReplayedTransactionBusinessEventService;
+import org.apache.fineract.portfolio.loanaccount.service.ReplayedTransactionBusinessEventServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -43,6 +52,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -152,6 +162,37 @@ class BusinessEventNotifierServiceImplTest {
         assertThat(capturedEvent.get().get(1)).isEqualTo(event2);
     }
 
+    @Test
+    public void testNestedRecordingOfReplayedTransactionShouldPostOneBulkExternalEventForTheOuterRecording() {
+        // given
+        configureExternalEventsProperties(true);
+        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
+                .thenReturn(new ExternalEventConfiguration("aType", true));
+        LoanTransactionRepository loanTransactionRepository = mock(LoanTransactionRepository.class);
+        when(loanTransactionRepository.findById(1L)).thenReturn(Optional.of(mock(LoanTransaction.class)));
+        ReplayedTransactionBusinessEventService replayedTransactionBusinessEventService = new ReplayedTransactionBusinessEventServiceImpl(
+                underTest, loanTransactionRepository);
+        ChangedTransactionDetail backdatedRepayment = new ChangedTransactionDetail();
+        backdatedRepayment.getNewTransactionMappings().put(1L, mock(LoanTransaction.class));
+        MockBusinessEvent firstRepayment = new MockBusinessEvent();
+        MockBusinessEvent lastRepayment = new MockBusinessEvent();
+        // when
+        underTest.startExternalEventRecording();
+        underTest.notifyPostBusinessEvent(firstRepayment);
+        replayedTransactionBusinessEventService.raiseTransactionReplayedEvents(backdatedRepayment);
+        underTest.notifyPostBusinessEvent(lastRepayment);
+        underTest.stopExternalEventRecording();
+        // then
+        ArgumentCaptor<BusinessEvent> argumentCaptor = ArgumentCaptor.forClass(BusinessEvent.class);
+        verify(externalEventService).postEvent(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue()).isInstanceOf(BulkBusinessEvent.class);
+        List<BusinessEvent<?>> postedEvents = ((BulkBusinessEvent) argumentCaptor.getValue()).get();
+        assertThat(postedEvents).hasSize(3);
+        assertThat(postedEvents.get(0)).isEqualTo(firstRepayment);
+        assertThat(postedEvents.get(1)).isInstanceOf(LoanAdjustTransactionBusinessEvent.class);
+        assertThat(postedEvents.get(2)).isEqualTo(lastRepayment);
+    }
+
     @Test
     public void testNotifyPreBusinessEventShouldNotifyPreListeners() {
         // given
@@ -198,6 +239,58 @@ class BusinessEventNotifierServiceImplTest {
         verifyNoInteractions(externalEventService);
     }
 
+    @Test
+    public void testNotifyPostBusinessEventShouldPostExternalEventsBeforeCommitWhenDeferralEnabled() {
+        // given
+        configureExternalEventsProperties(true);
+        fineractProperties.getEvents().getExternal().setDeferUntilCommit(true);
+        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
+                .thenReturn(new ExternalEventConfiguration("aType", true));
+        MockBusinessEvent event = new MockBusinessEvent();
+        MockBusinessEvent event2 = new MockBusinessEvent();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            underTest.notifyPostBusinessEvent(event);
+            underTest.notifyPostBusinessEvent(event2);
+            verify(externalEventService, never()).postEvent(any());
+            // when
+            TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+            TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        // then
+        verify(externalEventService).postEvents(List.of(event, event2));
+        verify(externalEventService, never()).postEvent(any());
+    }
+
+    @Test
+    public void testNotifyPostBusinessEventShouldPostExternalEventsImmediatelyWhenDeferralDisabled() {
+        // given
+        configureExternalEventsProperties(true);
+        when(externalEventConfigurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(Mockito.any()))
+                .thenReturn(new ExternalEventConfiguration("aType", true));
+        MockBusinessEvent event = new MockBusinessEvent();
+        MockBusinessEvent event2 = new MockBusinessEvent();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            // when
+            underTest.notifyPostBusinessEvent(event);
+            underTest.notifyPostBusinessEvent(event2);
+            // then
+            verify(externalEventService).postEvent(event);
+            verify(externalEventService).postEvent(event2);
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(externalEventService, never()).postEvents(any());
+    }
+
     private void configureExternalEventsProperties(boolean isExternalEventsEnabled) {
         FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
         FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
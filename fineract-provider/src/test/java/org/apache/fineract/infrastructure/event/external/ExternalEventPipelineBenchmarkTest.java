@@ -0,0 +1,384 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractEventsProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsProducerJmsProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsProducerProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ExternalIdFactory;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientActivateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierServiceImpl;
+import org.apache.fineract.infrastructure.event.external.jobs.SendAsynchronousEventsTasklet;
+import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventConfigurationRepository;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventConfiguration;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
+import org.apache.fineract.infrastructure.event.external.service.ExternalEventService;
+import org.apache.fineract.infrastructure.event.external.service.idempotency.DefaultExternalEventIdempotencyKeyGenerator;
+import org.apache.fineract.infrastructure.event.external.service.message.BulkMessageItemFactory;
+import org.apache.fineract.infrastructure.event.external.service.message.MessageFactory;
+import org.apache.fineract.infrastructure.event.external.service.serialization.mapper.client.ClientDataMapper;
+import org.apache.fineract.infrastructure.event.external.service.serialization.mapper.client.ClientDataMapperImpl;
+import org.apache.fineract.infrastructure.event.external.service.serialization.mapper.support.AvroDateTimeMapper;
+import org.apache.fineract.infrastructure.event.external.service.serialization.mapper.support.AvroExternalIdMapper;
+import org.apache.fineract.infrastructure.event.external.service.serialization.mapper.support.AvroMonthDayMapper;
+import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializerFactory;
+import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.ExternalEventSnapshotCache;
+import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.client.ClientBusinessEventSerializer;
+import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.apache.fineract.portfolio.client.data.ClientData;
+import org.apache.fineract.portfolio.client.domain.Client;
+import org.apache.fineract.portfolio.client.service.ClientReadPlatformService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Benchmarks the external event pipeline: raising events through {@link BusinessEventNotifierServiceImpl}, serializing
+ * and storing them with {@link ExternalEventService}, and sending them with {@link SendAsynchronousEventsTasklet} to an
+ * in-process ActiveMQ broker. The repository of <code>m_external_event</code> is replaced by an in-memory store, so the
+ * numbers cover the pipeline itself, not the database.
+ *
+ * Reports events per second, bytes per event and latency percentiles per event type. Only runs when requested, with
+ * <code>./gradlew :fineract-provider:test --tests '*ExternalEventPipelineBenchmarkTest' -Pbenchmark</code>; the number of
+ * events per type can be changed with <code>-Dfineract.benchmark.events</code>.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "fineract.benchmark", matches = "true")
+public class ExternalEventPipelineBenchmarkTest {
+
+    private static final int EVENTS = Integer.getInteger("fineract.benchmark.events", 20000);
+    private static final int WARMUP_EVENTS = Math.max(1, EVENTS / 10);
+    private static final int BULK_SIZE = 5;
+    private static final int CLIENTS = 100;
+    private static final int READ_BATCH_SIZE = 1000;
+
+    private final Map<Long, ClientData> clients = new HashMap<>();
+    private final Map<Long, Client> clientEntities = new HashMap<>();
+    private final InMemoryExternalEventStore store = new InMemoryExternalEventStore();
+    private final Samples sendLatencies = new Samples();
+    private final AtomicLong sentBytes = new AtomicLong();
+
+    private AnnotationConfigApplicationContext mapperContext;
+    private CachingConnectionFactory connectionFactory;
+    private BusinessEventNotifierServiceImpl notifier;
+    private SendAsynchronousEventsTasklet tasklet;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        FineractProperties fineractProperties = fineractProperties();
+
+        for (long id = 1; id <= CLIENTS; id++) {
+            clients.put(id, client(id));
+            Client entity = mock(Client.class);
+            when(entity.getId()).thenReturn(id);
+            clientEntities.put(id, entity);
+        }
+        ClientReadPlatformService clientReadPlatformService = mock(ClientReadPlatformService.class);
+        when(clientReadPlatformService.retrieveOne(anyLong())).thenAnswer(invocation -> clients.get(invocation.<Long>getArgument(0)));
+        mapperContext = new AnnotationConfigApplicationContext(ClientDataMapperImpl.class, AvroDateTimeMapper.class,
+                AvroMonthDayMapper.class, AvroExternalIdMapper.class);
+
+        ByteBufferConverter byteBufferConverter = new ByteBufferConverter();
+        ExternalEventSnapshotCache snapshotCache = new ExternalEventSnapshotCache();
+        ClientBusinessEventSerializer clientSerializer = new ClientBusinessEventSerializer(clientReadPlatformService,
+                mapperContext.getBean(ClientDataMapper.class));
+        clientSerializer.setByteBufferConverter(byteBufferConverter);
+        clientSerializer.setSnapshotCache(snapshotCache);
+        BusinessEventSerializerFactory serializerFactory = new BusinessEventSerializerFactory(List.of(clientSerializer));
+        ExternalEventService externalEventService = new ExternalEventService(store.repository(),
+                new DefaultExternalEventIdempotencyKeyGenerator(), serializerFactory, byteBufferConverter,
+                new BulkMessageItemFactory(serializerFactory, byteBufferConverter), new SimpleMeterRegistry(), snapshotCache);
+        externalEventService.setEntityManager(mock(EntityManager.class));
+
+        ExternalEventConfigurationRepository configurationRepository = mock(ExternalEventConfigurationRepository.class);
+        when(configurationRepository.findExternalEventConfigurationByTypeWithNotFoundDetection(anyString()))
+                .thenAnswer(invocation -> new ExternalEventConfiguration(invocation.getArgument(0), true));
+        notifier = new BusinessEventNotifierServiceImpl(externalEventService, configurationRepository, fineractProperties);
+
+        connectionFactory = new CachingConnectionFactory(
+                new ActiveMQConnectionFactory("vm://external-event-benchmark?broker.persistent=false"));
+        JmsTemplate jmsTemplate = new JmsTemplate(connectionFactory);
+        String queueName = fineractProperties.getEvents().getExternal().getProducer().getJms().getEventQueueName();
+        ExternalEventProducer producer = message -> {
+            long start = System.nanoTime();
+            jmsTemplate.convertAndSend(queueName, message);
+            sendLatencies.add(System.nanoTime() - start);
+            sentBytes.addAndGet(message.length);
+        };
+        tasklet = new SendAsynchronousEventsTasklet(fineractProperties, store.repository(), producer,
+                new MessageFactory(byteBufferConverter));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connectionFactory.destroy();
+        mapperContext.close();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void benchmarkExternalEventPipeline() {
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-28s %8s %12s %10s %10s %10s %10s %12s %10s %10s %10s %10s", "event type", "events", "post ev/s",
+                "post p50us", "post p95us", "post p99us", "payload B", "send ev/s", "send p50us", "send p95us", "send p99us", "message B"));
+        report.add(run("ClientCreateBusinessEvent", id -> {
+            notifier.notifyPostBusinessEvent(new ClientCreateBusinessEvent(clientEntities.get(id)));
+        }));
+        report.add(run("ClientActivateBusinessEvent", id -> {
+            notifier.notifyPostBusinessEvent(new ClientActivateBusinessEvent(clientEntities.get(id)));
+        }));
+        report.add(run(BulkBusinessEvent.TYPE, id -> {
+            notifier.startExternalEventRecording();
+            for (int i = 0; i < BULK_SIZE; i++) {
+                notifier.notifyPostBusinessEvent(new ClientCreateBusinessEvent(clientEntities.get(1 + (id + i) % CLIENTS)));
+            }
+            notifier.stopExternalEventRecording();
+        }));
+        log.info("External event pipeline benchmark, {} events per type:\n{}", EVENTS, String.join("\n", report));
+    }
+
+    private String run(String type, EventRaiser raiser) {
+        measure(WARMUP_EVENTS, raiser);
+        Measurement measurement = measure(EVENTS, raiser);
+        return String.format("%-28s %8d %12.0f %10.1f %10.1f %10.1f %10d %12.0f %10.1f %10.1f %10.1f %10d", type, EVENTS,
+                measurement.postRate, micros(measurement.postLatencies, 50), micros(measurement.postLatencies, 95),
+                micros(measurement.postLatencies, 99), measurement.payloadBytes, measurement.sendRate, micros(sendLatencies, 50),
+                micros(sendLatencies, 95), micros(sendLatencies, 99), measurement.messageBytes);
+    }
+
+    private Measurement measure(int events, EventRaiser raiser) {
+        store.clear();
+        sendLatencies.clear();
+        sentBytes.set(0);
+        Measurement measurement = new Measurement();
+
+        long postStart = System.nanoTime();
+        for (long i = 0; i < events; i++) {
+            long start = System.nanoTime();
+            raiser.raise(1 + i % CLIENTS);
+            measurement.postLatencies.add(System.nanoTime() - start);
+        }
+        long postTime = System.nanoTime() - postStart;
+        assertEquals(events, store.count(ExternalEventStatus.TO_BE_SENT));
+        long payloadBytes = store.payloadBytes();
+
+        long sendStart = System.nanoTime();
+        long remaining = events;
+        while (remaining > 0) {
+            tasklet.execute(null, null);
+            long stillRemaining = store.count(ExternalEventStatus.TO_BE_SENT);
+            if (stillRemaining == remaining) {
+                throw new IllegalStateException("Sending the events did not make progress, see the log of the tasklet");
+            }
+            remaining = stillRemaining;
+        }
+        long sendTime = System.nanoTime() - sendStart;
+        assertEquals(events, sendLatencies.size());
+
+        measurement.postRate = events * 1e9 / postTime;
+        measurement.sendRate = events * 1e9 / sendTime;
+        measurement.payloadBytes = payloadBytes / events;
+        measurement.messageBytes = sentBytes.get() / events;
+        return measurement;
+    }
+
+    private static double micros(Samples samples, int percentile) {
+        return samples.percentile(percentile) / 1000.0;
+    }
+
+    private static ClientData client(long id) {
+        ClientData client = new ClientData();
+        client.setId(id);
+        client.setAccountNo(String.format("%09d", id));
+        client.setExternalId(ExternalIdFactory.produce("client-" + id));
+        client.setActive(true);
+        client.setActivationDate(LocalDate.of(2022, 1, 1));
+        client.setFirstname("First" + id);
+        client.setLastname("Last" + id);
+        client.setDisplayName("First" + id + " Last" + id);
+        client.setMobileNo("+3630" + String.format("%07d", id));
+        client.setEmailAddress("client" + id + "@example.com");
+        client.setDateOfBirth(LocalDate.of(1990, 1, 1).plusDays(id));
+        client.setOfficeId(1L);
+        client.setOfficeName("Head Office");
+        return client;
+    }
+
+    private static FineractProperties fineractProperties() {
+        FineractExternalEventsProducerJmsProperties jmsProperties = new FineractExternalEventsProducerJmsProperties();
+        jmsProperties.setEnabled(true);
+        jmsProperties.setEventQueueName("external-events");
+        FineractExternalEventsProducerProperties producerProperties = new FineractExternalEventsProducerProperties();
+        producerProperties.setReadBatchSize(READ_BATCH_SIZE);
+        producerProperties.setJms(jmsProperties);
+        FineractExternalEventsProperties externalProperties = new FineractExternalEventsProperties();
+        externalProperties.setEnabled(true);
+        externalProperties.setProducer(producerProperties);
+        FineractEventsProperties eventsProperties = new FineractEventsProperties();
+        eventsProperties.setExternal(externalProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setEvents(eventsProperties);
+        return fineractProperties;
+    }
+
+    private interface EventRaiser {
+
+        void raise(long clientId);
+    }
+
+    private static final class Measurement {
+
+        private final Samples postLatencies = new Samples();
+        private double postRate;
+        private double sendRate;
+        private long payloadBytes;
+        private long messageBytes;
+    }
+
+    private static final class Samples {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        private synchronized void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private synchronized void clear() {
+            size = 0;
+        }
+
+        private synchronized long percentile(int percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted[Math.max(0, (int) Math.ceil(percentile / 100.0 * size) - 1)];
+        }
+    }
+
+    /**
+     * Stands in for the <code>m_external_event</code> table, implementing the repository methods the pipeline uses.
+     */
+    private static final class InMemoryExternalEventStore {
+
+        private final List<ExternalEvent> events = new ArrayList<>();
+        private final ExternalEventRepository repository = (ExternalEventRepository) Proxy.newProxyInstance(
+                ExternalEventRepository.class.getClassLoader(), new Class<?>[] { ExternalEventRepository.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "save":
+                            return save((ExternalEvent) args[0]);
+                        case "findByStatusOrderById":
+                            return find((ExternalEventStatus) args[0], (Pageable) args[1]);
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "InMemoryExternalEventStore";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        private long nextId;
+
+        private ExternalEventRepository repository() {
+            return repository;
+        }
+
+        private synchronized ExternalEvent save(ExternalEvent event) {
+            if (event.getId() == null) {
+                ReflectionTestUtils.setField(event, "id", ++nextId);
+                events.add(event);
+            }
+            return event;
+        }
+
+        private synchronized List<ExternalEvent> find(ExternalEventStatus status, Pageable pageable) {
+            List<ExternalEvent> result = new ArrayList<>();
+            for (ExternalEvent event : events) {
+                if (result.size() == pageable.getPageSize()) {
+                    break;
+                }
+                if (event.getStatus() == status) {
+                    result.add(event);
+                }
+            }
+            return result;
+        }
+
+        private synchronized long count(ExternalEventStatus status) {
+            return events.stream().filter(event -> event.getStatus() == status).count();
+        }
+
+        private synchronized long payloadBytes() {
+            return events.stream().mapToLong(event -> event.getData().length).sum();
+        }
+
+        private synchronized void clear() {
+            events.clear();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.jobs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.fineract.avro.MessageV1;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractEventsProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsPurgeArchiveProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsPurgeProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.apache.fineract.infrastructure.event.external.service.message.MessageFactory;
+import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class ExternalEventArchiverTest {
+
+    @Mock
+    private ExternalEventRepository repository;
+    @TempDir
+    private Path archiveDirectory;
+    private ExternalEventArchiver underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        FineractExternalEventsPurgeArchiveProperties archiveProperties = new FineractExternalEventsPurgeArchiveProperties();
+        archiveProperties.setEnabled(true);
+        archiveProperties.setDirectory(archiveDirectory.toString());
+        FineractExternalEventsPurgeProperties purgeProperties = new FineractExternalEventsPurgeProperties();
+        purgeProperties.setArchive(archiveProperties);
+        FineractExternalEventsProperties externalProperties = new FineractExternalEventsProperties();
+        externalProperties.setPurge(purgeProperties);
+        FineractEventsProperties eventsProperties = new FineractEventsProperties();
+        eventsProperties.setExternal(externalProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setEvents(eventsProperties);
+        underTest = new ExternalEventArchiver(repository, new MessageFactory(new ByteBufferConverter()), fineractProperties);
+    }
+
+    @Test
+    public void givenTwoBatchesWhenArchivingThenEventsAreAppendedToTheSameFileInIdOrder() throws Exception {
+        // given
+        when(repository.findAllById(List.of(1L, 2L))).thenReturn(List.of(event(2L), event(1L)));
+        when(repository.findAllById(List.of(3L))).thenReturn(List.of(event(3L)));
+        // when
+        underTest.archive(List.of(1L, 2L), "archive");
+        underTest.archive(List.of(3L), "archive");
+        // then
+        List<Integer> archivedIds = new ArrayList<>();
+        File archiveFile = archiveDirectory.resolve("archive.avro").toFile();
+        try (DataFileReader<MessageV1> reader = new DataFileReader<>(archiveFile, new SpecificDatumReader<>(MessageV1.class))) {
+            for (MessageV1 message : reader) {
+                archivedIds.add(message.getId());
+            }
+        }
+        assertEquals(List.of(1, 2, 3), archivedIds);
+    }
+
+    private ExternalEvent event(Long id) {
+        ExternalEvent event = new ExternalEvent("LoanApprovedBusinessEvent", "Loan", "org.apache.fineract.avro.loan.v1.LoanAccountDataV1",
+                new byte[] { 1, 2, 3 }, "key-" + id);
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
@@ -19,31 +19,42 @@
 package org.apache.fineract.infrastructure.event.external.jobs;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractEventsProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsPurgeProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.domain.PageRequest;
 
 @ExtendWith(MockitoExtension.class)
 public class PurgeExternalEventsTaskletTest {
@@ -53,9 +64,11 @@ public class PurgeExternalEventsTaskletTest {
     @Mock
     private ConfigurationDomainService configurationDomainService;
     @Mock
-    private StepContribution stepContribution;
+    private ExternalEventArchiver archiver;
     @Mock
     private ChunkContext chunkContext;
+    private StepExecution stepExecution;
+    private StepContribution stepContribution;
     private RepeatStatus resultStatus;
     private PurgeExternalEventsTasklet underTest;
 
@@ -64,34 +77,79 @@ public class PurgeExternalEventsTaskletTest {
         ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
         ThreadLocalContextUtil
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
-        underTest = new PurgeExternalEventsTasklet(repository, configurationDomainService);
+        FineractExternalEventsPurgeProperties purgeProperties = new FineractExternalEventsPurgeProperties();
+        purgeProperties.setBatchSize(2);
+        FineractExternalEventsProperties externalProperties = new FineractExternalEventsProperties();
+        externalProperties.setPurge(purgeProperties);
+        FineractEventsProperties eventsProperties = new FineractEventsProperties();
+        eventsProperties.setExternal(externalProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setEvents(eventsProperties);
+        stepExecution = new StepExecution("purge", new JobExecution(1L));
+        stepContribution = new StepContribution(stepExecution);
+        underTest = new PurgeExternalEventsTasklet(repository, configurationDomainService, fineractProperties, archiver);
     }
 
     @Test
-    public void givenEventsForPurgeWhenTaskExecutionThenEventsPurgeForDaysCriteria() {
+    public void givenFullBatchOfEventsForPurgeWhenTaskExecutionThenBatchIsPurgedAndCheckpointed() {
         // given
-        ArgumentCaptor<LocalDate> dateCriteriaCaptor = ArgumentCaptor.forClass(LocalDate.class);
+        LocalDate expectedDateForPurgeCriteria = DateUtils.getBusinessLocalDate().minusDays(2);
         when(configurationDomainService.retrieveExternalEventsPurgeDaysCriteria()).thenReturn(2L);
+        when(repository.findIdsOfOlderEventsWithStatus(ExternalEventStatus.SENT, expectedDateForPurgeCriteria, 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(3L, 4L));
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(repository).deleteAllByIdInBatch(List.of(3L, 4L));
+        assertEquals(4L, stepExecution.getExecutionContext().getLong(PurgeExternalEventsTasklet.LAST_PURGED_ID));
+        assertEquals(expectedDateForPurgeCriteria.toString(),
+                stepExecution.getExecutionContext().getString(PurgeExternalEventsTasklet.PURGE_DATE));
+        assertEquals(2, stepContribution.getWriteCount());
+        assertEquals(RepeatStatus.CONTINUABLE, resultStatus);
+    }
+
+    @Test
+    public void givenCheckpointWhenTaskExecutionThenPurgeContinuesAfterLastPurgedId() {
+        // given
+        LocalDate dateForPurgeCriteria = LocalDate.of(2022, 10, 1);
+        stepExecution.getExecutionContext().putLong(PurgeExternalEventsTasklet.LAST_PURGED_ID, 4L);
+        stepExecution.getExecutionContext().putString(PurgeExternalEventsTasklet.PURGE_DATE, dateForPurgeCriteria.toString());
+        when(repository.findIdsOfOlderEventsWithStatus(ExternalEventStatus.SENT, dateForPurgeCriteria, 4L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(7L));
         // when
         resultStatus = underTest.execute(stepContribution, chunkContext);
         // then
-        verify(repository, times(1)).deleteOlderEventsWithSentStatus(Mockito.any(), Mockito.any());
-        verify(repository).deleteOlderEventsWithSentStatus(Mockito.any(), dateCriteriaCaptor.capture());
-        LocalDate expectedDateForPurgeCriteriaTest = DateUtils.getBusinessLocalDate().minusDays(2);
-        LocalDate actualDateForPurgeCriteria = dateCriteriaCaptor.getValue();
-        assertEquals(expectedDateForPurgeCriteriaTest, actualDateForPurgeCriteria);
+        verify(repository).deleteAllByIdInBatch(List.of(7L));
+        verify(configurationDomainService, never()).retrieveExternalEventsPurgeDaysCriteria();
+        assertEquals(7L, stepExecution.getExecutionContext().getLong(PurgeExternalEventsTasklet.LAST_PURGED_ID));
         assertEquals(RepeatStatus.FINISHED, resultStatus);
     }
 
     @Test
-    public void givenEventsForPurgeWhenExceptionOccursThenJobExecutionFinishesSuccessfully() {
+    public void givenArchivingEnabledWhenTaskExecutionThenEventsAreArchivedBeforeDeletion() throws Exception {
         // given
         when(configurationDomainService.retrieveExternalEventsPurgeDaysCriteria()).thenReturn(2L);
-        doThrow(new RuntimeException("Test Exception")).when(repository).deleteOlderEventsWithSentStatus(Mockito.any(), Mockito.any());
+        when(repository.findIdsOfOlderEventsWithStatus(eq(ExternalEventStatus.SENT), any(), eq(0L), any())).thenReturn(List.of(3L));
+        when(archiver.isEnabled()).thenReturn(true);
         // when
         resultStatus = underTest.execute(stepContribution, chunkContext);
         // then
+        verify(archiver).archive(List.of(3L), "external-events-default-1");
+        verify(repository).deleteAllByIdInBatch(List.of(3L));
         assertEquals(RepeatStatus.FINISHED, resultStatus);
     }
 
+    @Test
+    public void givenEventsForPurgeWhenExceptionOccursThenJobExecutionFinishesSuccessfully() throws Exception {
+        // given
+        when(configurationDomainService.retrieveExternalEventsPurgeDaysCriteria()).thenReturn(2L);
+        when(repository.findIdsOfOlderEventsWithStatus(eq(ExternalEventStatus.SENT), any(), eq(0L), any())).thenReturn(List.of(3L));
+        when(archiver.isEnabled()).thenReturn(true);
+        doThrow(new RuntimeException("Test Exception")).when(archiver).archive(anyList(), anyString());
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(repository, never()).deleteAllByIdInBatch(any());
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
 }
@@ -26,14 +26,12 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.apache.fineract.avro.MessageV1;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
@@ -44,7 +42,6 @@ import org.apache.fineract.infrastructure.event.external.repository.ExternalEven
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
 import org.apache.fineract.infrastructure.event.external.service.message.MessageFactory;
-import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -71,8 +68,6 @@ class SendAsynchronousEventsTaskletTest {
     private StepContribution stepContribution;
     @Mock
     private ChunkContext chunkContext;
-    @Mock
-    private ByteBufferConverter byteBufferConverter;
     private SendAsynchronousEventsTasklet underTest;
     private RepeatStatus resultStatus;
 
@@ -82,7 +77,7 @@ class SendAsynchronousEventsTaskletTest {
         ThreadLocalContextUtil
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
         configureExternalEventsProducerReadBatchSizeProperty(1000);
-        underTest = new SendAsynchronousEventsTasklet(fineractProperties, repository, eventProducer, messageFactory, byteBufferConverter);
+        underTest = new SendAsynchronousEventsTasklet(fineractProperties, repository, eventProducer, messageFactory);
     }
 
     private void configureExternalEventsProducerReadBatchSizeProperty(int readBatchSize) {
@@ -104,13 +99,9 @@ class SendAsynchronousEventsTaskletTest {
         // given
         List<ExternalEvent> events = Arrays.asList(new ExternalEvent("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey"),
                 new ExternalEvent("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey"));
-        // Dummy Message
-        MessageV1 dummyMessage = new MessageV1(1, "aSource", "aType", "nocategory", "aCreateDate", "aBusinessDate", "aTenantId",
-                "anidempotencyKey", "aSchema", Mockito.mock(ByteBuffer.class));
 
         when(repository.findByStatusOrderById(Mockito.any(), Mockito.any())).thenReturn(events);
-        when(messageFactory.createMessage(Mockito.any())).thenReturn(dummyMessage);
-        when(byteBufferConverter.convert(Mockito.any(ByteBuffer.class))).thenReturn(new byte[0]);
+        when(messageFactory.createSerializedMessage(Mockito.any())).thenReturn(new byte[0]);
         doNothing().when(eventProducer).sendEvent(Mockito.any());
         // when
         resultStatus = this.underTest.execute(stepContribution, chunkContext);
@@ -125,11 +116,8 @@ class SendAsynchronousEventsTaskletTest {
         // given
         List<ExternalEvent> events = Arrays.asList(new ExternalEvent("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey"),
                 new ExternalEvent("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey"));
-        MessageV1 dummyMessage = new MessageV1(1, "aSource", "aType", "nocategory", "aCreateDate", "aBusinessDate", "aTenantId",
-                "anidempotencyKey", "aSchema", Mockito.mock(ByteBuffer.class));
         when(repository.findByStatusOrderById(Mockito.any(), Mockito.any())).thenReturn(events);
-        when(messageFactory.createMessage(Mockito.any())).thenReturn(dummyMessage);
-        when(byteBufferConverter.convert(Mockito.any(ByteBuffer.class))).thenReturn(new byte[0]);
+        when(messageFactory.createSerializedMessage(Mockito.any())).thenReturn(new byte[0]);
         doThrow(new AcknowledgementTimeoutException("Event Send Exception", new RuntimeException())).when(eventProducer)
                 .sendEvent(Mockito.any());
         // when
@@ -144,16 +132,13 @@ class SendAsynchronousEventsTaskletTest {
         // given
         ArgumentCaptor<ExternalEvent> externalEventArgumentCaptor = ArgumentCaptor.forClass(ExternalEvent.class);
         List<ExternalEvent> events = Arrays.asList(new ExternalEvent("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey"));
-        MessageV1 dummyMessage = new MessageV1(1, "aSource", "aType", "nocategory", "aCreateDate", "aBusinessDate", "aTenantId",
-                "anidempotencyKey", "aSchema", Mockito.mock(ByteBuffer.class));
         when(repository.findByStatusOrderById(Mockito.any(), Mockito.any())).thenReturn(events);
-        when(messageFactory.createMessage(Mockito.any())).thenReturn(dummyMessage);
-        when(byteBufferConverter.convert(Mockito.any(ByteBuffer.class))).thenReturn(new byte[0]);
+        when(messageFactory.createSerializedMessage(Mockito.any())).thenReturn(new byte[0]);
         doNothing().when(eventProducer).sendEvent(Mockito.any());
         // when
         resultStatus = this.underTest.execute(stepContribution, chunkContext);
         // then
-        verify(messageFactory).createMessage(Mockito.any());
+        verify(messageFactory).createSerializedMessage(Mockito.any());
         verify(repository).save(externalEventArgumentCaptor.capture());
         ExternalEvent externalEvent = externalEventArgumentCaptor.getValue();
         assertThat(externalEvent.getStatus()).isEqualTo(ExternalEventStatus.SENT);
@@ -0,0 +1,73 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.fineract.avro.MessageV1;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class MessageFactoryTest {
+
+    private final ByteBufferConverter byteBufferConverter = new ByteBufferConverter();
+    private final MessageFactory underTest = new MessageFactory(byteBufferConverter);
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+    }
+
+    @Test
+    public void testCreateSerializedMessageShouldMatchTheEncodedMessage() throws Exception {
+        // given
+        ExternalEvent smallEvent = event(1L, new byte[] { 1, 2, 3 });
+        ExternalEvent largeEvent = event(100000L, new byte[10000]);
+        // when
+        byte[] smallMessage = underTest.createSerializedMessage(smallEvent);
+        byte[] largeMessage = underTest.createSerializedMessage(largeEvent);
+        // then
+        assertThat(smallMessage).isEqualTo(byteBufferConverter.convert(underTest.createMessage(smallEvent).toByteBuffer()));
+        assertThat(largeMessage).isEqualTo(byteBufferConverter.convert(underTest.createMessage(largeEvent).toByteBuffer()));
+        MessageV1 decoded = MessageV1.fromByteBuffer(ByteBuffer.wrap(smallMessage));
+        assertThat(decoded.getId()).isEqualTo(1);
+        assertThat(decoded.getTenantId().toString()).isEqualTo("default");
+        assertThat(byteBufferConverter.convert(decoded.getData())).isEqualTo(new byte[] { 1, 2, 3 });
+    }
+
+    private ExternalEvent event(Long id, byte[] data) {
+        ExternalEvent event = new ExternalEvent("LoanApprovedBusinessEvent", "Loan", "org.apache.fineract.avro.loan.v1.LoanAccountDataV1",
+                data, "key-" + id);
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service.serialization.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.fineract.avro.generator.ByteBufferSerializable;
+import org.junit.jupiter.api.Test;
+
+class ExternalEventSnapshotCacheTest {
+
+    private final ExternalEventSnapshotCache underTest = new ExternalEventSnapshotCache();
+
+    @Test
+    public void testGetSnapshotShouldBuildSnapshotOncePerEntityWithinScope() {
+        // given
+        AtomicInteger builds = new AtomicInteger();
+        Supplier<ByteBufferSerializable> builder = () -> {
+            builds.incrementAndGet();
+            return mock(ByteBufferSerializable.class);
+        };
+        ByteBufferSerializable first;
+        ByteBufferSerializable second;
+        ByteBufferSerializable otherEntity;
+        // when
+        try (ExternalEventSnapshotCache.Scope ignored = underTest.openScope()) {
+            first = underTest.getSnapshot(String.class, 1L, builder);
+            try (ExternalEventSnapshotCache.Scope nested = underTest.openScope()) {
+                second = underTest.getSnapshot(String.class, 1L, builder);
+            }
+            otherEntity = underTest.getSnapshot(String.class, 2L, builder);
+        }
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(otherEntity).isNotSameAs(first);
+        assertThat(builds).hasValue(2);
+    }
+
+    @Test
+    public void testGetSnapshotShouldBuildSnapshotEveryTimeOutsideScope() {
+        // given
+        AtomicInteger builds = new AtomicInteger();
+        Supplier<ByteBufferSerializable> builder = () -> {
+            builds.incrementAndGet();
+            return mock(ByteBufferSerializable.class);
+        };
+        // when
+        underTest.getSnapshot(String.class, 1L, builder);
+        underTest.getSnapshot(String.class, 1L, builder);
+        // then
+        assertThat(builds).hasValue(2);
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.holiday.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BusinessCalendarTest {
+
+    private static final String MONDAY_TO_FRIDAY = "FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,TU,WE,TH,FR";
+
+    private WorkingDays workingDays;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        workingDays = mock(WorkingDays.class);
+        when(workingDays.getRecurrence()).thenReturn(MONDAY_TO_FRIDAY);
+    }
+
+    @Test
+    public void givenHolidaysWhenClassifyingDatesThenCoveringHolidayIsFound() {
+        // given
+        Holiday newYear = holiday(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 1, 3), LocalDate.of(2022, 1, 4));
+        Holiday summer = holiday(LocalDate.of(2022, 7, 11), LocalDate.of(2022, 7, 15), LocalDate.of(2022, 7, 18));
+        BusinessCalendar underTest = new BusinessCalendar(1L, List.of(newYear, summer), workingDays);
+        // then
+        assertSame(newYear, underTest.getHoliday(LocalDate.of(2022, 1, 2)));
+        assertSame(summer, underTest.getHoliday(LocalDate.of(2022, 7, 15)));
+        assertTrue(underTest.isHoliday(LocalDate.of(2022, 7, 11)));
+        assertFalse(underTest.isHoliday(LocalDate.of(2022, 7, 16)));
+        assertNull(underTest.getHoliday(LocalDate.of(2022, 1, 2), LocalDate.of(2022, 2, 1)));
+        assertEquals(List.of(summer), underTest.getHolidaysFrom(LocalDate.of(2022, 1, 4)));
+        assertEquals(List.of(newYear, summer), underTest.getHolidaysFrom(LocalDate.of(2022, 1, 3)));
+    }
+
+    @Test
+    public void givenWorkingDaysWhenClassifyingSameDateTwiceThenRecurrenceIsEvaluatedOnce() {
+        // given
+        BusinessCalendar underTest = new BusinessCalendar(1L, List.of(), workingDays);
+        LocalDate saturday = LocalDate.of(2022, 1, 8);
+        // then
+        assertTrue(underTest.isWorkingDay(LocalDate.of(2022, 1, 7)));
+        assertTrue(underTest.isNonWorkingDay(saturday));
+        assertTrue(underTest.isNonWorkingDay(saturday));
+        verify(workingDays, times(2)).getRecurrence();
+    }
+
+    private Holiday holiday(LocalDate fromDate, LocalDate toDate, LocalDate repaymentsRescheduledTo) {
+        return new Holiday().setFromDate(fromDate).setToDate(toDate).setRepaymentsRescheduledTo(repaymentsRescheduledTo);
+    }
+}
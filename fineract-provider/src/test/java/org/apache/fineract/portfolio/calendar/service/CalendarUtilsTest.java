@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.calendar.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.fortuna.ical4j.model.Recur;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.calendar.domain.CalendarWeekDaysType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CalendarUtilsTest {
+
+    private static final String WEEKLY_ON_MONDAY = "FREQ=WEEKLY;INTERVAL=1;BYDAY=MO";
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+    }
+
+    @Test
+    public void givenReturnedRecurIsModifiedWhenUsingTheSameRuleThenCompiledRecurIsNotAffected() {
+        // given
+        LocalDate seedDate = LocalDate.of(2022, 1, 3);
+        assertTrue(CalendarUtils.isValidRedurringDate(WEEKLY_ON_MONDAY, seedDate, LocalDate.of(2022, 2, 14)));
+        Recur recur = CalendarUtils.getICalRecur(WEEKLY_ON_MONDAY);
+        // when
+        recur.getDayList().clear();
+        // then
+        assertNotSame(recur, CalendarUtils.getICalRecur(WEEKLY_ON_MONDAY));
+        assertEquals(1, CalendarUtils.getICalRecur(WEEKLY_ON_MONDAY).getDayList().size());
+        assertEquals(CalendarWeekDaysType.MO, CalendarUtils.getRepeatsOnDay(WEEKLY_ON_MONDAY));
+        assertFalse(CalendarUtils.isEveryDayOfWeek(WEEKLY_ON_MONDAY));
+    }
+
+    @Test
+    public void givenSameWindowWhenGetRecurringDatesTwiceThenSameDatesAreReturnedAndCacheIsNotExposed() {
+        // given
+        LocalDate seedDate = LocalDate.of(2022, 1, 3);
+        LocalDate startDate = LocalDate.of(2022, 2, 1);
+        LocalDate endDate = LocalDate.of(2022, 3, 1);
+        // when
+        Collection<LocalDate> first = CalendarUtils.getRecurringDates(WEEKLY_ON_MONDAY, seedDate, startDate, endDate);
+        List<LocalDate> expected = new ArrayList<>(first);
+        first.clear();
+        Collection<LocalDate> second = CalendarUtils.getRecurringDates(WEEKLY_ON_MONDAY, seedDate, startDate, endDate);
+        // then
+        assertEquals(List.of(LocalDate.of(2022, 2, 7), LocalDate.of(2022, 2, 14), LocalDate.of(2022, 2, 21), LocalDate.of(2022, 2, 28)),
+                expected);
+        assertEquals(expected, new ArrayList<>(second));
+        assertTrue(CalendarUtils.isValidRedurringDate(WEEKLY_ON_MONDAY, seedDate, LocalDate.of(2022, 2, 14)));
+        assertFalse(CalendarUtils.isValidRedurringDate(WEEKLY_ON_MONDAY, seedDate, LocalDate.of(2022, 2, 15)));
+    }
+}
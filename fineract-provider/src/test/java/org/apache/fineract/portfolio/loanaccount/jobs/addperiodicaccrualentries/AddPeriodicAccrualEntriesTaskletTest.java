@@ -0,0 +1,132 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualPlatformService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+@ExtendWith(MockitoExtension.class)
+public class AddPeriodicAccrualEntriesTaskletTest {
+
+    private static final LocalDate TODAY = LocalDate.now(ZoneId.systemDefault());
+
+    @Mock
+    private LoanAccrualPlatformService loanAccrualPlatformService;
+    @Mock
+    private LoanReadPlatformService loanReadPlatformService;
+    @Mock
+    private PropertyService propertyService;
+    @Mock
+    private StepContribution stepContribution;
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChunkContext chunkContext;
+    private ExecutionContext executionContext;
+    private AddPeriodicAccrualEntriesTasklet underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, TODAY)));
+        executionContext = new ExecutionContext();
+        when(chunkContext.getStepContext().getStepExecution().getExecutionContext()).thenReturn(executionContext);
+        when(propertyService.getPartitionSize(JobName.ADD_PERIODIC_ACCRUAL_ENTRIES.name())).thenReturn(2);
+        underTest = new AddPeriodicAccrualEntriesTasklet(loanAccrualPlatformService, loanReadPlatformService, propertyService);
+    }
+
+    @Test
+    public void givenPageOfLoansWhenExecuteThenCursorIsStoredAndStepContinues() throws Exception {
+        // given
+        executionContext.putLong("lastLoanId", 5L);
+        when(loanReadPlatformService.retrieveLoanIdsForPeriodicAccrual(TODAY, 5L, 2)).thenReturn(List.of(7L, 9L));
+        // when
+        RepeatStatus status = underTest.execute(stepContribution, chunkContext);
+        // then
+        assertEquals(RepeatStatus.CONTINUABLE, status);
+        verify(loanAccrualPlatformService).addPeriodicAccrualsForLoans(TODAY, List.of(7L, 9L));
+        assertEquals(9L, executionContext.getLong("lastLoanId"));
+    }
+
+    @Test
+    public void givenNoMoreLoansWhenExecuteThenStepFinishes() throws Exception {
+        // given
+        when(loanReadPlatformService.retrieveLoanIdsForPeriodicAccrual(TODAY, 0L, 2)).thenReturn(List.of());
+        // when
+        RepeatStatus status = underTest.execute(stepContribution, chunkContext);
+        // then
+        assertEquals(RepeatStatus.FINISHED, status);
+    }
+
+    @Test
+    public void givenFailedLoansWhenAllPagesProcessedThenTheyAreRetriedAndStepFailsIfStillFailing() throws Exception {
+        // given
+        when(loanReadPlatformService.retrieveLoanIdsForPeriodicAccrual(TODAY, 0L, 2)).thenReturn(List.of(1L, 2L));
+        when(loanReadPlatformService.retrieveLoanIdsForPeriodicAccrual(TODAY, 2L, 2)).thenReturn(List.of());
+        when(loanAccrualPlatformService.addPeriodicAccrualsForLoans(TODAY, List.of(1L, 2L))).thenReturn(List.of(1L));
+        when(loanAccrualPlatformService.addPeriodicAccrualsForLoans(TODAY, List.of(1L))).thenReturn(List.of(1L));
+        // when
+        RepeatStatus status = underTest.execute(stepContribution, chunkContext);
+        // then
+        assertEquals(RepeatStatus.CONTINUABLE, status);
+        assertEquals("1", executionContext.getString("failedLoanIds"));
+        assertThrows(JobExecutionException.class, () -> underTest.execute(stepContribution, chunkContext));
+        verify(loanAccrualPlatformService).addPeriodicAccrualsForLoans(TODAY, List.of(1L));
+        assertEquals("1", executionContext.getString("failedLoanIds"));
+    }
+
+    @Test
+    public void givenRestartWithFailedLoansWhenRetrySucceedsThenStepFinishes() throws Exception {
+        // given
+        executionContext.putString("tillDate", TODAY.toString());
+        executionContext.putLong("lastLoanId", 9L);
+        executionContext.putString("failedLoanIds", "3,7");
+        when(loanReadPlatformService.retrieveLoanIdsForPeriodicAccrual(TODAY, 9L, 2)).thenReturn(List.of());
+        when(loanAccrualPlatformService.addPeriodicAccrualsForLoans(TODAY, List.of(3L, 7L))).thenReturn(List.of());
+        // when
+        RepeatStatus status = underTest.execute(stepContribution, chunkContext);
+        // then
+        assertEquals(RepeatStatus.FINISHED, status);
+        assertEquals("", executionContext.getString("failedLoanIds"));
+    }
+}
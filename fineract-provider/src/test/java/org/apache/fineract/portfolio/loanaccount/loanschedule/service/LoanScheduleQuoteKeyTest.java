@@ -0,0 +1,68 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.loanschedule.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.api.JsonQuery;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LoanScheduleQuoteKeyTest {
+
+    private final FromJsonHelper fromJsonHelper = new FromJsonHelper();
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+    }
+
+    @Test
+    public void givenSameTermsInDifferentOrderWhenBuildingKeyThenKeysAreEqual() {
+        // given
+        JsonQuery first = query("{\"productId\":1,\"principal\":1000,\"charges\":[{\"chargeId\":2,\"amount\":5}]}");
+        JsonQuery second = query("{ \"charges\":[{\"amount\":5,\"chargeId\":2}], \"principal\":1000, \"productId\":1 }");
+        // then
+        assertEquals(LoanScheduleQuoteKey.of(first), LoanScheduleQuoteKey.of(second));
+    }
+
+    @Test
+    public void givenDifferentTermsWhenBuildingKeyThenKeysDiffer() {
+        // given
+        JsonQuery first = query("{\"productId\":1,\"principal\":1000}");
+        JsonQuery second = query("{\"productId\":1,\"principal\":2000}");
+        // then
+        assertNotEquals(LoanScheduleQuoteKey.of(first), LoanScheduleQuoteKey.of(second));
+    }
+
+    private JsonQuery query(String json) {
+        return JsonQuery.from(json, fromJsonHelper.parse(json), fromJsonHelper);
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleAccrualData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+public class LoanAccrualPlatformServiceImplTest {
+
+    private static final LocalDate TODAY = LocalDate.now(ZoneId.systemDefault());
+    private static final String JOB_NAME = JobName.ADD_PERIODIC_ACCRUAL_ENTRIES.name();
+
+    @Mock
+    private LoanReadPlatformService loanReadPlatformService;
+    @Mock
+    private LoanAccrualWritePlatformService loanAccrualWritePlatformService;
+    @Mock
+    private PropertyService propertyService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private LoanAccrualPlatformServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, TODAY)));
+        underTest = new LoanAccrualPlatformServiceImpl(loanReadPlatformService, loanAccrualWritePlatformService, propertyService,
+                transactionManager);
+    }
+
+    @Test
+    public void givenFailingLoanWhenAddingAccrualsForLoansThenOnlyItsTransactionIsRolledBack() throws Exception {
+        // given
+        LoanScheduleAccrualData first = accrualData(1L);
+        LoanScheduleAccrualData second = accrualData(2L);
+        when(loanReadPlatformService.retrievePeriodicAccrualData(TODAY, List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(propertyService.getThreadCount(JOB_NAME)).thenReturn(1);
+        when(propertyService.getChunkSize(JOB_NAME)).thenReturn(100);
+        SimpleTransactionStatus firstStatus = new SimpleTransactionStatus();
+        SimpleTransactionStatus secondStatus = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(firstStatus, secondStatus);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, SimpleTransactionStatus.class).setCompleted();
+            return null;
+        }).when(transactionManager).commit(any());
+        doThrow(new IllegalStateException("fail")).when(loanAccrualWritePlatformService).addPeriodicAccruals(eq(TODAY), eq(1L),
+                anyCollection());
+        // when
+        List<Long> failedLoanIds = underTest.addPeriodicAccrualsForLoans(TODAY, List.of(1L, 2L));
+        // then
+        assertEquals(List.of(1L), failedLoanIds);
+        verify(transactionManager, times(2)).getTransaction(any(TransactionDefinition.class));
+        verify(transactionManager).rollback(firstStatus);
+        verify(transactionManager).commit(secondStatus);
+        verify(loanAccrualWritePlatformService).addPeriodicAccruals(TODAY, 2L, List.of(second));
+    }
+
+    private LoanScheduleAccrualData accrualData(Long loanId) {
+        LoanScheduleAccrualData accrualData = mock(LoanScheduleAccrualData.class);
+        when(accrualData.getLoanId()).thenReturn(loanId);
+        return accrualData;
+    }
+}
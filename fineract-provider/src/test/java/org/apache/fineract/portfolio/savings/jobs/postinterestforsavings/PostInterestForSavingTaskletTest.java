@@ -0,0 +1,129 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import static org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType.ACTIVE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.apache.fineract.portfolio.savings.service.SavingsSchedularInterestPoster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.ApplicationContext;
+
+@ExtendWith(MockitoExtension.class)
+public class PostInterestForSavingTaskletTest {
+
+    @Mock
+    private SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private ApplicationContext applicationContext;
+    @Mock
+    private StepContribution stepContribution;
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChunkContext chunkContext;
+    private final List<SavingsSchedularInterestPoster> posters = new ArrayList<>();
+    private PostInterestForSavingTasklet underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        when(chunkContext.getStepContext().getJobParameters())
+                .thenReturn(Map.<String, Object>of("thread-pool-size", "2", "batch-size", "2"));
+        when(configurationDomainService.retrievePivotDateConfig()).thenReturn(true);
+        underTest = new PostInterestForSavingTasklet(savingsAccountReadPlatformService, configurationDomainService, applicationContext);
+    }
+
+    @Test
+    public void givenStreamedAccountsWhenExecuteThenTheyArePostedInBatches() throws Exception {
+        // given
+        List<SavingsAccountData> accounts = List.of(account(1L), account(2L), account(3L), account(4L), account(5L));
+        streamAccounts(accounts);
+        when(applicationContext.getBean(SavingsSchedularInterestPoster.class)).thenAnswer(invocation -> {
+            SavingsSchedularInterestPoster poster = mock(SavingsSchedularInterestPoster.class);
+            posters.add(poster);
+            return poster;
+        });
+        // when
+        RepeatStatus resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+        assertEquals(3, posters.size());
+        verify(posters.get(0)).setSavingAccounts(List.of(accounts.get(0), accounts.get(1)));
+        verify(posters.get(1)).setSavingAccounts(List.of(accounts.get(2), accounts.get(3)));
+        verify(posters.get(2)).setSavingAccounts(List.of(accounts.get(4)));
+        for (SavingsSchedularInterestPoster poster : posters) {
+            verify(poster).setBackdatedTxnsAllowedTill(true);
+            verify(poster).call();
+        }
+    }
+
+    @Test
+    public void givenNoAccountsWhenExecuteThenNothingIsPosted() throws Exception {
+        // given
+        streamAccounts(List.of());
+        // when
+        RepeatStatus resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+        verifyNoInteractions(applicationContext);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamAccounts(List<SavingsAccountData> accounts) {
+        doAnswer(invocation -> {
+            accounts.forEach(invocation.getArgument(2, Consumer.class));
+            return null;
+        }).when(savingsAccountReadPlatformService).streamAllSavingsDataForInterestPosting(eq(true), eq(ACTIVE.getValue()), any());
+    }
+
+    private SavingsAccountData account(Long id) {
+        return SavingsAccountData.lookup(id, "00000000" + id, null);
+    }
+}
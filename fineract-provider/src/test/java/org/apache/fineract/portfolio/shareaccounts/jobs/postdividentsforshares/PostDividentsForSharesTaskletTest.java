@@ -0,0 +1,109 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.shareaccounts.jobs.postdividentsforshares;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractShareDividendPostingProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.portfolio.shareaccounts.service.ShareAccountDividendReadPlatformService;
+import org.apache.fineract.portfolio.shareaccounts.service.ShareAccountSchedularService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+@ExtendWith(MockitoExtension.class)
+public class PostDividentsForSharesTaskletTest {
+
+    @Mock
+    private ShareAccountDividendReadPlatformService readPlatformService;
+    @Mock
+    private ShareAccountSchedularService schedularService;
+    @Mock
+    private StepContribution stepContribution;
+    @Mock
+    private ChunkContext chunkContext;
+    private PostDividentsForSharesTasklet underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        FineractShareDividendPostingProperties postingProperties = new FineractShareDividendPostingProperties();
+        postingProperties.setChunkSize(3);
+        postingProperties.setThreadCount(2);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setShareDividendPosting(postingProperties);
+        underTest = new PostDividentsForSharesTasklet(readPlatformService, schedularService, fineractProperties);
+    }
+
+    @Test
+    public void givenDividendsInTwoChunksWhenExecuteThenDividendsArePostedPerSavingsAccount() throws Exception {
+        // given
+        when(readPlatformService.retriveDividendDetailsForPostDividents(0L, 3))
+                .thenReturn(List.of(dividend(1L, 10L), dividend(2L, 20L), dividend(3L, 10L)));
+        when(readPlatformService.retriveDividendDetailsForPostDividents(3L, 3)).thenReturn(List.of(dividend(4L, 30L)));
+        // when
+        RepeatStatus resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+        verify(schedularService).postDividends(10L, List.of(1L, 3L));
+        verify(schedularService).postDividend(2L, 20L);
+        verify(schedularService).postDividend(4L, 30L);
+    }
+
+    @Test
+    public void givenFailingSavingsAccountWhenExecuteThenItsDividendsArePostedOneByOne() {
+        // given
+        when(readPlatformService.retriveDividendDetailsForPostDividents(0L, 3)).thenReturn(List.of(dividend(1L, 10L), dividend(2L, 10L)));
+        doThrow(new IllegalStateException("failed")).when(schedularService).postDividends(10L, List.of(1L, 2L));
+        doThrow(new IllegalStateException("failed")).when(schedularService).postDividend(2L, 10L);
+        // when
+        JobExecutionException exception = assertThrows(JobExecutionException.class,
+                () -> underTest.execute(stepContribution, chunkContext));
+        // then
+        verify(schedularService).postDividend(1L, 10L);
+        verify(readPlatformService, never()).retriveDividendDetailsForPostDividents(2L, 3);
+        assertEquals(1, exception.getCauses().size());
+    }
+
+    private Map<String, Object> dividend(Long id, Long savingsAccountId) {
+        return Map.of("id", id, "savingsAccountId", savingsAccountId);
+    }
+}